@@ -33,6 +33,10 @@ android {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
+    testOptions {
+        // Os testes locais usam o repositório contra o servidor local; android.util.Log vira no-op.
+        unitTests.isReturnDefaultValues = true
+    }
 }
 
 dependencies {
@@ -2,6 +2,8 @@ package com.example.cadastrarEstudanteMVVM.model;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import com.google.gson.annotations.Expose;
 import com.google.gson.annotations.SerializedName;
 
@@ -25,11 +27,26 @@ public class Estudante implements Serializable {
     @SerializedName("notas")
     // Nome da chave Json
     @Expose // Este campo deve ser incluído no documento
-    private List<Double> notas;
+    private ListaNotas notas;
     // Nome da chave Json
     @SerializedName("presenca")
     @Expose // Este campo deve ser incluído no documento
-    private List<Boolean> presenca;
+    private ListaPresenca presenca;
+
+    // Média, presença e situação já calculadas (null = calcular de novo). Descartadas sempre que as
+    // notas ou presenças mudam. O objeto é imutável e publicado por um campo volatile, então pode ser
+    // lido pelas threads de atualização sem sincronização.
+    private transient volatile Metricas metricas;
+
+    // Versão das notas/presenças, incrementada a cada alteração. Impede que um cálculo feito durante
+    // uma alteração seja guardado como se estivesse atualizado. O incremento é atômico (VERSAO), para
+    // duas alterações simultâneas não resultarem na mesma versão.
+    private transient volatile int versao;
+
+    // Incremento atômico de "versao" sem um objeto a mais por estudante (e sem depender de inicialização,
+    // que a desserialização pula nos campos transient).
+    private static final AtomicIntegerFieldUpdater<Estudante> VERSAO =
+            AtomicIntegerFieldUpdater.newUpdater(Estudante.class, "versao");
 
     // Construtores
     public Estudante() {
@@ -47,8 +64,8 @@ public class Estudante implements Serializable {
         this.id = id;
         this.nome = nome;
         this.idade = idade;
-        this.notas = notas;
-        this.presenca = presenca;
+        setNotas(notas);
+        setPresenca(presenca);
     }
 
     public Estudante(String nome, int idade) {
@@ -88,58 +105,117 @@ public class Estudante implements Serializable {
         return notas;
     }
 
+    // As notas são guardadas em um double[] (uma ListaNotas ainda sem estudante é usada diretamente,
+    // qualquer outra lista é copiada); alterações feitas depois pela lista de getNotas() são acompanhadas.
     public void setNotas(List<Double> notas) {
-        this.notas = notas;
+        this.notas = adotar(notas instanceof ListaNotas && ((ListaNotas) notas).semDono()
+                ? (ListaNotas) notas : notas != null ? new ListaNotas(notas) : null);
+        invalidarMetricas();
     }
 
     public List<Boolean> getPresenca() {
         return presenca;
     }
 
+    // As presenças são guardadas em bits (uma ListaPresenca ainda sem estudante é usada diretamente,
+    // qualquer outra lista é copiada); alterações feitas depois pela lista de getPresenca() são acompanhadas.
     public void setPresenca(List<Boolean> presenca) {
-        this.presenca = presenca;
+        this.presenca = adotar(presenca instanceof ListaPresenca && ((ListaPresenca) presenca).semDono()
+                ? (ListaPresenca) presenca : presenca != null ? new ListaPresenca(presenca) : null);
+        invalidarMetricas();
     }
 
-    // Método para calcular a média das notas do estudante
+    // Faz a lista avisar este estudante a cada alteração.
+    private <L extends ListaPrimitiva<?>> L adotar(L lista) {
+        if (lista != null) lista.setDono(this);
+        return lista;
+    }
+
+    // Descarta a média, a presença e a situação calculadas (chamado quando notas ou presenças mudam).
+    void invalidarMetricas() {
+        VERSAO.incrementAndGet(this);
+        metricas = null;
+    }
+
+    // Retorna as métricas calculadas, calculando-as se necessário.
+    private Metricas getMetricas() {
+        Metricas atual = metricas;
+        int versaoAtual = versao;
+        if (atual != null && atual.versao == versaoAtual) return atual;
+
+        atual = new Metricas(versaoAtual, calcularMediaDasNotas(), calcularPresencaDaLista());
+        metricas = atual;
+        return atual;
+    }
+
+    // Método que retorna a média das notas do estudante (calculada uma vez até as notas mudarem)
     public double calcularMedia() {
-        // Se a lista de notas for nula ou vazia, retorna 0
-        if (notas == null || notas.isEmpty()) return 0;
+        return getMetricas().media;
+    }
 
-        // Variável para somar as notas
-        double soma = 0;
+    // Método que retorna o percentual de presença do estudante (calculado uma vez até as presenças mudarem)
+    public double calcularPercentualPresenca() {
+        return getMetricas().presenca;
+    }
 
-        // Percorre cada nota e adiciona ao total
-        for (Double nota : notas) {
-            soma += nota;
-        }
+    // Método que retorna a situação do estudante (Aprovado ou Reprovado)
+    public String verificarSituacao() {
+        return getMetricas().situacao;
+    }
+
+    // Método para calcular a média das notas do estudante
+    private double calcularMediaDasNotas() {
+        // Se a lista de notas for nula ou vazia, retorna 0
+        if (notas == null || notas.isEmpty()) return 0;
 
-        // Retorna a média das notas
-        return soma / notas.size();
+        // Retorna a média das notas (somadas direto no double[], na ordem da lista)
+        return notas.somar() / notas.size();
     }
 
     // Método para calcular o percentual de presença do estudante
-    public double calcularPercentualPresenca() {
+    private double calcularPresencaDaLista() {
         // Se a lista de presenças for nula ou vazia, retorna 0
         if (presenca == null || presenca.isEmpty()) return 0;
 
-        // Conta quantas presenças o estudante teve
-        int presentes = 0;
-
-        // Percorre a lista de presenças e conta quantos "true" (presença) existem
-        for (Boolean presente : presenca) {
-            if (presente) presentes++;
-        }
+        // Conta quantas presenças o estudante teve (bits em 1, 64 aulas por vez)
+        int presentes = presenca.contarPresencas();
 
         // Retorna o percentual de presença (número de presenças dividido pelo total de aulas)
         return (presentes * 100.0) / presenca.size();
     }
 
-    // Método para verificar a situação do estudante (Aprovado ou Reprovado)
-    public String verificarSituacao() {
-        double media = calcularMedia();
-        double presencaPercentual = calcularPercentualPresenca();
-        // O estudante é aprovado se a média for maior ou igual a 7 e a presença for maior ou igual a 75%
-        return (media >= 7 && presencaPercentual >= 75) ? "Aprovado" : "Reprovado";
+    // Valores derivados das notas e presenças, calculados juntos.
+    private static final class Metricas {
+        final int versao;
+        final double media;
+        final double presenca;
+        final String situacao;
+
+        Metricas(int versao, double media, double presenca) {
+            this.versao = versao;
+            this.media = media;
+            this.presenca = presenca;
+            // O estudante é aprovado se a média for maior ou igual a 7 e a presença for maior ou igual a 75%
+            this.situacao = (media >= 7 && presenca >= 75) ? "Aprovado" : "Reprovado";
+        }
+    }
+
+    // Dois estudantes são iguais quando todos os campos do JSON são iguais.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Estudante)) return false;
+        Estudante outro = (Estudante) o;
+        return id == outro.id &&
+                idade == outro.idade &&
+                Objects.equals(nome, outro.nome) &&
+                Objects.equals(notas, outro.notas) &&
+                Objects.equals(presenca, outro.presenca);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, nome, idade, notas, presenca);
     }
 
     @Override
@@ -0,0 +1,106 @@
+package com.example.cadastrarEstudanteMVVM.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// Lista de notas guardada em um array double[] que cresce conforme necessário (8 bytes por nota, em
+// vez de uma referência mais um objeto Double). Continua sendo uma List<Double> para os layouts e o
+// restante do código; getNota/adicionarNota evitam criar objetos Double no caminho do JSON.
+public class ListaNotas extends ListaPrimitiva<Double> {
+
+    // Capacidade inicial de uma lista vazia.
+    private static final int CAPACIDADE_INICIAL = 8;
+
+    // Notas (somente as "tamanho" primeiras posições são válidas).
+    private double[] notas;
+
+    // Construtor de uma lista vazia.
+    public ListaNotas() {
+        notas = new double[CAPACIDADE_INICIAL];
+    }
+
+    // Construtor que copia as notas da coleção.
+    public ListaNotas(Collection<? extends Double> origem) {
+        notas = new double[Math.max(origem.size(), 1)];
+        for (Double nota : origem) {
+            notas[tamanho++] = nota;
+        }
+    }
+
+    // Retorna a nota na posição, sem criar um Double.
+    public double getNota(int index) {
+        verificarIndice(index);
+        return notas[index];
+    }
+
+    // Acrescenta uma nota no final, sem criar um Double.
+    public void adicionarNota(double nota) {
+        garantirCapacidade(tamanho + 1);
+        notas[tamanho++] = nota;
+        alteradaEstrutura();
+    }
+
+    // Copia as notas para o array de destino, a partir da posição indicada.
+    public void copiarPara(double[] destino, int posicao) {
+        System.arraycopy(notas, 0, destino, posicao, tamanho);
+    }
+
+    // Soma das notas, na ordem da lista.
+    double somar() {
+        double soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            soma += notas[i];
+        }
+        return soma;
+    }
+
+    @Override
+    public Double get(int index) {
+        return getNota(index);
+    }
+
+    @Override
+    public Double set(int index, Double nota) {
+        verificarIndice(index);
+        double anterior = notas[index];
+        notas[index] = nota;
+        alterada();
+        return anterior;
+    }
+
+    @Override
+    public void add(int index, Double nota) {
+        verificarIndiceInsercao(index);
+        double valor = nota; // Nota nula não é aceita (NullPointerException), como antes no cálculo da média.
+        garantirCapacidade(tamanho + 1);
+        System.arraycopy(notas, index, notas, index + 1, tamanho - index);
+        notas[index] = valor;
+        tamanho++;
+        alteradaEstrutura();
+    }
+
+    @Override
+    public Double remove(int index) {
+        verificarIndice(index);
+        double removida = notas[index];
+        System.arraycopy(notas, index + 1, notas, index, tamanho - index - 1);
+        tamanho--;
+        alteradaEstrutura();
+        return removida;
+    }
+
+    // Usado por clear() e subList().clear(): remove o intervalo de uma vez.
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        System.arraycopy(notas, toIndex, notas, fromIndex, tamanho - toIndex);
+        tamanho -= toIndex - fromIndex;
+        alteradaEstrutura();
+    }
+
+    // Aumenta o array em 50% quando não há espaço.
+    private void garantirCapacidade(int capacidade) {
+        if (capacidade > notas.length) {
+            notas = Arrays.copyOf(notas, Math.max(capacidade, notas.length + (notas.length >> 1)));
+        }
+    }
+}
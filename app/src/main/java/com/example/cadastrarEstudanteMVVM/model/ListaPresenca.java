@@ -0,0 +1,135 @@
+package com.example.cadastrarEstudanteMVVM.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// Lista de presenças guardada como um conjunto de bits (1 bit por aula, em vez de uma referência a
+// Boolean). O total de presenças é contado por popcount (Long.bitCount), 64 aulas por vez. Continua
+// sendo uma List<Boolean> para os layouts e o restante do código.
+public class ListaPresenca extends ListaPrimitiva<Boolean> {
+
+    // Bits por palavra do array.
+    private static final int BITS = 64;
+
+    // Presenças (bit 1 = presente). Bits além de "tamanho" ficam sempre em 0.
+    private long[] bits;
+
+    // Construtor de uma lista vazia.
+    public ListaPresenca() {
+        bits = new long[1];
+    }
+
+    // Construtor que copia as presenças da coleção.
+    public ListaPresenca(Collection<? extends Boolean> origem) {
+        bits = new long[Math.max(palavras(origem.size()), 1)];
+        for (Boolean presente : origem) {
+            if (presente) bits[tamanho >>> 6] |= 1L << tamanho;
+            tamanho++;
+        }
+    }
+
+    // Retorna a presença na posição, sem usar Boolean.
+    public boolean isPresente(int index) {
+        verificarIndice(index);
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // Acrescenta uma presença (true) ou falta (false) no final.
+    public void adicionarPresenca(boolean presente) {
+        garantirCapacidade(tamanho + 1);
+        if (presente) bits[tamanho >>> 6] |= 1L << tamanho;
+        tamanho++;
+        alteradaEstrutura();
+    }
+
+    // Quantidade de presenças (bits em 1).
+    public int contarPresencas() {
+        int total = 0;
+        for (int i = 0, n = palavras(tamanho); i < n; i++) {
+            total += Long.bitCount(bits[i]);
+        }
+        return total;
+    }
+
+    // Quantidade de palavras de 64 bits ocupadas pelas presenças.
+    public int getQuantidadePalavras() {
+        return palavras(tamanho);
+    }
+
+    // Copia as palavras de bits (getQuantidadePalavras()) para o array de destino, a partir da posição indicada.
+    public void copiarPara(long[] destino, int posicao) {
+        System.arraycopy(bits, 0, destino, posicao, palavras(tamanho));
+    }
+
+    @Override
+    public Boolean get(int index) {
+        return isPresente(index);
+    }
+
+    @Override
+    public Boolean set(int index, Boolean presente) {
+        boolean anterior = isPresente(index);
+        gravar(index, presente);
+        alterada();
+        return anterior;
+    }
+
+    @Override
+    public void add(int index, Boolean presente) {
+        verificarIndiceInsercao(index);
+        boolean valor = presente; // Presença nula não é aceita (NullPointerException).
+        garantirCapacidade(tamanho + 1);
+        // Desloca uma posição para a direita os bits a partir do índice (raro: normalmente é no final).
+        for (int i = tamanho; i > index; i--) {
+            gravar(i, (bits[(i - 1) >>> 6] & (1L << (i - 1))) != 0);
+        }
+        gravar(index, valor);
+        tamanho++;
+        alteradaEstrutura();
+    }
+
+    @Override
+    public Boolean remove(int index) {
+        boolean removido = isPresente(index);
+        for (int i = index; i < tamanho - 1; i++) {
+            gravar(i, (bits[(i + 1) >>> 6] & (1L << (i + 1))) != 0);
+        }
+        tamanho--;
+        gravar(tamanho, false);
+        alteradaEstrutura();
+        return removido;
+    }
+
+    // Usado por clear() e subList().clear(): remove o intervalo de uma vez.
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int removidos = toIndex - fromIndex;
+        for (int i = fromIndex; i + removidos < tamanho; i++) {
+            gravar(i, (bits[(i + removidos) >>> 6] & (1L << (i + removidos))) != 0);
+        }
+        for (int i = tamanho - removidos; i < tamanho; i++) {
+            gravar(i, false);
+        }
+        tamanho -= removidos;
+        alteradaEstrutura();
+    }
+
+    // Grava o bit da posição.
+    private void gravar(int index, boolean presente) {
+        if (presente) bits[index >>> 6] |= 1L << index;
+        else bits[index >>> 6] &= ~(1L << index);
+    }
+
+    // Aumenta o array de bits quando não há espaço (dobrando, no mínimo uma palavra a mais).
+    private void garantirCapacidade(int capacidade) {
+        int necessarias = palavras(capacidade);
+        if (necessarias > bits.length) {
+            bits = Arrays.copyOf(bits, Math.max(necessarias, bits.length * 2));
+        }
+    }
+
+    // Quantidade de palavras de 64 bits para guardar "quantidade" presenças.
+    private static int palavras(int quantidade) {
+        return (quantidade + BITS - 1) / BITS;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.cadastrarEstudanteMVVM.model;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// Base das listas de notas e de presenças do Estudante, guardadas em arrays primitivos em vez de
+// objetos Double/Boolean. Qualquer alteração avisa o estudante dono, que descarta a média, a presença
+// e a situação já calculadas.
+abstract class ListaPrimitiva<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+    // Estudante avisado a cada alteração (null enquanto a lista não pertence a nenhum estudante).
+    private Estudante dono;
+
+    // Quantidade de elementos.
+    int tamanho;
+
+    @Override
+    public int size() {
+        return tamanho;
+    }
+
+    // Indica se a lista ainda não pertence a nenhum estudante.
+    boolean semDono() {
+        return dono == null;
+    }
+
+    // Passa a avisar o estudante a cada alteração.
+    void setDono(Estudante dono) {
+        this.dono = dono;
+    }
+
+    // Chamado após alterar um elemento.
+    void alterada() {
+        if (dono != null) dono.invalidarMetricas();
+    }
+
+    // Chamado após incluir ou remover elementos.
+    void alteradaEstrutura() {
+        modCount++;
+        alterada();
+    }
+
+    // Verifica se o índice está dentro da lista.
+    void verificarIndice(int index) {
+        if (index < 0 || index >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho: " + tamanho);
+        }
+    }
+
+    // Verifica se o índice é uma posição válida de inserção.
+    void verificarIndiceInsercao(int index) {
+        if (index < 0 || index > tamanho) {
+            throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho: " + tamanho);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import java.util.Arrays;
+
+// Acumulador de distribuição em uma passada e com memória fixa, não importa quantos valores receba.
+// Guarda a quantidade, a média e a soma dos quadrados dos desvios (algoritmo de Welford, estável
+// numericamente), o mínimo, o máximo e um histograma de classes fixas no intervalo [minimo, maximo].
+// Os percentis são estimados pelo histograma (erro de no máximo uma classe, interpolando dentro dela),
+// sem ordenar os valores. Dois acumuladores do mesmo intervalo podem ser juntados (ex.: um por bloco
+// no cálculo em paralelo). Um valor acrescentado antes também pode ser retirado (ex.: a média antiga de
+// um estudante que recebeu nota); depois de retirar o menor ou o maior valor, o novo menor/maior é
+// estimado pela borda da primeira/última classe ocupada (a mesma precisão dos percentis).
+public class AcumuladorDistribuicao {
+
+    // Intervalo coberto pelo histograma (valores fora dele contam na primeira/última classe).
+    private final double minimo;
+    private final double maximo;
+
+    // Contagem por classe.
+    private final long[] classes;
+
+    // Quantidade de valores, média e soma dos quadrados dos desvios em relação à média.
+    private long quantidade;
+    private double media;
+    private double m2;
+
+    // Menor e maior valor recebidos.
+    private double menor = Double.NaN;
+    private double maior = Double.NaN;
+
+    // Construtor
+    public AcumuladorDistribuicao(double minimo, double maximo, int quantidadeClasses) {
+        if (!(maximo > minimo) || quantidadeClasses <= 0) {
+            throw new IllegalArgumentException("Intervalo ou quantidade de classes inválida");
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.classes = new long[quantidadeClasses];
+    }
+
+    // Acumulador para médias de notas (0 a 10, classes de 0,05).
+    public static AcumuladorDistribuicao paraNotas() {
+        return new AcumuladorDistribuicao(0, 10, 200);
+    }
+
+    // Acumulador para percentuais de presença (0 a 100%, classes de 0,5%).
+    public static AcumuladorDistribuicao paraPresenca() {
+        return new AcumuladorDistribuicao(0, 100, 200);
+    }
+
+    // Acrescenta um valor.
+    public void adicionar(double valor) {
+        quantidade++;
+        double desvio = valor - media;
+        media += desvio / quantidade;
+        m2 += desvio * (valor - media);
+
+        if (quantidade == 1 || valor < menor) menor = valor;
+        if (quantidade == 1 || valor > maior) maior = valor;
+        classes[classe(valor)]++;
+    }
+
+    // Retira um valor acrescentado antes (Welford ao contrário).
+    public void remover(double valor) {
+        if (quantidade <= 1) {
+            limpar();
+            return;
+        }
+        double mediaAnterior = media;
+        quantidade--;
+        media = (mediaAnterior * (quantidade + 1) - valor) / quantidade;
+        m2 = Math.max(0, m2 - (valor - mediaAnterior) * (valor - media));
+
+        int classe = classe(valor);
+        if (classes[classe] > 0) classes[classe]--;
+        double largura = (maximo - minimo) / classes.length;
+        if (valor <= menor) {
+            int primeira = 0;
+            while (classes[primeira] == 0) primeira++;
+            menor = Math.max(menor, minimo + largura * primeira);
+        }
+        if (valor >= maior) {
+            int ultima = classes.length - 1;
+            while (classes[ultima] == 0) ultima--;
+            maior = Math.min(maior, minimo + largura * (ultima + 1));
+        }
+    }
+
+    // Esvazia o acumulador.
+    public void limpar() {
+        quantidade = 0;
+        media = 0;
+        m2 = 0;
+        menor = Double.NaN;
+        maior = Double.NaN;
+        Arrays.fill(classes, 0);
+    }
+
+    // Cópia independente (ex.: para publicar o estado atual enquanto o original continua mudando).
+    public AcumuladorDistribuicao copiar() {
+        AcumuladorDistribuicao copia = new AcumuladorDistribuicao(minimo, maximo, classes.length);
+        copia.juntar(this);
+        return copia;
+    }
+
+    // Junta os valores de outro acumulador do mesmo intervalo a este (fórmula de Chan et al.).
+    public void juntar(AcumuladorDistribuicao outro) {
+        if (outro.minimo != minimo || outro.maximo != maximo || outro.classes.length != classes.length) {
+            throw new IllegalArgumentException("Acumuladores com intervalos diferentes");
+        }
+        if (outro.quantidade == 0) return;
+        if (quantidade == 0) {
+            quantidade = outro.quantidade;
+            media = outro.media;
+            m2 = outro.m2;
+            menor = outro.menor;
+            maior = outro.maior;
+        } else {
+            long total = quantidade + outro.quantidade;
+            double desvio = outro.media - media;
+            media += desvio * outro.quantidade / total;
+            m2 += outro.m2 + desvio * desvio * ((double) quantidade * outro.quantidade / total);
+            quantidade = total;
+            menor = Math.min(menor, outro.menor);
+            maior = Math.max(maior, outro.maior);
+        }
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] += outro.classes[i];
+        }
+    }
+
+    // Classe do histograma onde o valor cai.
+    private int classe(double valor) {
+        int classe = (int) ((valor - minimo) * classes.length / (maximo - minimo));
+        return Math.max(0, Math.min(classes.length - 1, classe));
+    }
+
+    // Getters
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public double getMedia() {
+        return quantidade > 0 ? media : 0;
+    }
+
+    public double getMenor() {
+        return menor;
+    }
+
+    public double getMaior() {
+        return maior;
+    }
+
+    // Variância populacional (0 com menos de dois valores).
+    public double getVariancia() {
+        return quantidade > 1 ? m2 / quantidade : 0;
+    }
+
+    public double getDesvioPadrao() {
+        return Math.sqrt(getVariancia());
+    }
+
+    // Estima o percentil (0 a 100) pelo histograma, interpolando dentro da classe e limitado ao
+    // menor/maior valor recebido. Retorna NaN se não houver valores.
+    public double getPercentil(double percentil) {
+        if (quantidade == 0) return Double.NaN;
+        double alvo = Math.max(0, Math.min(100, percentil)) / 100.0 * quantidade;
+        double largura = (maximo - minimo) / classes.length;
+        long acumulado = 0;
+        for (int i = 0; i < classes.length; i++) {
+            if (classes[i] == 0) continue;
+            if (acumulado + classes[i] >= alvo) {
+                double estimativa = minimo + largura * (i + (alvo - acumulado) / classes[i]);
+                return Math.max(menor, Math.min(maior, estimativa));
+            }
+            acumulado += classes[i];
+        }
+        return maior;
+    }
+
+    public double getMediana() {
+        return getPercentil(50);
+    }
+
+    // Histograma reagrupado em menos classes (a quantidade de classes do acumulador deve ser múltipla).
+    public long[] getHistograma(int quantidadeClasses) {
+        if (quantidadeClasses <= 0 || classes.length % quantidadeClasses != 0) {
+            throw new IllegalArgumentException("Quantidade de classes deve dividir " + classes.length);
+        }
+        long[] histograma = new long[quantidadeClasses];
+        int agrupar = classes.length / quantidadeClasses;
+        for (int i = 0; i < classes.length; i++) {
+            histograma[i / agrupar] += classes[i];
+        }
+        return histograma;
+    }
+
+    @Override
+    public String toString() {
+        return "AcumuladorDistribuicao{" +
+                "quantidade=" + quantidade +
+                ", media=" + getMedia() +
+                ", desvioPadrao=" + getDesvioPadrao() +
+                ", mediana=" + getMediana() +
+                '}';
+    }
+}
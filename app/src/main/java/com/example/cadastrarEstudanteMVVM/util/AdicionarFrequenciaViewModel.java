@@ -47,28 +47,16 @@ public class AdicionarFrequenciaViewModel extends ViewModel implements DefaultLi
         // Agenda a execução da lógica após 0 milissegundos (executa imediatamente)
         manipulador = executor.schedule(() -> {
             try {
-                // Busca os dados do estudante pelo ID
-                Estudante estudante = repository.buscarDadosEstudante(estudanteId);
+                // Envia só a nova presença ao servidor (uma requisição pequena, sem reenviar o estudante inteiro).
+                // Se outro professor alterou o estudante ao mesmo tempo, o repositório reenvia a presença
+                // sobre a versão atual, sem perder a alteração dele.
+                Estudante estudante = repository.adicionarPresenca(estudanteId, presente);
 
-                // Verifica se o estudante foi encontrado
+                // Se o servidor confirmou a alteração, informa sucesso; caso contrário, informa erro
                 if (estudante != null) {
-                    // Adiciona a nova presença (true ou false) à lista de presenças do estudante
-                    estudante.getPresenca().add(presente);
-
-                    // Atualiza o estudante no repositório com a nova presença adicionada
-                    boolean sucesso = repository.atualizarEstudante(estudante);
-
-                    // Se a atualização foi bem-sucedida, notifica sucesso
-                    if (sucesso) {
-                        listener.onSuccess();
-                    } else {
-                        // Se falhou ao atualizar no repositório, notifica erro
-                        listener.onError("Falha ao atualizar frequência");
-                    }
-
+                    listener.onSuccess();
                 } else {
-                    // Se o estudante não foi encontrado, notifica erro
-                    listener.onError("Estudante não encontrado");
+                    listener.onError("Falha ao adicionar frequência ao estudante");
                 }
 
             } catch (Exception e) {
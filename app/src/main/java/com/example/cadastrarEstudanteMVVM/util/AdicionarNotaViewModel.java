@@ -47,27 +47,16 @@ public class AdicionarNotaViewModel extends ViewModel implements DefaultLifecycl
         // Agenda uma nova tarefa para execução imediata (0 ms de atraso)
         manipulador = executor.schedule(() -> {
             try {
-                // Busca o estudante pelo ID fornecido
-                Estudante estudante = repository.buscarDadosEstudante(estudanteId);
+                // Envia só a nota nova ao servidor (uma requisição pequena, sem reenviar o estudante inteiro).
+                // Se outro professor alterou o estudante ao mesmo tempo, o repositório reenvia a nota
+                // sobre a versão atual, sem perder a alteração dele.
+                Estudante estudante = repository.adicionarNota(estudanteId, nota);
 
-                // Se o estudante for encontrado, adiciona a nota à lista de notas
+                // Se o servidor confirmou a alteração, informa sucesso; caso contrário, informa erro
                 if (estudante != null) {
-                    estudante.getNotas().add(nota);
-
-                    // Atualiza o estudante com os novos dados (incluindo a nova nota)
-                    boolean sucesso = repository.atualizarEstudante(estudante);
-
-                    // Se a atualização for bem-sucedida, informa sucesso
-                    if (sucesso) {
-                        listener.onSuccess();
-                    } else {
-                        // Caso contrário, informa erro de atualização
-                        listener.onError("Falha ao atualizar notas do estudante");
-                    }
-
+                    listener.onSuccess();
                 } else {
-                    // Se o estudante não for encontrado, informa erro
-                    listener.onError("Estudante não encontrado");
+                    listener.onError("Falha ao adicionar nota ao estudante");
                 }
 
             } catch (Exception e) {
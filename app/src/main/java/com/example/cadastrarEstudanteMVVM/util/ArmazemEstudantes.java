@@ -0,0 +1,556 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import android.util.Log;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Classe que guarda a última versão dos dados dos estudantes e é a fonte única para todas as telas.
+// As telas assinam a lista de estudantes, um estudante específico, a lista completa (com notas e
+// presença) ou só os avisos de alteração. A atualização roda uma única vez para todas as assinaturas,
+// só enquanto houver alguém assinando, e para quando a última assinatura é cancelada.
+// Enquanto há assinaturas, o armazém mantém aberto o fluxo de alterações do servidor (Server-Sent
+// Events): cada evento dispara a busca só do que mudou, logo em seguida, e a consulta periódica passa
+// a ser só uma verificação de segurança espaçada. Se o fluxo cair ou o servidor não o tiver, a
+// consulta volta a rodar com mais frequência e tenta reconectar o fluxo a cada rodada.
+// O intervalo entre as rodadas é decidido pela PoliticaAtualizacao, conforme os dados mudaram, as
+// requisições falharam ou o aparelho está economizando energia.
+public class ArmazemEstudantes {
+
+    // Sem o fluxo de alterações, a cada quantas rodadas os detalhes de todos os estudantes da lista
+    // completa são conferidos (GET condicional), para pegar mudanças que não aparecem na listagem.
+    static final int RODADAS_ENTRE_REVALIDACOES = 10;
+
+    // Espera (em milissegundos) para juntar em uma só atualização os eventos que chegam em sequência
+    // (ex.: a chamada de uma turma gera um evento por estudante).
+    static final long ATRASO_EVENTOS_MS = 100;
+
+    // Quantidade de estudantes decodificados entre cada entrega parcial na primeira carga.
+    private static final int TAMANHO_BLOCO_PARCIAL = 50;
+
+    // Instância única (singleton) da classe.
+    private static ArmazemEstudantes instance;
+
+    // Repositório usado para buscar os dados.
+    private final EstudantesRepository repository;
+
+    // Política que decide o intervalo entre as rodadas de atualização.
+    private final PoliticaAtualizacao politica;
+
+    // Resultado da rodada em andamento (acessados somente pela thread do executor).
+    private boolean rodadaAlterou;
+    private boolean rodadaFalhou;
+
+    // Estudantes que mudaram na atualização em andamento e se qualquer um pode ter mudado (ex.: a ordem
+    // da lista mudou), para avisar os ouvintes de alterações só quando algo mudou de fato (acessados
+    // somente pela thread do executor).
+    private final Set<Integer> idsAlterados = new HashSet<>();
+    private boolean todosAlterados;
+
+    // Rodadas desde a última conferência de todos os detalhes e se a próxima rodada deve conferir tudo
+    // (acessados somente pela thread do executor).
+    private int rodadasSemRevalidar;
+    private boolean revalidarProxima;
+
+    // Thread única que faz todas as buscas e entrega os resultados aos ouvintes.
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    // Thread que fica bloqueada lendo o fluxo de alterações.
+    private final ExecutorService leitor = Executors.newSingleThreadExecutor();
+
+    // Próxima rodada agendada (somente enquanto houver assinaturas).
+    private ScheduledFuture<?> manipulador;
+
+    // Indica se há assinaturas e as atualizações estão rodando.
+    private boolean ativo;
+
+    // Indica se a thread do leitor está conectando ou lendo o fluxo.
+    private boolean lendo;
+
+    // Fluxo de alterações aberto (null = desconectado) e se ele já está recebendo eventos.
+    private volatile FluxoEventos fluxo;
+    private volatile boolean conectado;
+
+    // ID do último evento recebido, enviado ao reconectar (acessado somente pela thread do leitor).
+    private String ultimoEvento;
+
+    // Eventos recebidos e ainda não processados (acessados somente pela thread do executor).
+    private final Set<Integer> idsPendentes = new HashSet<>();
+    private boolean tudoPendente;
+    private ScheduledFuture<?> processamento;
+
+    // Ouvintes dos avisos de alteração.
+    private final List<OuvinteAlteracoes> ouvintesAlteracoes = new CopyOnWriteArrayList<>();
+
+    // Ouvintes da lista de estudantes.
+    private final List<OuvinteLista> ouvintesLista = new CopyOnWriteArrayList<>();
+
+    // Ouvintes da lista completa (com notas e presença).
+    private final List<OuvinteCompletos> ouvintesCompletos = new CopyOnWriteArrayList<>();
+
+    // Ouvintes de estudantes específicos, por ID.
+    private final Map<Integer, List<OuvinteEstudante>> ouvintesEstudante = new ConcurrentHashMap<>();
+
+    // Últimos valores conhecidos (acessados somente pela thread do executor).
+    private List<Estudante> ultimaLista;
+    private ResultadoBuscaEmLote ultimosCompletos;
+    private final Map<Integer, Estudante> ultimosEstudantes = new HashMap<>();
+
+    // Interface para receber a lista de estudantes (dados básicos).
+    // A diferença é null nas entregas parciais da primeira carga.
+    public interface OuvinteLista {
+        void onListaAtualizada(List<Estudante> estudantes, DiferencaEstudantes diferenca);
+    }
+
+    // Interface para receber a lista completa dos estudantes.
+    public interface OuvinteCompletos {
+        void onCompletosAtualizados(ResultadoBuscaEmLote resultado);
+    }
+
+    // Interface para receber os dados de um estudante específico.
+    public interface OuvinteEstudante {
+        void onEstudanteAtualizado(Estudante estudante);
+    }
+
+    // Interface para ser avisado de que estudantes mudaram (sem buscar os dados). Só é chamada quando algo
+    // mudou: os IDs vêm do fluxo de alterações ou das diferenças encontradas pela consulta periódica; null
+    // indica que qualquer estudante pode ter mudado (ex.: a ordem da lista mudou).
+    public interface OuvinteAlteracoes {
+        void onAlteracoes(Set<Integer> ids);
+    }
+
+    // Construtor privado para garantir singleton.
+    private ArmazemEstudantes(EstudantesRepository repository) {
+        this(repository, new PoliticaAtualizacao());
+    }
+
+    // Construtor com outra política (ex.: testes contra o servidor local, com intervalos curtos).
+    ArmazemEstudantes(EstudantesRepository repository, PoliticaAtualizacao politica) {
+        this.repository = repository;
+        this.politica = politica;
+    }
+
+    // Método para obter a instância única da classe.
+    public static synchronized ArmazemEstudantes getInstance() {
+        if (instance == null) {
+            instance = new ArmazemEstudantes(EstudantesRepository.getInstance());
+        }
+        return instance;
+    }
+
+    // Assina a lista de estudantes. O último valor conhecido é entregue logo em seguida.
+    public synchronized void assinarLista(OuvinteLista ouvinte) {
+        if (ouvintesLista.contains(ouvinte)) return;
+        ouvintesLista.add(ouvinte);
+        boolean iniciou = iniciarSeNecessario();
+        executor.execute(() -> {
+            if (ultimaLista != null) ouvinte.onListaAtualizada(ultimaLista, null);
+            else if (!iniciou) atualizarLista();
+        });
+    }
+
+    // Cancela a assinatura da lista de estudantes.
+    public synchronized void cancelarLista(OuvinteLista ouvinte) {
+        ouvintesLista.remove(ouvinte);
+        pararSeNecessario();
+    }
+
+    // Assina a lista completa dos estudantes. O último valor conhecido é entregue logo em seguida.
+    public synchronized void assinarCompletos(OuvinteCompletos ouvinte) {
+        if (ouvintesCompletos.contains(ouvinte)) return;
+        ouvintesCompletos.add(ouvinte);
+        boolean iniciou = iniciarSeNecessario();
+        executor.execute(() -> {
+            if (ultimosCompletos != null) ouvinte.onCompletosAtualizados(ultimosCompletos);
+            else if (!iniciou) atualizarCompletos(Collections.emptySet());
+        });
+    }
+
+    // Cancela a assinatura da lista completa.
+    public synchronized void cancelarCompletos(OuvinteCompletos ouvinte) {
+        ouvintesCompletos.remove(ouvinte);
+        pararSeNecessario();
+    }
+
+    // Assina os dados de um estudante. O último valor conhecido é entregue logo em seguida.
+    public synchronized void assinarEstudante(int id, OuvinteEstudante ouvinte) {
+        List<OuvinteEstudante> ouvintes = ouvintesEstudante.computeIfAbsent(id, k -> new CopyOnWriteArrayList<>());
+        if (ouvintes.contains(ouvinte)) return;
+        ouvintes.add(ouvinte);
+        boolean iniciou = iniciarSeNecessario();
+        executor.execute(() -> {
+            Estudante estudante = ultimosEstudantes.get(id);
+            if (estudante != null) ouvinte.onEstudanteAtualizado(estudante);
+            else if (!iniciou) atualizarEstudante(id);
+        });
+    }
+
+    // Cancela a assinatura dos dados de um estudante.
+    public synchronized void cancelarEstudante(int id, OuvinteEstudante ouvinte) {
+        List<OuvinteEstudante> ouvintes = ouvintesEstudante.get(id);
+        if (ouvintes != null) {
+            ouvintes.remove(ouvinte);
+            if (ouvintes.isEmpty()) ouvintesEstudante.remove(id);
+        }
+        pararSeNecessario();
+    }
+
+    // Assina os avisos de alteração (ex.: uma tela que recarrega as próprias páginas).
+    public synchronized void assinarAlteracoes(OuvinteAlteracoes ouvinte) {
+        if (ouvintesAlteracoes.contains(ouvinte)) return;
+        ouvintesAlteracoes.add(ouvinte);
+        iniciarSeNecessario();
+    }
+
+    // Cancela a assinatura dos avisos de alteração.
+    public synchronized void cancelarAlteracoes(OuvinteAlteracoes ouvinte) {
+        ouvintesAlteracoes.remove(ouvinte);
+        pararSeNecessario();
+    }
+
+    // Força uma atualização imediata de tudo o que está assinado (ex.: após cadastrar ou editar).
+    public void atualizarAgora() {
+        executor.execute(this::atualizar);
+    }
+
+    // Indica se o fluxo de alterações está conectado (as atualizações chegam por ele).
+    public boolean isFluxoConectado() {
+        return conectado;
+    }
+
+    // Informa se o aparelho está em economia de bateria ou ocioso (as consultas ficam mais espaçadas).
+    public void setEconomiaEnergia(boolean economiaEnergia) {
+        if (politica.setEconomiaEnergia(economiaEnergia)) {
+            Log.d("ArmazemEstudantes", "Economia de energia: " + economiaEnergia);
+            agendarRodada(politica.recalcular());
+        }
+    }
+
+    // Intervalo (em milissegundos) até a próxima consulta periódica, para depuração.
+    public long getIntervaloAtualMs() {
+        return politica.getIntervaloMs();
+    }
+
+    // Motivo do intervalo atual, para depuração.
+    public String getMotivoIntervalo() {
+        return politica.getMotivo();
+    }
+
+    // Quantidade total de assinaturas ativas.
+    public synchronized int getAssinaturas() {
+        int total = ouvintesLista.size() + ouvintesCompletos.size() + ouvintesAlteracoes.size();
+        for (List<OuvinteEstudante> ouvintes : ouvintesEstudante.values()) {
+            total += ouvintes.size();
+        }
+        return total;
+    }
+
+    // Encerra as threads e o fluxo de alterações (ex.: ao fim de um teste).
+    synchronized void encerrar() {
+        ativo = false;
+        fecharFluxo();
+        executor.shutdownNow();
+        leitor.shutdownNow();
+    }
+
+    // Inicia as atualizações ao receber a primeira assinatura.
+    // Retorna true se a atualização foi iniciada agora (a primeira rodada roda imediatamente).
+    private boolean iniciarSeNecessario() {
+        if (ativo) return false;
+        ativo = true;
+        agendarRodada(0);
+        return true;
+    }
+
+    // Para as atualizações e fecha o fluxo de alterações quando não há mais assinaturas.
+    private void pararSeNecessario() {
+        if (getAssinaturas() > 0 || !ativo) return;
+        ativo = false;
+        if (manipulador != null) {
+            manipulador.cancel(false);
+            manipulador = null;
+        }
+        fecharFluxo();
+    }
+
+    // Fecha o fluxo aberto, o que interrompe a leitura bloqueada na thread do leitor.
+    private void fecharFluxo() {
+        FluxoEventos aberto = fluxo;
+        if (aberto != null) aberto.close();
+    }
+
+    // Agenda a próxima rodada de atualização, substituindo a que estava agendada.
+    private synchronized void agendarRodada(long atrasoMs) {
+        if (!ativo) return;
+        if (manipulador != null) manipulador.cancel(false);
+        manipulador = executor.schedule(this::rodada, atrasoMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Rodada de atualização: busca o que tem assinantes, tenta (re)conectar o fluxo de alterações e
+    // agenda a próxima conforme o resultado (a política espaça as rodadas sem mudanças ou com falhas).
+    private void rodada() {
+        rodadaAlterou = false;
+        rodadaFalhou = false;
+        atualizar();
+        conectarSeNecessario();
+        long intervalo = politica.registrarRodada(rodadaAlterou, rodadaFalhou);
+        Log.d("ArmazemEstudantes", "Próxima rodada em " + intervalo + " ms (" + politica.getMotivo() + ")");
+        agendarRodada(intervalo);
+    }
+
+    // Inicia a leitura do fluxo de alterações, se ela não estiver em andamento.
+    private synchronized void conectarSeNecessario() {
+        if (!ativo || lendo || !repository.isAlteracoesSuportadas()) return;
+        lendo = true;
+        leitor.execute(this::lerEventos);
+    }
+
+    // Lê o fluxo de alterações até ele cair (thread do leitor). Cada evento vai para a thread do executor.
+    private void lerEventos() {
+        boolean estavaConectado = false;
+        try (FluxoEventos aberto = repository.abrirAlteracoes(ultimoEvento)) {
+            fluxo = aberto;
+            synchronized (this) {
+                if (!ativo) return;
+            }
+            conectado = estavaConectado = true;
+            Log.d("ArmazemEstudantes", "Fluxo de alterações conectado");
+
+            // Na primeira conexão, o que mudou desde a última rodada não vem pelo fluxo: confere tudo.
+            if (ultimoEvento == null) executor.execute(() -> receber(null));
+            agendarRodada(politica.setFluxoConectado(true));
+
+            EventoEstudante evento;
+            while ((evento = aberto.proximo()) != null) {
+                if (evento.getId() != null) ultimoEvento = evento.getId();
+                EventoEstudante recebido = evento;
+                executor.execute(() -> receber(recebido));
+            }
+        } catch (Exception e) {
+            // Fluxo fechado, tempo limite sem "ping" ou servidor fora do ar.
+            Log.w("ArmazemEstudantes", "Fluxo de alterações interrompido: " + e);
+        } finally {
+            fluxo = null;
+            conectado = false;
+            synchronized (this) {
+                lendo = false;
+            }
+        }
+        // Sem o fluxo, volta para a consulta periódica (que tenta reconectar a cada rodada).
+        if (estavaConectado) agendarRodada(politica.setFluxoConectado(false));
+    }
+
+    // Guarda o evento para processar junto com os que chegarem logo depois (null = conferir tudo).
+    private void receber(EventoEstudante evento) {
+        if (evento == null || evento.isReiniciar()) tudoPendente = true;
+        else idsPendentes.add(evento.getEstudanteId());
+        if (processamento == null) {
+            processamento = executor.schedule(this::processarPendentes, ATRASO_EVENTOS_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Busca o que os eventos pendentes indicam que mudou: as listas assinadas (por GET condicional) e
+    // os estudantes assinados que tiveram evento.
+    private void processarPendentes() {
+        processamento = null;
+        Set<Integer> ids = new HashSet<>(idsPendentes);
+        boolean tudo = tudoPendente;
+        idsPendentes.clear();
+        tudoPendente = false;
+        if (tudo) {
+            // Eventos perdidos (primeira conexão ou "reiniciar"): confere tudo.
+            revalidarProxima = true;
+            atualizar();
+            return;
+        }
+        iniciarAlteracoes();
+        idsAlterados.addAll(ids);
+        try {
+            if (!ouvintesLista.isEmpty()) {
+                atualizarLista();
+            }
+            Set<Integer> atendidos = Collections.emptySet();
+            if (!ouvintesCompletos.isEmpty()) {
+                atendidos = atualizarCompletos(ids);
+            }
+            for (Integer id : ids) {
+                if (ouvintesEstudante.containsKey(id) && !atendidos.contains(id)) atualizarEstudante(id);
+            }
+            avisarSeAlterou();
+        } catch (Exception e) {
+            Log.e("ArmazemEstudantes", "Erro ao atualizar estudantes após evento", e);
+        }
+    }
+
+    // Começa a registrar os estudantes alterados de uma atualização.
+    private void iniciarAlteracoes() {
+        idsAlterados.clear();
+        todosAlterados = false;
+    }
+
+    // Registra estudantes que mudaram na rodada (null = qualquer estudante pode ter mudado).
+    private void registrarAlterados(Collection<Integer> ids) {
+        rodadaAlterou = true;
+        if (ids == null) todosAlterados = true;
+        else idsAlterados.addAll(ids);
+    }
+
+    // Avisa os ouvintes de alterações, se algum estudante mudou desde iniciarAlteracoes().
+    private void avisarSeAlterou() {
+        if (!todosAlterados && idsAlterados.isEmpty()) return;
+        Set<Integer> ids = todosAlterados ? null : Collections.unmodifiableSet(new HashSet<>(idsAlterados));
+        for (OuvinteAlteracoes ouvinte : ouvintesAlteracoes) {
+            ouvinte.onAlteracoes(ids);
+        }
+    }
+
+    // Uma rodada de atualização: busca somente o que tem assinantes. Quem assina só os avisos de alteração
+    // (ex.: a tela principal, que recarrega as próprias páginas) também depende da lista: o GET condicional
+    // dela é o que mostra à política se os dados mudaram ou se o servidor está falhando.
+    private void atualizar() {
+        iniciarAlteracoes();
+        try {
+            if (!ouvintesLista.isEmpty() || !ouvintesAlteracoes.isEmpty()) {
+                atualizarLista();
+            }
+            Set<Integer> atendidos = Collections.emptySet();
+            if (!ouvintesCompletos.isEmpty()) {
+                // Com o fluxo conectado, as mudanças de detalhes chegam como eventos; sem ele, a conferência
+                // de todos os detalhes roda de tempos em tempos.
+                boolean revalidar = revalidarProxima
+                        || !conectado && ++rodadasSemRevalidar >= RODADAS_ENTRE_REVALIDACOES;
+                if (revalidar) {
+                    revalidarProxima = false;
+                    rodadasSemRevalidar = 0;
+                }
+                atendidos = atualizarCompletos(revalidar ? null : Collections.emptySet());
+            }
+            // Estudantes que já vieram na lista completa não são buscados de novo.
+            for (Integer id : new ArrayList<>(ouvintesEstudante.keySet())) {
+                if (!atendidos.contains(id)) atualizarEstudante(id);
+            }
+            avisarSeAlterou();
+        } catch (Exception e) {
+            // Loga erros em caso de falhas na requisição; a próxima rodada tenta de novo.
+            rodadaFalhou = true;
+            Log.e("ArmazemEstudantes", "Erro ao atualizar estudantes", e);
+        }
+    }
+
+    // Busca a lista de estudantes e avisa os ouvintes se algum estudante mudou.
+    private void atualizarLista() {
+        ResultadoConsulta<List<Estudante>> consulta;
+        if (ultimaLista == null) {
+            // Primeira carga: entrega a lista em partes enquanto ela é decodificada.
+            List<Estudante> parcial = new ArrayList<>();
+            consulta = repository.buscarTodosEstudantesEmFluxo(estudante -> {
+                parcial.add(estudante);
+                if (parcial.size() % TAMANHO_BLOCO_PARCIAL == 0) {
+                    List<Estudante> copia = new ArrayList<>(parcial);
+                    for (OuvinteLista ouvinte : ouvintesLista) {
+                        ouvinte.onListaAtualizada(copia, null);
+                    }
+                }
+            });
+        } else {
+            consulta = repository.buscarTodosEstudantesSeAlterado();
+        }
+
+        // Em caso de erro ou se nada mudou no servidor, não há o que atualizar.
+        if (consulta == null) rodadaFalhou = true;
+        if (consulta == null || !consulta.isAlterado() && ultimaLista != null) return;
+
+        // Compara com a última lista, estudante por estudante (pelo ID e pelo conteúdo).
+        List<Estudante> novaLista = consulta.getDados();
+        DiferencaEstudantes diferenca = DiferencaEstudantes.calcular(ultimaLista, novaLista);
+        if (ultimaLista != null && !diferenca.temMudancas()) return;
+
+        Log.d("ArmazemEstudantes", "Lista atualizada: " + diferenca);
+        // A primeira carga não conta como mudança para a política de atualização.
+        if (ultimaLista != null) registrarAlterados(diferenca.isOrdemAlterada() ? null : diferenca.getIds());
+        ultimaLista = novaLista;
+        repository.setEstudantes(novaLista);
+        for (OuvinteLista ouvinte : ouvintesLista) {
+            ouvinte.onListaAtualizada(novaLista, diferenca);
+        }
+    }
+
+    // Busca a lista completa (só os detalhes dos estudantes novos, com a entrada da lista alterada ou em
+    // "alterados"; todos se "alterados" for null) e avisa os ouvintes se algo mudou.
+    // Retorna os IDs dos estudantes conferidos no servidor.
+    private Set<Integer> atualizarCompletos(Set<Integer> alterados) {
+        ResultadoBuscaEmLote resultado = repository.buscarCompletosAlterados(alterados,
+                EstudantesRepository.PARALELISMO_PADRAO, EstudantesRepository.PRAZO_PADRAO_MS);
+        if (resultado == null || !resultado.isCompleto()) rodadaFalhou = true;
+        if (resultado == null) return Collections.emptySet();
+        Log.d("ArmazemEstudantes", "Busca em lote: " + resultado + " | " + Conexao.resumoMetricas()
+                + " | chamadas agrupadas=" + repository.getChamadasAgrupadas());
+
+        // Aproveita os detalhes recebidos para os ouvintes de estudantes específicos.
+        Set<Integer> atendidos = new HashSet<>();
+        for (Estudante estudante : alterados == null ? resultado.getEstudantes() : resultado.getAtualizados()) {
+            atendidos.add(estudante.getId());
+            if (ouvintesEstudante.containsKey(estudante.getId())) {
+                entregarEstudante(estudante);
+            }
+        }
+
+        if (resultado.isAlterado() || ultimosCompletos == null) {
+            if (ultimosCompletos != null) registrarAlterados(idsAlterados(resultado));
+            ultimosCompletos = resultado;
+            for (OuvinteCompletos ouvinte : ouvintesCompletos) {
+                ouvinte.onCompletosAtualizados(resultado);
+            }
+        }
+        return atendidos;
+    }
+
+    // IDs dos estudantes novos, alterados ou removidos em uma busca em lote (null se ela não for incremental).
+    private static Set<Integer> idsAlterados(ResultadoBuscaEmLote resultado) {
+        if (!resultado.isIncremental()) return null;
+        Set<Integer> ids = new HashSet<>(resultado.getRemovidos());
+        for (Estudante estudante : resultado.getAtualizados()) {
+            ids.add(estudante.getId());
+        }
+        return ids;
+    }
+
+    // Busca um estudante e avisa os ouvintes se ele mudou.
+    private void atualizarEstudante(int id) {
+        ResultadoConsulta<Estudante> consulta = repository.buscarDadosEstudanteSeAlterado(id);
+        if (consulta == null) {
+            rodadaFalhou = true;
+            return;
+        }
+        if (consulta.isAlterado() || !ultimosEstudantes.containsKey(id)) {
+            entregarEstudante(consulta.getDados());
+        }
+    }
+
+    // Guarda o estudante e entrega aos ouvintes do seu ID, se for diferente do último entregue.
+    private void entregarEstudante(Estudante estudante) {
+        Estudante anterior = ultimosEstudantes.put(estudante.getId(), estudante);
+        if (estudante.equals(anterior)) return;
+        if (anterior != null) registrarAlterados(Collections.singleton(estudante.getId()));
+        List<OuvinteEstudante> ouvintes = ouvintesEstudante.get(estudante.getId());
+        if (ouvintes == null) return;
+        for (OuvinteEstudante ouvinte : ouvintes) {
+            ouvinte.onEstudanteAtualizado(estudante);
+        }
+    }
+}
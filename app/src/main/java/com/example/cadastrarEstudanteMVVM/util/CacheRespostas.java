@@ -0,0 +1,296 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import android.util.Log;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Properties;
+
+// Classe que guarda em disco as respostas GET (corpo + ETag/Last-Modified) para requisições condicionais.
+// O tamanho total é limitado: quando passa do limite, as entradas usadas há mais tempo são removidas.
+public class CacheRespostas {
+
+    // Extensão do arquivo com o corpo da resposta.
+    private static final String EXTENSAO_CORPO = ".corpo";
+
+    // Extensão do arquivo com os cabeçalhos de validação (ETag e Last-Modified).
+    private static final String EXTENSAO_META = ".meta";
+
+    // Diretório onde as respostas ficam salvas.
+    private final File diretorio;
+
+    // Tamanho máximo (em bytes) ocupado pelos corpos das respostas.
+    private final long tamanhoMaximo;
+
+    // Tamanho atual (em bytes), calculado na primeira utilização.
+    private long tamanhoAtual = -1;
+
+    // Entrada do cache: validadores da resposta e o corpo, já aberto para leitura. O corpo é aberto em
+    // buscar(), junto com a leitura dos validadores e sob o mesmo lock da remoção, então continua legível
+    // mesmo que a entrada seja removida ou substituída depois (o arquivo aberto não some com a remoção) e
+    // corresponde sempre aos validadores enviados. Deve ser fechada se o corpo não for usado.
+    public static class Entrada implements Closeable {
+        private final String etag;
+        private final String ultimaModificacao;
+        private final InputStream corpo;
+        private final long tamanho;
+
+        Entrada(String etag, String ultimaModificacao, InputStream corpo, long tamanho) {
+            this.etag = etag;
+            this.ultimaModificacao = ultimaModificacao;
+            this.corpo = corpo;
+            this.tamanho = tamanho;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getUltimaModificacao() {
+            return ultimaModificacao;
+        }
+
+        // Corpo da resposta salva (quem o recebe passa a ser responsável por fechá-lo).
+        public InputStream getCorpo() {
+            return corpo;
+        }
+
+        // Tamanho do corpo (em bytes).
+        public long getTamanho() {
+            return tamanho;
+        }
+
+        // Fecha o corpo sem lê-lo (ex.: o servidor respondeu com um corpo novo).
+        @Override
+        public void close() {
+            try {
+                corpo.close();
+            } catch (IOException e) {
+                // Só leitura; nada a recuperar.
+            }
+        }
+    }
+
+    // Construtor
+    public CacheRespostas(File diretorio, long tamanhoMaximo) {
+        this.diretorio = diretorio;
+        this.tamanhoMaximo = tamanhoMaximo;
+
+        // Remove gravações que ficaram pela metade (aplicativo encerrado durante um download).
+        File[] temporarios = diretorio.listFiles((dir, nome) -> nome.endsWith(".tmp"));
+        if (temporarios != null) {
+            for (File temporario : temporarios) {
+                temporario.delete();
+            }
+        }
+    }
+
+    // Retorna a entrada salva para a URL, com o corpo aberto, ou null se não existir.
+    public synchronized Entrada buscar(String url) {
+        String chave = chave(url);
+        File corpo = new File(diretorio, chave + EXTENSAO_CORPO);
+        File meta = new File(diretorio, chave + EXTENSAO_META);
+        if (!corpo.exists() || !meta.exists()) return null;
+
+        Properties propriedades = new Properties();
+        try (InputStream in = new FileInputStream(meta)) {
+            propriedades.load(in);
+        } catch (IOException e) {
+            Log.e("CacheRespostas", "Erro ao ler metadados do cache", e);
+            return null;
+        }
+
+        InputStream corpoAberto;
+        try {
+            corpoAberto = new FileInputStream(corpo);
+        } catch (IOException e) {
+            Log.e("CacheRespostas", "Erro ao abrir corpo do cache", e);
+            return null;
+        }
+
+        // Marca o uso para a política de remoção (menos usados recentemente saem primeiro).
+        corpo.setLastModified(System.currentTimeMillis());
+        return new Entrada(propriedades.getProperty("etag"),
+                propriedades.getProperty("ultimaModificacao"), corpoAberto, corpo.length());
+    }
+
+    // Inicia a gravação de uma resposta da URL. O corpo é escrito em um arquivo temporário enquanto a
+    // resposta é lida e só substitui a entrada anterior em concluir(). Retorna null se a resposta não
+    // tiver ETag nem Last-Modified (não há como validá-la depois).
+    public Gravacao iniciarGravacao(String url, String etag, String ultimaModificacao) {
+        if (etag == null && ultimaModificacao == null) return null;
+        synchronized (this) {
+            if (!diretorio.exists() && !diretorio.mkdirs()) {
+                Log.e("CacheRespostas", "Não foi possível criar o diretório do cache: " + diretorio);
+                return null;
+            }
+        }
+        try {
+            String chave = chave(url);
+            File temporario = File.createTempFile(chave, ".tmp", diretorio);
+            return new Gravacao(url, chave, etag, ultimaModificacao, temporario);
+        } catch (IOException e) {
+            Log.e("CacheRespostas", "Erro ao criar arquivo temporário do cache", e);
+            return null;
+        }
+    }
+
+    // Gravação em andamento de uma resposta.
+    public class Gravacao extends OutputStream {
+        private final String url;
+        private final String chave;
+        private final String etag;
+        private final String ultimaModificacao;
+        private final File temporario;
+        private final OutputStream saida;
+        private long tamanho;
+        private boolean finalizada;
+
+        Gravacao(String url, String chave, String etag, String ultimaModificacao, File temporario)
+                throws IOException {
+            this.url = url;
+            this.chave = chave;
+            this.etag = etag;
+            this.ultimaModificacao = ultimaModificacao;
+            this.temporario = temporario;
+            this.saida = new FileOutputStream(temporario);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            saida.write(b);
+            tamanho++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            saida.write(b, off, len);
+            tamanho += len;
+        }
+
+        // Substitui a entrada anterior pela resposta gravada (chamar somente após ler a resposta inteira).
+        public void concluir() {
+            if (finalizada) return;
+            finalizada = true;
+            try {
+                saida.close();
+            } catch (IOException e) {
+                Log.e("CacheRespostas", "Erro ao gravar resposta no cache", e);
+                temporario.delete();
+                return;
+            }
+            publicar(this);
+        }
+
+        // Descarta a gravação (resposta incompleta ou com erro).
+        @Override
+        public void close() {
+            if (finalizada) return;
+            finalizada = true;
+            try {
+                saida.close();
+            } catch (IOException e) {
+                // O arquivo temporário é apagado de qualquer forma.
+            }
+            temporario.delete();
+        }
+    }
+
+    // Move o corpo gravado para o lugar da entrada anterior e grava os metadados.
+    private synchronized void publicar(Gravacao gravacao) {
+        if (gravacao.tamanho > tamanhoMaximo) {
+            gravacao.temporario.delete();
+            return;
+        }
+        calcularTamanhoAtual();
+
+        File arquivoCorpo = new File(diretorio, gravacao.chave + EXTENSAO_CORPO);
+        File arquivoMeta = new File(diretorio, gravacao.chave + EXTENSAO_META);
+        long tamanhoAnterior = arquivoCorpo.exists() ? arquivoCorpo.length() : 0;
+
+        Properties propriedades = new Properties();
+        if (gravacao.etag != null) propriedades.setProperty("etag", gravacao.etag);
+        if (gravacao.ultimaModificacao != null) propriedades.setProperty("ultimaModificacao", gravacao.ultimaModificacao);
+
+        try {
+            try (OutputStream out = new FileOutputStream(arquivoMeta)) {
+                propriedades.store(out, null);
+            }
+            if (!gravacao.temporario.renameTo(arquivoCorpo)) {
+                throw new IOException("Falha ao renomear " + gravacao.temporario);
+            }
+            tamanhoAtual += gravacao.tamanho - tamanhoAnterior;
+        } catch (IOException e) {
+            Log.e("CacheRespostas", "Erro ao gravar resposta no cache", e);
+            gravacao.temporario.delete();
+            remover(gravacao.url);
+            return;
+        }
+
+        removerExcedente();
+    }
+
+    // Remove a entrada da URL (por exemplo, após uma alteração no servidor).
+    public synchronized void remover(String url) {
+        String chave = chave(url);
+        File corpo = new File(diretorio, chave + EXTENSAO_CORPO);
+        if (corpo.exists() && tamanhoAtual >= 0) {
+            tamanhoAtual -= corpo.length();
+        }
+        corpo.delete();
+        new File(diretorio, chave + EXTENSAO_META).delete();
+    }
+
+    // Soma o tamanho dos corpos já salvos (apenas na primeira vez).
+    private void calcularTamanhoAtual() {
+        if (tamanhoAtual >= 0) return;
+        tamanhoAtual = 0;
+        File[] corpos = diretorio.listFiles((dir, nome) -> nome.endsWith(EXTENSAO_CORPO));
+        if (corpos == null) return;
+        for (File corpo : corpos) {
+            tamanhoAtual += corpo.length();
+        }
+    }
+
+    // Remove as entradas usadas há mais tempo até o cache voltar ao tamanho máximo.
+    private void removerExcedente() {
+        if (tamanhoAtual <= tamanhoMaximo) return;
+        File[] corpos = diretorio.listFiles((dir, nome) -> nome.endsWith(EXTENSAO_CORPO));
+        if (corpos == null) return;
+        Arrays.sort(corpos, Comparator.comparingLong(File::lastModified));
+        for (File corpo : corpos) {
+            if (tamanhoAtual <= tamanhoMaximo) break;
+            String nome = corpo.getName();
+            String chave = nome.substring(0, nome.length() - EXTENSAO_CORPO.length());
+            tamanhoAtual -= corpo.length();
+            corpo.delete();
+            new File(diretorio, chave + EXTENSAO_META).delete();
+        }
+    }
+
+    // Gera um nome de arquivo seguro a partir da URL.
+    private static String chave(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest(url.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-1 está sempre disponível na plataforma.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -6,9 +6,283 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 public class CalculoEstatisticas {
 
+    // Média mínima para aprovação (mesmo critério de Estudante.verificarSituacao).
+    private static final double MEDIA_APROVACAO = 7;
+
+    // Percentual mínimo de presença para aprovação (mesmo critério de Estudante.verificarSituacao).
+    private static final double PRESENCA_APROVACAO = 75;
+
+    // Quantidade mínima de estudantes para dividir o cálculo entre os núcleos; abaixo disso o custo de
+    // dividir e juntar é maior que o ganho, e o cálculo fica sequencial.
+    static final int LIMITE_PARALELO = 16384;
+
+    // Quantidade de estudantes de cada bloco calculado por uma tarefa.
+    static final int TAMANHO_BLOCO = 4096;
+
+    // Calcula todas as estatísticas da tela em uma única passada pela lista. A média e a presença de
+    // cada estudante são calculadas uma única vez. Os resultados são os mesmos dos métodos individuais
+    // abaixo (inclusive os empates de maior/menor média, que ficam com o primeiro da lista). As
+    // distribuições de médias e de presença usam memória fixa, qualquer que seja o tamanho da turma.
+    public static ResumoEstatisticas calcularResumo(List<Estudante> estudantes) {
+        if (estudantes == null || estudantes.isEmpty()) return ResumoEstatisticas.VAZIO;
+
+        double somaMedias = 0;
+        double somaIdades = 0;
+        Estudante maior = null;
+        Estudante menor = null;
+        double mediaMaior = 0;
+        double mediaMenor = 0;
+        List<Estudante> aprovados = new ArrayList<>();
+        List<Estudante> reprovados = new ArrayList<>();
+        AcumuladorDistribuicao notas = AcumuladorDistribuicao.paraNotas();
+        AcumuladorDistribuicao presencas = AcumuladorDistribuicao.paraPresenca();
+
+        for (Estudante estudante : estudantes) {
+            double media = estudante.calcularMedia();
+            double presenca = estudante.calcularPercentualPresenca();
+            somaMedias += media;
+            somaIdades += estudante.getIdade();
+            notas.adicionar(media);
+            presencas.adicionar(presenca);
+
+            // Double.compare, como o Comparator.comparingDouble usado em encontrarMaiorNota/MenorNota.
+            if (maior == null || Double.compare(media, mediaMaior) > 0) {
+                maior = estudante;
+                mediaMaior = media;
+            }
+            if (menor == null || Double.compare(media, mediaMenor) < 0) {
+                menor = estudante;
+                mediaMenor = media;
+            }
+
+            // Mesmo critério de verificarSituacao.
+            if (media >= MEDIA_APROVACAO && presenca >= PRESENCA_APROVACAO) {
+                aprovados.add(estudante);
+            } else {
+                reprovados.add(estudante);
+            }
+        }
+
+        int quantidade = estudantes.size();
+        return new ResumoEstatisticas(quantidade, somaMedias / quantidade, maior, mediaMaior, menor, mediaMenor,
+                somaIdades / quantidade, aprovados, reprovados, notas, presencas);
+    }
+
+    // Mesmo resumo de calcularResumo(List), calculado sobre a fotografia em colunas da turma: a média
+    // e a presença de cada estudante saem de laços sobre os arrays primitivos, sem acessar os objetos
+    // Estudante (que só são consultados para montar as listas de aprovados e reprovados).
+    public static ResumoEstatisticas calcularResumo(TurmaColunar turma) {
+        if (turma == null || turma.getQuantidade() == 0) return ResumoEstatisticas.VAZIO;
+
+        int quantidade = turma.getQuantidade();
+        double somaMedias = 0;
+        double somaIdades = 0;
+        int maior = -1;
+        int menor = -1;
+        double mediaMaior = 0;
+        double mediaMenor = 0;
+        List<Estudante> aprovados = new ArrayList<>();
+        List<Estudante> reprovados = new ArrayList<>();
+        AcumuladorDistribuicao notas = AcumuladorDistribuicao.paraNotas();
+        AcumuladorDistribuicao presencas = AcumuladorDistribuicao.paraPresenca();
+
+        for (int i = 0; i < quantidade; i++) {
+            double media = turma.media(i);
+            double presenca = turma.percentualPresenca(i);
+            somaMedias += media;
+            somaIdades += turma.idades[i];
+            notas.adicionar(media);
+            presencas.adicionar(presenca);
+
+            if (maior < 0 || Double.compare(media, mediaMaior) > 0) {
+                maior = i;
+                mediaMaior = media;
+            }
+            if (menor < 0 || Double.compare(media, mediaMenor) < 0) {
+                menor = i;
+                mediaMenor = media;
+            }
+
+            if (media >= MEDIA_APROVACAO && presenca >= PRESENCA_APROVACAO) {
+                aprovados.add(turma.getEstudante(i));
+            } else {
+                reprovados.add(turma.getEstudante(i));
+            }
+        }
+
+        return new ResumoEstatisticas(quantidade, somaMedias / quantidade, turma.getEstudante(maior), mediaMaior,
+                turma.getEstudante(menor), mediaMenor, somaIdades / quantidade, aprovados, reprovados,
+                notas, presencas);
+    }
+
+    // Mesmo resumo de calcularResumo(TurmaColunar), dividido em blocos calculados em paralelo no
+    // ForkJoinPool comum (turmas com menos de LIMITE_PARALELO estudantes são calculadas em sequência).
+    // Cada bloco calcula as médias, a maior/menor média, a idade somada e os aprovados/reprovados dos
+    // seus estudantes; os blocos são juntados na ordem da turma. Para o resultado ser idêntico ao
+    // sequencial, as médias são somadas e as distribuições acumuladas na junção, na mesma ordem da
+    // passada sequencial (a soma em double depende da ordem), e os empates de maior/menor média ficam
+    // com o bloco mais à esquerda. No app, a tela de estatísticas usa só a parte por estudante
+    // (calcularPorEstudante, na reconstrução das estatísticas incrementais); o resumo completo em paralelo
+    // fica para o benchmark e para quem precisar do resumo de uma vez.
+    public static ResumoEstatisticas calcularResumoParalelo(TurmaColunar turma) {
+        if (turma == null || turma.getQuantidade() < LIMITE_PARALELO) return calcularResumo(turma);
+
+        int quantidade = turma.getQuantidade();
+        double[] medias = new double[quantidade];
+        double[] presencasPorEstudante = new double[quantidade];
+        List<Bloco> blocos = new ArrayList<>();
+        for (int inicio = 0; inicio < quantidade; inicio += TAMANHO_BLOCO) {
+            blocos.add(new Bloco(turma, medias, presencasPorEstudante, inicio,
+                    Math.min(inicio + TAMANHO_BLOCO, quantidade)));
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(blocos);
+            }
+        });
+
+        double somaMedias = 0;
+        AcumuladorDistribuicao notas = AcumuladorDistribuicao.paraNotas();
+        AcumuladorDistribuicao presencas = AcumuladorDistribuicao.paraPresenca();
+        for (int i = 0; i < quantidade; i++) {
+            somaMedias += medias[i];
+            notas.adicionar(medias[i]);
+            presencas.adicionar(presencasPorEstudante[i]);
+        }
+
+        long somaIdades = 0;
+        Bloco maior = null;
+        Bloco menor = null;
+        List<Estudante> aprovados = new ArrayList<>();
+        List<Estudante> reprovados = new ArrayList<>();
+        for (Bloco bloco : blocos) {
+            somaIdades += bloco.somaIdades;
+            if (maior == null || Double.compare(bloco.mediaMaior, maior.mediaMaior) > 0) maior = bloco;
+            if (menor == null || Double.compare(bloco.mediaMenor, menor.mediaMenor) < 0) menor = bloco;
+            aprovados.addAll(bloco.aprovados);
+            reprovados.addAll(bloco.reprovados);
+        }
+
+        // A soma das idades em long é exata, como a soma sequencial em double (idades inteiras).
+        return new ResumoEstatisticas(quantidade, somaMedias / quantidade, turma.getEstudante(maior.maior),
+                maior.mediaMaior, turma.getEstudante(menor.menor), menor.mediaMenor,
+                (double) somaIdades / quantidade, aprovados, reprovados, notas, presencas);
+    }
+
+    // Preenche a média e o percentual de presença de cada estudante da turma nas mesmas posições dos
+    // arrays (usado para reconstruir as estatísticas incrementais). Como no resumo, turmas a partir de
+    // LIMITE_PARALELO estudantes são divididas em blocos de TAMANHO_BLOCO calculados em paralelo no
+    // ForkJoinPool comum; cada bloco escreve só nas suas posições.
+    static void calcularPorEstudante(TurmaColunar turma, double[] medias, double[] presencas) {
+        int quantidade = turma.getQuantidade();
+        if (quantidade < LIMITE_PARALELO) {
+            preencher(turma, medias, presencas, 0, quantidade);
+            return;
+        }
+
+        List<ForkJoinTask<?>> blocos = new ArrayList<>();
+        for (int inicio = 0; inicio < quantidade; inicio += TAMANHO_BLOCO) {
+            int de = inicio;
+            int ate = Math.min(inicio + TAMANHO_BLOCO, quantidade);
+            blocos.add(ForkJoinTask.adapt(() -> preencher(turma, medias, presencas, de, ate)));
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(blocos);
+            }
+        });
+    }
+
+    // Média e presença dos estudantes de inicio (inclusive) até fim (exclusive).
+    private static void preencher(TurmaColunar turma, double[] medias, double[] presencas, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            medias[i] = turma.media(i);
+            presencas[i] = turma.percentualPresenca(i);
+        }
+    }
+
+    // Parte do resumo referente a um bloco de estudantes consecutivos da turma.
+    private static final class Bloco extends RecursiveAction {
+        private final TurmaColunar turma;
+        private final double[] medias;
+        private final double[] presencas;
+        private final int inicio;
+        private final int fim;
+
+        // Resultados do bloco (lidos após o invokeAll, que garante a visibilidade).
+        long somaIdades;
+        int maior = -1;
+        int menor = -1;
+        double mediaMaior;
+        double mediaMenor;
+        final List<Estudante> aprovados = new ArrayList<>();
+        final List<Estudante> reprovados = new ArrayList<>();
+
+        Bloco(TurmaColunar turma, double[] medias, double[] presencas, int inicio, int fim) {
+            this.turma = turma;
+            this.medias = medias;
+            this.presencas = presencas;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = inicio; i < fim; i++) {
+                double media = turma.media(i);
+                double presenca = turma.percentualPresenca(i);
+                medias[i] = media;
+                presencas[i] = presenca;
+                somaIdades += turma.idades[i];
+
+                if (maior < 0 || Double.compare(media, mediaMaior) > 0) {
+                    maior = i;
+                    mediaMaior = media;
+                }
+                if (menor < 0 || Double.compare(media, mediaMenor) < 0) {
+                    menor = i;
+                    mediaMenor = media;
+                }
+
+                if (media >= MEDIA_APROVACAO && presenca >= PRESENCA_APROVACAO) {
+                    aprovados.add(turma.getEstudante(i));
+                } else {
+                    reprovados.add(turma.getEstudante(i));
+                }
+            }
+        }
+    }
+
+    // Calcula a média geral das notas sobre a fotografia em colunas da turma
+    public static double calcularMediaGeral(TurmaColunar turma) {
+        if (turma == null || turma.getQuantidade() == 0) return 0;
+
+        double soma = 0;
+        for (int i = 0; i < turma.getQuantidade(); i++) {
+            soma += turma.media(i);
+        }
+        return soma / turma.getQuantidade();
+    }
+
+    // Calcula a média de idade sobre a fotografia em colunas da turma
+    public static double calcularMediaIdade(TurmaColunar turma) {
+        if (turma == null || turma.getQuantidade() == 0) return 0;
+
+        double soma = 0;
+        for (int idade : turma.idades) {
+            soma += idade;
+        }
+        return soma / turma.getQuantidade();
+    }
+
     // Calcula a média geral das notas de todos os estudantes
     public static double calcularMediaGeral(List<Estudante> estudantes) {
         // Verifica se a lista é nula ou vazia
@@ -0,0 +1,92 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.ViewModel;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Classe ViewModel da chamada: mostra a turma e envia as presenças e notas de todos de uma vez
+public class ChamadaViewModel extends ViewModel implements DefaultLifecycleObserver {
+
+    // LiveData com a turma (lista de estudantes).
+    private final MutableLiveData<List<Estudante>> estudantes = new MutableLiveData<>();
+
+    // LiveData com o progresso do envio (lançamentos concluídos).
+    private final MutableLiveData<Integer> progresso = new MutableLiveData<>(0);
+
+    // LiveData com a quantidade total de lançamentos do envio atual.
+    private final MutableLiveData<Integer> total = new MutableLiveData<>(0);
+
+    // LiveData que indica se um envio está em andamento.
+    private final MutableLiveData<Boolean> enviando = new MutableLiveData<>(false);
+
+    // LiveData com o resultado do último envio (falhas por lançamento).
+    private final MutableLiveData<ResultadoLancamentos> resultado = new MutableLiveData<>();
+
+    // Obtém a instância singleton do repositório de estudantes.
+    private final EstudantesRepository repository = EstudantesRepository.getInstance();
+
+    // Armazém compartilhado que faz a atualização periódica para todas as telas.
+    private final ArmazemEstudantes armazem = ArmazemEstudantes.getInstance();
+
+    // Executor de thread única para o envio (fora da UI thread).
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    // Ouvinte registrado no armazém enquanto a tela está visível.
+    private final ArmazemEstudantes.OuvinteLista ouvinte = (lista, diferenca) -> estudantes.postValue(lista);
+
+    // Getters públicos para expor os LiveData para a UI observar.
+    public LiveData<List<Estudante>> getEstudantes() { return estudantes; }
+    public LiveData<Integer> getProgresso() { return progresso; }
+    public LiveData<Integer> getTotal() { return total; }
+    public LiveData<Boolean> getEnviando() { return enviando; }
+    public LiveData<ResultadoLancamentos> getResultado() { return resultado; }
+
+    // Método chamado quando o ciclo de vida entra no estado STARTED.
+    @Override
+    public void onStart(@NonNull LifecycleOwner lifecycleOwner) {
+        armazem.assinarLista(ouvinte);
+    }
+
+    // Método chamado quando o ciclo de vida entra no estado STOPPED.
+    @Override
+    public void onStop(@NonNull LifecycleOwner lifecycleOwner) {
+        armazem.cancelarLista(ouvinte);
+    }
+
+    // Envia os lançamentos da chamada em lote. Ignorado se já houver um envio em andamento.
+    public void enviar(List<Lancamento> lancamentos) {
+        if (Boolean.TRUE.equals(enviando.getValue()) || lancamentos.isEmpty()) return;
+        enviando.setValue(true);
+        progresso.setValue(0);
+        total.setValue(lancamentos.size());
+
+        List<Lancamento> copia = new ArrayList<>(lancamentos);
+        executor.execute(() -> {
+            ResultadoLancamentos envio = repository.enviarLancamentos(copia,
+                    (concluidos, quantidade) -> progresso.postValue(concluidos));
+            resultado.postValue(envio);
+            enviando.postValue(false);
+
+            // As outras telas (detalhes, estatísticas) recebem os dados novos na próxima rodada.
+            armazem.atualizarAgora();
+        });
+    }
+
+    // Método chamado quando o ViewModel é destruído.
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        armazem.cancelarLista(ouvinte);
+        executor.shutdown(); // Envio em andamento termina normalmente.
+    }
+}
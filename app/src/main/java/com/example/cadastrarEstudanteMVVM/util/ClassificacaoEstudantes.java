@@ -0,0 +1,213 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+// Classificação da turma pela média (maior primeiro), com o percentual de presença como desempate
+// e depois o ID. É uma árvore de busca balanceada (treap) em que cada nó guarda o tamanho da sua
+// subárvore, então a posição de um estudante e os K primeiros/últimos saem em tempo logarítmico
+// (mais K), e alterar as notas de um estudante só reposiciona o nó dele, sem reordenar a turma.
+// Métodos sincronizados: a árvore é alterada pelas threads do repositório e consultada pelas telas.
+public class ClassificacaoEstudantes {
+
+    // Nós da árvore por ID do estudante.
+    private final Map<Integer, No> nos = new HashMap<>();
+
+    // Prioridades aleatórias dos nós (semente fixa: a mesma sequência de operações dá a mesma árvore).
+    private final Random prioridades = new Random(42);
+
+    // Raiz da árvore (null = vazia).
+    private No raiz;
+
+    // Insere o estudante ou o reposiciona, se a média ou a presença mudaram desde a última vez.
+    public synchronized void atualizar(Estudante estudante) {
+        double media = estudante.calcularMedia();
+        double presenca = estudante.calcularPercentualPresenca();
+        No atual = nos.get(estudante.getId());
+        if (atual != null) {
+            if (Double.compare(atual.media, media) == 0 && Double.compare(atual.presenca, presenca) == 0) {
+                atual.estudante = estudante;
+                return;
+            }
+            raiz = remover(raiz, atual);
+        }
+        No no = new No(estudante, media, presenca, prioridades.nextInt());
+        nos.put(estudante.getId(), no);
+        raiz = inserir(raiz, no);
+    }
+
+    // Retira o estudante da classificação.
+    public synchronized void remover(int id) {
+        No no = nos.remove(id);
+        if (no != null) raiz = remover(raiz, no);
+    }
+
+    // Retira os estudantes cujos IDs não estão na coleção (ex.: excluídos no servidor).
+    public synchronized void manterSomente(Collection<Integer> ids) {
+        Set<Integer> manter = ids instanceof Set ? (Set<Integer>) ids : new HashSet<>(ids);
+        for (Integer id : new ArrayList<>(nos.keySet())) {
+            if (!manter.contains(id)) raiz = remover(raiz, nos.remove(id));
+        }
+    }
+
+    // Quantidade de estudantes classificados.
+    public synchronized int getQuantidade() {
+        return tamanho(raiz);
+    }
+
+    // Posição do estudante (1 = maior média). Estudantes com a mesma média e presença ficam na mesma
+    // posição. Retorna 0 se o estudante não estiver na classificação.
+    public synchronized int getPosicao(int id) {
+        No no = nos.get(id);
+        if (no == null) return 0;
+        // Conta os nós com média/presença melhores descendo da raiz (os menores na ordem da árvore).
+        int melhores = 0;
+        No atual = raiz;
+        while (atual != null) {
+            if (compararNotas(atual, no.media, no.presenca) < 0) {
+                melhores += tamanho(atual.esquerda) + 1;
+                atual = atual.direita;
+            } else {
+                atual = atual.esquerda;
+            }
+        }
+        return melhores + 1;
+    }
+
+    // Os "quantidade" estudantes com as maiores médias, do primeiro para baixo.
+    public synchronized List<Estudante> getMelhores(int quantidade) {
+        List<Estudante> resultado = new ArrayList<>(Math.max(0, Math.min(quantidade, tamanho(raiz))));
+        Deque<No> pilha = new ArrayDeque<>();
+        No atual = raiz;
+        while (resultado.size() < quantidade && (atual != null || !pilha.isEmpty())) {
+            while (atual != null) {
+                pilha.push(atual);
+                atual = atual.esquerda;
+            }
+            No no = pilha.pop();
+            resultado.add(no.estudante);
+            atual = no.direita;
+        }
+        return resultado;
+    }
+
+    // Os "quantidade" estudantes com as menores médias, do último para cima.
+    public synchronized List<Estudante> getPiores(int quantidade) {
+        List<Estudante> resultado = new ArrayList<>(Math.max(0, Math.min(quantidade, tamanho(raiz))));
+        Deque<No> pilha = new ArrayDeque<>();
+        No atual = raiz;
+        while (resultado.size() < quantidade && (atual != null || !pilha.isEmpty())) {
+            while (atual != null) {
+                pilha.push(atual);
+                atual = atual.direita;
+            }
+            No no = pilha.pop();
+            resultado.add(no.estudante);
+            atual = no.esquerda;
+        }
+        return resultado;
+    }
+
+    // Ordem da árvore: maior média, depois maior presença, depois menor ID.
+    private static int comparar(No a, No b) {
+        int notas = compararNotas(a, b.media, b.presenca);
+        return notas != 0 ? notas : Integer.compare(a.estudante.getId(), b.estudante.getId());
+    }
+
+    // Compara só média e presença (negativo = "no" vem antes, ou seja, é melhor).
+    private static int compararNotas(No no, double media, double presenca) {
+        int porMedia = Double.compare(media, no.media);
+        return porMedia != 0 ? porMedia : Double.compare(presenca, no.presenca);
+    }
+
+    private static int tamanho(No no) {
+        return no != null ? no.tamanho : 0;
+    }
+
+    private static No inserir(No raiz, No no) {
+        if (raiz == null) return no;
+        if (no.prioridade > raiz.prioridade) {
+            No[] partes = dividir(raiz, no);
+            no.esquerda = partes[0];
+            no.direita = partes[1];
+            no.recalcular();
+            return no;
+        }
+        if (comparar(no, raiz) < 0) raiz.esquerda = inserir(raiz.esquerda, no);
+        else raiz.direita = inserir(raiz.direita, no);
+        raiz.recalcular();
+        return raiz;
+    }
+
+    private static No remover(No raiz, No no) {
+        if (raiz == null) return null;
+        if (raiz == no) return juntar(no.esquerda, no.direita);
+        if (comparar(no, raiz) < 0) raiz.esquerda = remover(raiz.esquerda, no);
+        else raiz.direita = remover(raiz.direita, no);
+        raiz.recalcular();
+        return raiz;
+    }
+
+    // Divide a árvore nos nós que vêm antes e depois de "chave".
+    private static No[] dividir(No raiz, No chave) {
+        if (raiz == null) return new No[2];
+        if (comparar(raiz, chave) < 0) {
+            No[] partes = dividir(raiz.direita, chave);
+            raiz.direita = partes[0];
+            raiz.recalcular();
+            partes[0] = raiz;
+            return partes;
+        }
+        No[] partes = dividir(raiz.esquerda, chave);
+        raiz.esquerda = partes[1];
+        raiz.recalcular();
+        partes[1] = raiz;
+        return partes;
+    }
+
+    // Junta duas árvores em que todos os nós de "esquerda" vêm antes dos de "direita".
+    private static No juntar(No esquerda, No direita) {
+        if (esquerda == null) return direita;
+        if (direita == null) return esquerda;
+        if (esquerda.prioridade > direita.prioridade) {
+            esquerda.direita = juntar(esquerda.direita, direita);
+            esquerda.recalcular();
+            return esquerda;
+        }
+        direita.esquerda = juntar(esquerda, direita.esquerda);
+        direita.recalcular();
+        return direita;
+    }
+
+    // Nó da árvore: o estudante, a média e a presença usadas na ordem, e o tamanho da subárvore.
+    private static final class No {
+        Estudante estudante;
+        final double media;
+        final double presenca;
+        final int prioridade;
+        int tamanho = 1;
+        No esquerda;
+        No direita;
+
+        No(Estudante estudante, double media, double presenca, int prioridade) {
+            this.estudante = estudante;
+            this.media = media;
+            this.presenca = presenca;
+            this.prioridade = prioridade;
+        }
+
+        void recalcular() {
+            tamanho = 1 + tamanho(esquerda) + tamanho(direita);
+        }
+    }
+}
@@ -1,74 +1,262 @@
 package com.example.cadastrarEstudanteMVVM.util;
 
-import android.net.SSLCertificateSocketFactory;
 import android.util.Log;
 
-import org.apache.http.conn.ssl.AllowAllHostnameVerifier;
-
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.HttpURLConnection;
-import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HttpsURLConnection;
 
-// Classe Conexao lida com operações relacionadas à conexão HTTP e conversão de dados recebidos
+// Classe Conexao lida com operações relacionadas à conexão HTTP e conversão de dados recebidos.
+// Todas as respostas são lidas até o fim e fechadas, para que a conexão volte ao pool de
+// keep-alive do HttpURLConnection e seja reaproveitada pela próxima requisição ao mesmo servidor.
 public class Conexao {
 
-    // Método genérico para requisições HTTPS
+    // Quantidade máxima de conexões ociosas mantidas no pool de keep-alive.
+    public static final int MAXIMO_CONEXOES_OCIOSAS = 8;
+
+    // Tamanho (em bytes/caracteres) dos buffers de leitura das respostas.
+    private static final int TAMANHO_BUFFER = 16 * 1024;
+
+    // Quantidade máxima de bytes descartados ao fechar uma resposta não lida até o fim.
+    // Acima disso é mais barato abrir uma conexão nova do que ler o resto.
+    private static final int LIMITE_DESCARTE = 64 * 1024;
+
+    static {
+        // O pool interno do HttpURLConnection lê estas propriedades ao ser criado.
+        System.setProperty("http.keepAlive", "true");
+        System.setProperty("http.maxConnections", String.valueOf(MAXIMO_CONEXOES_OCIOSAS));
+    }
+
+    // Configuração TLS compartilhada por todas as conexões (SSLContext, cache de sessões e verificador).
+    private static volatile ConfiguracaoTls tls = ConfiguracaoTls.confiancaDoSistema();
+
+    // Cache em disco usado pelas requisições GET condicionais (opcional).
+    private CacheRespostas cache;
+
+    // Define o cache em disco das respostas.
+    public void setCache(CacheRespostas cache) {
+        this.cache = cache;
+    }
+
+    // Define a configuração TLS usada por todas as conexões (deve ser chamado antes da primeira requisição).
+    // As métricas de conexão ficam na fábrica de sockets da configuração, então recomeçam juntas.
+    public static void configurarTls(ConfiguracaoTls configuracao) {
+        tls = configuracao;
+    }
+
+    // Método genérico para requisições HTTP(S).
+    // O fluxo retornado deve ser fechado por quem chamou (ao fechar, o restante é descartado).
     public InputStream fazerRequisicao(String urlString, String metodo, String json) throws IOException {
+        return fazerRequisicao(urlString, metodo, json != null ? writer -> writer.write(json) : null);
+    }
+
+    // Igual a fazerRequisicao(String, String, String), mas o corpo é escrito direto na conexão.
+    public InputStream fazerRequisicao(String urlString, String metodo, EscritorCorpo corpo) throws IOException {
+        HttpURLConnection con = abrirConexao(urlString, metodo);
+        escreverCorpo(con, corpo);
+
+        // Em caso de erro HTTP, descarta o corpo do erro para liberar a conexão e lança a exceção.
+        int codigo = con.getResponseCode();
+        if (codigo >= HttpURLConnection.HTTP_BAD_REQUEST) {
+            descartar(con.getErrorStream());
+            throw new IOException("HTTP " + codigo + " em " + metodo + " " + urlString);
+        }
+
+        // Retorna o fluxo de entrada com a resposta
+        return new FluxoResposta(con.getInputStream(), null);
+    }
+
+    // Envia uma escrita condicional: com "versao" (o ETag conhecido do recurso), o servidor só a aplica
+    // se o recurso ainda estiver nessa versão (If-Match). A resposta é devolvida mesmo com código de
+    // erro (ex.: 412 quando a versão mudou), com o corpo e o ETag, para quem chamou decidir o que fazer.
+    public RespostaHttp enviarCondicional(String urlString, String metodo, String versao, EscritorCorpo corpo)
+            throws IOException {
+        HttpURLConnection con = abrirConexao(urlString, metodo);
+        if (versao != null) {
+            con.setRequestProperty("If-Match", versao);
+        }
+        escreverCorpo(con, corpo);
+
+        int codigo = con.getResponseCode();
+        InputStream in = codigo >= HttpURLConnection.HTTP_BAD_REQUEST ? con.getErrorStream() : con.getInputStream();
+        if (in == null) {
+            in = new ByteArrayInputStream(new byte[0]);
+        }
+        return new RespostaHttp(codigo, new FluxoResposta(in, null), con.getContentLengthLong(), false,
+                con.getHeaderField("ETag"));
+    }
+
+    // Método para GET condicional: envia If-None-Match/If-Modified-Since com os validadores
+    // guardados no cache e, se o servidor responder 304, devolve o corpo salvo em disco.
+    public RespostaHttp fazerRequisicaoCondicional(String urlString) throws IOException {
+        HttpURLConnection con = abrirConexao(urlString, "GET");
+
+        // Adiciona os validadores da última resposta salva, se houver. O corpo salvo já vem aberto, para
+        // não sumir se a entrada for removida do cache enquanto a requisição está em andamento.
+        CacheRespostas.Entrada entrada = cache != null ? cache.buscar(urlString) : null;
+        if (entrada != null) {
+            if (entrada.getEtag() != null) {
+                con.setRequestProperty("If-None-Match", entrada.getEtag());
+            }
+            if (entrada.getUltimaModificacao() != null) {
+                con.setRequestProperty("If-Modified-Since", entrada.getUltimaModificacao());
+            }
+        }
+
+        int codigo;
+        String etag;
+        try {
+            codigo = con.getResponseCode();
+            etag = con.getHeaderField("ETag");
+
+            // 304: nada mudou, o corpo vem do cache (a resposta 304 não tem corpo, mas é fechada mesmo assim).
+            if (codigo == HttpURLConnection.HTTP_NOT_MODIFIED && entrada != null) {
+                descartar(con.getInputStream());
+                RespostaHttp resposta = new RespostaHttp(codigo, entrada.getCorpo(), entrada.getTamanho(), true,
+                        etag != null ? etag : entrada.getEtag());
+                entrada = null;  // O corpo passa para a resposta.
+                return resposta;
+            }
+        } finally {
+            if (entrada != null) entrada.close();
+        }
+
+        if (codigo >= HttpURLConnection.HTTP_BAD_REQUEST) {
+            descartar(con.getErrorStream());
+            throw new IOException("HTTP " + codigo + " em GET " + urlString);
+        }
+
+        // O corpo é entregue como fluxo; enquanto é lido, uma cópia vai para o cache em disco.
+        CacheRespostas.Gravacao gravacao = null;
+        if (cache != null && codigo == HttpURLConnection.HTTP_OK) {
+            gravacao = cache.iniciarGravacao(urlString, etag, con.getHeaderField("Last-Modified"));
+        }
+        return new RespostaHttp(codigo, new FluxoResposta(con.getInputStream(), gravacao),
+                con.getContentLengthLong(), false, etag);
+    }
+
+    // Abre um fluxo de eventos do servidor (Server-Sent Events). "ultimoEvento" é o ID do último evento
+    // recebido em uma conexão anterior (Last-Event-ID), para o servidor repetir os perdidos. O fluxo é
+    // devolvido mesmo com código de erro (sem eventos), para quem chamou decidir o que fazer; se nada
+    // chegar (nem os comentários de "ping") em tempoLimiteMs, a leitura falha com SocketTimeoutException.
+    public FluxoEventos abrirEventos(String urlString, String ultimoEvento, int tempoLimiteMs) throws IOException {
+        HttpURLConnection con = abrirConexao(urlString, "GET", true);
+        con.setRequestProperty("Accept", "text/event-stream");
+        con.setRequestProperty("Cache-Control", "no-cache");
+        if (ultimoEvento != null) {
+            con.setRequestProperty("Last-Event-ID", ultimoEvento);
+        }
+        con.setReadTimeout(tempoLimiteMs);
+        con.setUseCaches(false);
+
+        int codigo = con.getResponseCode();
+        if (codigo != HttpURLConnection.HTTP_OK) {
+            descartar(con.getErrorStream());
+            return new FluxoEventos(con, codigo, null);
+        }
+        return new FluxoEventos(con, codigo, con.getInputStream());
+    }
+
+    // Abre a conexão com as configurações comuns a todas as requisições.
+    private HttpURLConnection abrirConexao(String urlString, String metodo) throws IOException {
+        return abrirConexao(urlString, metodo, false);
+    }
+
+    // Igual a abrirConexao(String, String); "eventos" indica o fluxo de eventos, que usa a fábrica de
+    // sockets própria e fica fora das métricas. A requisição é contada na mesma fábrica que conta os
+    // sockets criados, então as duas contagens sempre se referem às mesmas conexões.
+    // HTTP sem TLS só é usado com o servidor local de testes e fica fora das métricas (não há como
+    // contar os sockets criados pelo HttpURLConnection nesse caso).
+    private HttpURLConnection abrirConexao(String urlString, String metodo, boolean eventos) throws IOException {
         URL url = new URL(urlString);
-        HttpsURLConnection con = (HttpsURLConnection) url.openConnection();
+        HttpURLConnection con = (HttpURLConnection) url.openConnection();
 
-        // Configurações SSL para desenvolvimento
-        con.setSSLSocketFactory(SSLCertificateSocketFactory.getInsecure(0, null));
-        con.setHostnameVerifier(new AllowAllHostnameVerifier());
+        // Usa a fábrica de sockets e o verificador compartilhados, para que o pool reconheça
+        // as conexões como equivalentes e possa reaproveitá-las (e as sessões TLS sejam retomadas).
+        if (con instanceof HttpsURLConnection) {
+            ConfiguracaoTls configuracao = tls;
+            FabricaSocketsContadora fabrica = eventos
+                    ? configuracao.getFabricaSocketsEventos() : configuracao.getFabricaSockets();
+            fabrica.registrarRequisicao();
+            ((HttpsURLConnection) con).setSSLSocketFactory(fabrica);
+            ((HttpsURLConnection) con).setHostnameVerifier(configuracao.getVerificadorHostname());
+        }
 
         // Configura o método HTTPS e cabeçalhos
         con.setRequestMethod(metodo);
         con.setRequestProperty("Content-Type", "application/json");
-        con.setDoOutput(json != null);
+        return con;
+    }
 
-        // Se houver corpo na requisição, envia os dados
-        if (json != null) {
-            try (OutputStream os = con.getOutputStream()) {
-                byte[] input = json.getBytes("utf-8");
-                os.write(input, 0, input.length);
+    // Se houver corpo na requisição, escreve os dados direto na conexão.
+    private static void escreverCorpo(HttpURLConnection con, EscritorCorpo corpo) throws IOException {
+        con.setDoOutput(corpo != null);
+        if (corpo != null) {
+            try (Writer writer = new OutputStreamWriter(con.getOutputStream(), StandardCharsets.UTF_8)) {
+                corpo.escrever(writer);
             }
         }
+    }
 
-        // Retorna o fluxo de entrada com a resposta
-        return con.getInputStream();
+    // Interface para escrever o corpo de uma requisição direto no fluxo da conexão.
+    public interface EscritorCorpo {
+        void escrever(Writer writer) throws IOException;
     }
 
     // Método para enviar POST (criação)
     public void enviarPost(String urlString, String json) throws IOException {
-        fazerRequisicao(urlString, "POST", json);
+        descartar(fazerRequisicao(urlString, "POST", json));
+    }
+
+    // Método para enviar POST com o corpo escrito em fluxo
+    public void enviarPost(String urlString, EscritorCorpo corpo) throws IOException {
+        descartar(fazerRequisicao(urlString, "POST", corpo));
     }
 
     // Método para enviar PUT (atualização)
     public void enviarPut(String urlString, String json) throws IOException {
-        fazerRequisicao(urlString, "PUT", json);
+        descartar(fazerRequisicao(urlString, "PUT", json));
+    }
+
+    // Método para enviar PUT com o corpo escrito em fluxo
+    public void enviarPut(String urlString, EscritorCorpo corpo) throws IOException {
+        descartar(fazerRequisicao(urlString, "PUT", corpo));
     }
 
     // Método para enviar DELETE (remoção)
     public void enviarDelete(String urlString) throws IOException {
-        fazerRequisicao(urlString, "DELETE", null);
+        descartar(fazerRequisicao(urlString, "DELETE", (EscritorCorpo) null));
     }
 
-    // Método para converter InputStream em String
+    // Método para converter InputStream em String (UTF-8; o fluxo é fechado ao final).
+    // O conteúdo é copiado sem alterações, em blocos, em vez de linha por linha.
     public String converter(InputStream inputStream) {
-        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-        StringBuilder sb = new StringBuilder();
-        String line;
+        return converter(inputStream, -1);
+    }
 
-        try {
-            while ((line = reader.readLine()) != null) {
-                sb.append(line).append("\n");
+    // Igual a converter(InputStream), usando o tamanho esperado (em bytes) para dimensionar o buffer.
+    public String converter(InputStream inputStream, long tamanhoEsperado) {
+        int capacidade = tamanhoEsperado > 0 && tamanhoEsperado < Integer.MAX_VALUE
+                ? (int) tamanhoEsperado : TAMANHO_BUFFER;
+        StringBuilder sb = new StringBuilder(capacidade);
+        char[] buffer = new char[TAMANHO_BUFFER];
+
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            int n;
+            while ((n = reader.read(buffer)) != -1) {
+                sb.append(buffer, 0, n);
             }
         } catch (IOException e) {
             Log.e("Conexao", "Erro ao converter InputStream", e);
@@ -77,4 +265,137 @@ public class Conexao {
         return sb.toString();
     }
 
-}
\ No newline at end of file
+    // Cria um leitor UTF-8 com buffer para decodificar o corpo de uma resposta em fluxo.
+    public static Reader criarLeitor(InputStream inputStream) {
+        return new InputStreamReader(new BufferedInputStream(inputStream, TAMANHO_BUFFER), StandardCharsets.UTF_8);
+    }
+
+    // Quantidade de requisições HTTPS feitas (sem o fluxo de eventos) desde a última configuração TLS.
+    public static long getRequisicoes() {
+        return tls.getFabricaSockets().getRequisicoes();
+    }
+
+    // Quantidade de requisições que precisaram abrir uma conexão nova (falhas do pool).
+    public static long getConexoesNovas() {
+        return tls.getFabricaSockets().getSocketsCriados();
+    }
+
+    // Quantidade de requisições atendidas por uma conexão reaproveitada (acertos do pool).
+    public static long getConexoesReutilizadas() {
+        FabricaSocketsContadora fabrica = tls.getFabricaSockets();
+        // Lê os sockets antes das requisições: uma requisição em andamento é contada antes do seu socket.
+        long novas = fabrica.getSocketsCriados();
+        return Math.max(0, fabrica.getRequisicoes() - novas);
+    }
+
+    // Tempo médio (em milissegundos) dos handshakes TLS concluídos.
+    public static double getTempoMedioHandshakeMs() {
+        FabricaSocketsContadora fabrica = tls.getFabricaSockets();
+        long handshakes = fabrica.getHandshakes();
+        if (handshakes == 0) return 0;
+        return fabrica.getTempoHandshakesNs() / (double) TimeUnit.MILLISECONDS.toNanos(1) / handshakes;
+    }
+
+    // Percentual de handshakes TLS que retomaram uma sessão do cache.
+    public static double getTaxaRetomadaSessao() {
+        FabricaSocketsContadora fabrica = tls.getFabricaSockets();
+        long handshakes = fabrica.getHandshakes();
+        if (handshakes == 0) return 0;
+        return fabrica.getHandshakesRetomados() * 100.0 / handshakes;
+    }
+
+    // Resumo das métricas de conexão, para logs.
+    public static String resumoMetricas() {
+        return String.format("requisições=%d, conexões reutilizadas=%d, novas=%d, handshake médio=%.1f ms, sessões retomadas=%.1f%%",
+                getRequisicoes(), getConexoesReutilizadas(), getConexoesNovas(),
+                getTempoMedioHandshakeMs(), getTaxaRetomadaSessao());
+    }
+
+    // Lê e descarta o restante do fluxo (até o limite) e o fecha, liberando a conexão.
+    private static void descartar(InputStream inputStream) {
+        if (inputStream == null) return;
+        try (InputStream in = inputStream) {
+            byte[] buffer = new byte[4096];
+            long total = 0;
+            int n;
+            while (total < LIMITE_DESCARTE && (n = in.read(buffer)) != -1) {
+                total += n;
+            }
+        } catch (IOException e) {
+            // A conexão será descartada pelo pool; não há o que fazer.
+            Log.w("Conexao", "Erro ao descartar resposta", e);
+        }
+    }
+
+    // Fluxo da resposta que, ao ser fechado, lê o que sobrou para a conexão poder ser reaproveitada.
+    // Se houver uma gravação de cache, os bytes lidos são copiados para ela, e a gravação só é
+    // concluída se a resposta for lida até o fim.
+    private static class FluxoResposta extends FilterInputStream {
+
+        // Cópia em disco da resposta (opcional).
+        private final CacheRespostas.Gravacao gravacao;
+
+        // Indica se o fluxo já foi fechado.
+        private boolean fechado;
+
+        FluxoResposta(InputStream in, CacheRespostas.Gravacao gravacao) {
+            super(in);
+            this.gravacao = gravacao;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (gravacao != null) {
+                if (b == -1) gravacao.concluir();
+                else gravacao.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (gravacao != null) {
+                if (n == -1) gravacao.concluir();
+                else gravacao.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Pular bytes deixaria a cópia do cache incompleta.
+            if (gravacao != null) gravacao.close();
+            return in.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            if (fechado) return;
+            fechado = true;
+            if (gravacao != null) {
+                // O decodificador pode parar antes do fim (ex.: espaços após o JSON); lê o que
+                // sobrou por este fluxo para a cópia do cache ficar completa.
+                try {
+                    byte[] buffer = new byte[4096];
+                    long total = 0;
+                    int n;
+                    while (total < LIMITE_DESCARTE && (n = read(buffer, 0, buffer.length)) != -1) {
+                        total += n;
+                    }
+                } catch (IOException e) {
+                    Log.w("Conexao", "Erro ao ler o restante da resposta", e);
+                }
+                // Se a resposta não foi lida até o fim, a gravação é descartada.
+                gravacao.close();
+            }
+            descartar(in);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.TrustManagerFactory;
+
+// Classe que monta, uma única vez, o SSLContext usado por todas as conexões com a API.
+// Como o contexto é compartilhado, o cache de sessões TLS também é, e as conexões seguintes ao
+// mesmo servidor podem retomar a sessão (handshake abreviado) em vez de refazer o handshake completo.
+public class ConfiguracaoTls {
+
+    // Quantidade de sessões TLS mantidas no cache do cliente.
+    private static final int TAMANHO_CACHE_SESSOES = 64;
+
+    // Tempo (em segundos) que uma sessão pode ser retomada.
+    private static final int VALIDADE_SESSAO_SEGUNDOS = 12 * 60 * 60;
+
+    // Fábrica de sockets criada a partir do SSLContext (com contagem de conexões e handshakes).
+    private final FabricaSocketsContadora fabricaSockets;
+
+    // Fábrica separada (mesmo SSLContext, então as sessões TLS são compartilhadas) para o fluxo de eventos,
+    // que prende a conexão por tempo indeterminado: as conexões dele não entram no pool das requisições
+    // nem nas métricas de reaproveitamento.
+    private final FabricaSocketsContadora fabricaSocketsEventos;
+
+    // Verificador de hostname usado junto com o contexto.
+    private final HostnameVerifier verificadorHostname;
+
+    // Construtor privado: use confiancaDoSistema() ou certificadoFixado().
+    private ConfiguracaoTls(SSLContext contexto, HostnameVerifier verificadorHostname) {
+        SSLSessionContext sessoes = contexto.getClientSessionContext();
+        if (sessoes != null) {
+            sessoes.setSessionCacheSize(TAMANHO_CACHE_SESSOES);
+            sessoes.setSessionTimeout(VALIDADE_SESSAO_SEGUNDOS);
+        }
+        this.fabricaSockets = new FabricaSocketsContadora(contexto.getSocketFactory());
+        this.fabricaSocketsEventos = new FabricaSocketsContadora(contexto.getSocketFactory());
+        this.verificadorHostname = verificadorHostname;
+    }
+
+    // Configuração que confia apenas nas autoridades certificadoras do sistema.
+    public static ConfiguracaoTls confiancaDoSistema() {
+        try {
+            TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            tmf.init((KeyStore) null);
+            SSLContext contexto = SSLContext.getInstance("TLS");
+            contexto.init(null, tmf.getTrustManagers(), null);
+            return new ConfiguracaoTls(contexto, HttpsURLConnection.getDefaultHostnameVerifier());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Não foi possível criar o contexto TLS do sistema", e);
+        }
+    }
+
+    // Configuração que confia somente no certificado informado (ex.: certificado autoassinado do
+    // servidor de desenvolvimento). O hostname é aceito quando o servidor apresenta exatamente esse
+    // certificado, já que certificados de desenvolvimento raramente incluem o IP do emulador.
+    public static ConfiguracaoTls certificadoFixado(InputStream certificado) throws IOException {
+        try {
+            CertificateFactory cf = CertificateFactory.getInstance("X.509");
+            X509Certificate fixado = (X509Certificate) cf.generateCertificate(certificado);
+
+            KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            keyStore.load(null, null);
+            keyStore.setCertificateEntry("servidor", fixado);
+
+            TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            tmf.init(keyStore);
+            SSLContext contexto = SSLContext.getInstance("TLS");
+            contexto.init(null, tmf.getTrustManagers(), null);
+
+            HostnameVerifier padrao = HttpsURLConnection.getDefaultHostnameVerifier();
+            HostnameVerifier verificador = (host, sessao) -> {
+                if (padrao.verify(host, sessao)) return true;
+                try {
+                    Certificate[] cadeia = sessao.getPeerCertificates();
+                    return cadeia.length > 0 && cadeia[0].equals(fixado);
+                } catch (SSLPeerUnverifiedException e) {
+                    return false;
+                }
+            };
+            return new ConfiguracaoTls(contexto, verificador);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Certificado de desenvolvimento inválido", e);
+        }
+    }
+
+    // Getters
+    FabricaSocketsContadora getFabricaSockets() {
+        return fabricaSockets;
+    }
+
+    FabricaSocketsContadora getFabricaSocketsEventos() {
+        return fabricaSocketsEventos;
+    }
+
+    HostnameVerifier getVerificadorHostname() {
+        return verificadorHostname;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Diario;
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// Classe que concentra a instância compartilhada do Gson e os conversores sem reflexão.
+public final class ConversorJson {
+
+    // Conversor de Estudante usado diretamente na leitura e escrita em fluxo.
+    public static final EstudanteTypeAdapter ESTUDANTE = new EstudanteTypeAdapter();
+
+    // Conversor de Diario.
+    public static final DiarioTypeAdapter DIARIO = new DiarioTypeAdapter(ESTUDANTE);
+
+    // Instância única do Gson com os conversores registrados (criada uma vez só).
+    public static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(Estudante.class, ESTUDANTE)
+            .registerTypeAdapter(Diario.class, DIARIO)
+            .create();
+
+    // Classe utilitária: não deve ser instanciada.
+    private ConversorJson() {}
+
+    // Lê um estudante do leitor JSON.
+    public static Estudante lerEstudante(JsonReader reader) throws IOException {
+        return ESTUDANTE.read(reader);
+    }
+
+    // Escreve o estudante como JSON direto no destino, sem montar uma String ou árvore intermediária.
+    public static void escreverEstudante(Writer destino, Estudante estudante) throws IOException {
+        JsonWriter writer = new JsonWriter(destino);
+        ESTUDANTE.write(writer, estudante);
+        writer.flush();
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.cadastrarEstudanteMVVM.util;
 
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.DefaultLifecycleObserver;
 import androidx.lifecycle.LifecycleOwner;
@@ -8,10 +7,8 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 // Classe ViewModel que observa mudanças nos detalhes de um estudante
 public class DetalhesEstudanteViewModel extends ViewModel implements DefaultLifecycleObserver {
@@ -22,67 +19,85 @@ public class DetalhesEstudanteViewModel extends ViewModel implements DefaultLife
     // Obtém a instância singleton do repositório de estudantes.
     private final EstudantesRepository repository = EstudantesRepository.getInstance();
 
-    // Executor que roda uma thread dedicada para tarefas assíncronas.
-    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    // Armazém compartilhado que faz a atualização periódica para todas as telas.
+    private final ArmazemEstudantes armazem = ArmazemEstudantes.getInstance();
 
-    // Controla tarefas periódicas agendadas (ex: atualização automática dos dados do estudante).
-    private ScheduledFuture<?> manipulador;
+    // Executor que roda uma thread dedicada para tarefas assíncronas (ex: deleção, posição na turma).
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    // LiveData com a posição do estudante na turma e a quantidade de estudantes classificados
+    // ({posição, total}; posição 0 = ainda não classificado).
+    private final MutableLiveData<int[]> posicaoNaTurma = new MutableLiveData<>();
+
+    // Ouvinte registrado no armazém; só é chamado quando os dados do estudante mudam.
+    private final ArmazemEstudantes.OuvinteEstudante ouvinte = estudante -> {
+        estudanteLiveData.postValue(estudante);
+        executor.execute(() -> atualizarPosicao(estudante.getId()));
+    };
 
     // Armazena o ID do estudante atualmente selecionado.
     private int estudanteIdAtual = -1;
 
+    // Indica se a assinatura do estudante está ativa no armazém.
+    private boolean assinado;
+
     // Retorna o LiveData do estudante, usado pela UI para observar alterações.
     public LiveData<Estudante> getEstudante() {
         return estudanteLiveData;
     }
 
+    // Retorna o LiveData da posição do estudante na turma.
+    public LiveData<int[]> getPosicaoNaTurma() {
+        return posicaoNaTurma;
+    }
+
+    // Consulta a posição na classificação mantida pelo repositório (sem ordenar a turma nem acessar a
+    // rede). A classificação só cobre a turma inteira depois que os detalhes de todos os estudantes
+    // chegaram (ex.: pela tela de estatísticas); esta tela não busca a turma só para exibir a posição.
+    // Enquanto a classificação estiver incompleta, a posição fica 0 (oculta na tela).
+    private void atualizarPosicao(int id) {
+        int posicao = repository.isClassificacaoCompleta() ? repository.getPosicaoNaTurma(id) : 0;
+        posicaoNaTurma.postValue(new int[]{posicao, repository.getTamanhoClassificacao()});
+    }
+
     // Método chamado quando a tela entra no estado STARTED.
     @Override
     public void onStart(@NonNull LifecycleOwner lifecycleOwner) {
-        // Impede recomeçar a tarefa se já estiver agendada ou se nenhum estudante estiver selecionado.
-        if (manipulador != null && !manipulador.isCancelled() || estudanteIdAtual == -1) {
-            return;
-        }
-
-        // Agenda uma tarefa periódica que atualiza os dados do estudante a cada 30 segundos.
-        manipulador = executor.scheduleWithFixedDelay(() -> {
-            try {
-                carregarDadosEstudante(estudanteIdAtual); // Busca e atualiza os dados no LiveData.
-            } catch (Exception e) {
-                Log.e("DetalhesEstVM", "Erro ao carregar estudante", e);
-            }
-        }, 0, 30, TimeUnit.SECONDS); // Começa imediatamente, repete a cada 30s.
+        assinar();
     }
 
     // Método chamado quando a tela entra no estado STOPPED.
     @Override
     public void onStop(@NonNull LifecycleOwner lifecycleOwner) {
-        // Cancela a tarefa periódica se estiver ativa.
-        if (manipulador != null) {
-            manipulador.cancel(false);
-        }
+        cancelarAssinatura();
     }
 
     // Define o ID do estudante que será trabalhado, e inicia o carregamento automático.
     public void setEstudanteId(int estudanteId) {
+        if (estudanteId == estudanteIdAtual) return;
+        cancelarAssinatura();
         this.estudanteIdAtual = estudanteId;
-        recarregarEstudante(); // Inicia imediatamente após definir o ID.
+        assinar(); // Inicia imediatamente após definir o ID.
     }
 
-    // Recarrega manualmente os dados do estudante, cancelando a tarefa anterior (se houver).
+    // Recarrega manualmente os dados do estudante (ex: após adicionar nota ou frequência).
     public void recarregarEstudante() {
-        if (manipulador != null) {
-            manipulador.cancel(false); // Cancela agendamento anterior.
-        }
-        onStart(null); // Reage como se estivesse reiniciando a tela.
+        armazem.atualizarAgora();
     }
 
-    // Carrega os dados do estudante a partir do repositório e atualiza o LiveData.
-    private void carregarDadosEstudante(int estudanteId) {
-        Estudante estudante = repository.buscarDadosEstudante(estudanteId);
-        if (estudante != null) {
-            estudanteLiveData.postValue(estudante); // Atualiza a UI reativamente.
-        }
+    // Assina os dados do estudante no armazém (ele busca de novo a cada alteração).
+    private void assinar() {
+        // Impede assinar duas vezes ou se nenhum estudante estiver selecionado.
+        if (assinado || estudanteIdAtual == -1) return;
+        armazem.assinarEstudante(estudanteIdAtual, ouvinte);
+        assinado = true;
+    }
+
+    // Cancela a assinatura do estudante atual, se houver.
+    private void cancelarAssinatura() {
+        if (!assinado) return;
+        armazem.cancelarEstudante(estudanteIdAtual, ouvinte);
+        assinado = false;
     }
 
     // Método que deleta um estudante, executado em background (off-thread).
@@ -107,7 +122,7 @@ public class DetalhesEstudanteViewModel extends ViewModel implements DefaultLife
     @Override
     protected void onCleared() {
         super.onCleared();
+        cancelarAssinatura();
         executor.shutdown(); // Encerra o executor e libera a thread usada.
     }
 }
-
@@ -0,0 +1,69 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Diario;
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Conversor JSON escrito à mão para Diario (sem reflexão), usando o conversor de Estudante para cada item.
+public class DiarioTypeAdapter extends TypeAdapter<Diario> {
+
+    // Conversor usado para cada estudante do diário.
+    private final EstudanteTypeAdapter estudanteAdapter;
+
+    // Construtor
+    public DiarioTypeAdapter(EstudanteTypeAdapter estudanteAdapter) {
+        this.estudanteAdapter = estudanteAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, Diario diario) throws IOException {
+        if (diario == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        List<Estudante> estudantes = diario.getEstudantes();
+        if (estudantes != null) {
+            out.name("estudantes").beginArray();
+            for (Estudante estudante : estudantes) {
+                estudanteAdapter.write(out, estudante);
+            }
+            out.endArray();
+        }
+        out.endObject();
+    }
+
+    @Override
+    public Diario read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        Diario diario = new Diario();
+        in.beginObject();
+        while (in.hasNext()) {
+            String nome = in.nextName();
+            if ("estudantes".equals(nome) && in.peek() != JsonToken.NULL) {
+                List<Estudante> estudantes = new ArrayList<>();
+                in.beginArray();
+                while (in.hasNext()) {
+                    estudantes.add(estudanteAdapter.read(in));
+                }
+                in.endArray();
+                diario.setEstudantes(estudantes);
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return diario;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Classe que compara duas listas de estudantes pelo ID e conta quantos foram adicionados,
+// removidos ou alterados entre uma atualização e outra (e guarda os IDs deles)
+public class DiferencaEstudantes {
+
+    // Quantidade de estudantes que não existiam na lista anterior.
+    private final int adicionados;
+
+    // Quantidade de estudantes que deixaram de existir.
+    private final int removidos;
+
+    // Quantidade de estudantes com algum campo diferente.
+    private final int alterados;
+
+    // Indica se os mesmos estudantes vieram em outra ordem.
+    private final boolean ordemAlterada;
+
+    // IDs dos estudantes adicionados, removidos ou alterados (o conjunto só é criado se houver algum).
+    private final Set<Integer> ids;
+
+    // Construtor privado: use calcular().
+    private DiferencaEstudantes(int adicionados, int removidos, int alterados, boolean ordemAlterada,
+                                Set<Integer> ids) {
+        this.adicionados = adicionados;
+        this.removidos = removidos;
+        this.alterados = alterados;
+        this.ordemAlterada = ordemAlterada;
+        this.ids = ids != null ? Collections.unmodifiableSet(ids) : Collections.emptySet();
+    }
+
+    // Compara a lista anterior com a nova.
+    public static DiferencaEstudantes calcular(List<Estudante> anteriores, List<Estudante> novos) {
+        if (anteriores == null || anteriores.isEmpty()) {
+            return new DiferencaEstudantes(novos != null ? novos.size() : 0, 0, 0, false, ids(novos));
+        }
+        if (novos == null || novos.isEmpty()) {
+            return new DiferencaEstudantes(0, anteriores.size(), 0, false, ids(anteriores));
+        }
+
+        // Indexa a lista anterior pelo ID, guardando também a posição de cada estudante.
+        Map<Integer, Integer> posicoes = new HashMap<>(anteriores.size() * 4 / 3 + 1);
+        for (int i = 0; i < anteriores.size(); i++) {
+            posicoes.put(anteriores.get(i).getId(), i);
+        }
+
+        int adicionados = 0;
+        int alterados = 0;
+        int encontrados = 0;
+        int ultimaPosicao = -1;
+        boolean ordemAlterada = false;
+        Set<Integer> ids = null;
+        for (Estudante novo : novos) {
+            // Retira o encontrado do índice: no fim, sobram só os removidos.
+            Integer posicao = posicoes.remove(novo.getId());
+            if (posicao == null) {
+                adicionados++;
+                if (ids == null) ids = new HashSet<>();
+                ids.add(novo.getId());
+                continue;
+            }
+            encontrados++;
+            if (!anteriores.get(posicao).equals(novo)) {
+                alterados++;
+                if (ids == null) ids = new HashSet<>();
+                ids.add(novo.getId());
+            }
+            if (posicao < ultimaPosicao) {
+                ordemAlterada = true;
+            }
+            ultimaPosicao = posicao;
+        }
+        int removidos = anteriores.size() - encontrados;
+        if (removidos > 0) {
+            if (ids == null) ids = new HashSet<>();
+            ids.addAll(posicoes.keySet());
+        }
+        return new DiferencaEstudantes(adicionados, removidos, alterados, ordemAlterada, ids);
+    }
+
+    // IDs de todos os estudantes da lista.
+    private static Set<Integer> ids(List<Estudante> estudantes) {
+        if (estudantes == null) return null;
+        Set<Integer> ids = new HashSet<>();
+        for (Estudante estudante : estudantes) {
+            ids.add(estudante.getId());
+        }
+        return ids;
+    }
+
+    // Getters
+    public int getAdicionados() {
+        return adicionados;
+    }
+
+    public int getRemovidos() {
+        return removidos;
+    }
+
+    public int getAlterados() {
+        return alterados;
+    }
+
+    public boolean isOrdemAlterada() {
+        return ordemAlterada;
+    }
+
+    public Set<Integer> getIds() {
+        return ids;
+    }
+
+    // Indica se houve qualquer mudança entre as listas.
+    public boolean temMudancas() {
+        return adicionados > 0 || removidos > 0 || alterados > 0 || ordemAlterada;
+    }
+
+    @Override
+    public String toString() {
+        return "DiferencaEstudantes{" +
+                "adicionados=" + adicionados +
+                ", removidos=" + removidos +
+                ", alterados=" + alterados +
+                ", ordemAlterada=" + ordemAlterada +
+                '}';
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+// Mudanças nas listas de aprovados e reprovados desde a última vez que a tela as retirou
+// (EstatisticasIncrementais.retirarDiferencaSituacao): os estudantes que entraram ou mudaram, já
+// separados pela situação atual, e os IDs que saíram da turma. Um estudante que trocou de situação
+// aparece só na lista nova, e a tela o tira da outra. Uma diferença completa (depois de reconstruir as
+// estatísticas) traz a turma inteira e substitui as listas da tela.
+public final class DiferencaSituacao {
+
+    // Indica se a diferença traz as listas inteiras.
+    private final boolean completa;
+
+    // Estudantes que entraram ou mudaram em cada lista, por ID.
+    private final List<Estudante> aprovados;
+    private final List<Estudante> reprovados;
+
+    // IDs que saíram da turma.
+    private final Set<Integer> removidos;
+
+    // Construtor
+    DiferencaSituacao(boolean completa, List<Estudante> aprovados, List<Estudante> reprovados, Set<Integer> removidos) {
+        this.completa = completa;
+        this.aprovados = Collections.unmodifiableList(aprovados);
+        this.reprovados = Collections.unmodifiableList(reprovados);
+        this.removidos = Collections.unmodifiableSet(removidos);
+    }
+
+    public boolean isCompleta() {
+        return completa;
+    }
+
+    public List<Estudante> getAprovados() {
+        return aprovados;
+    }
+
+    public List<Estudante> getReprovados() {
+        return reprovados;
+    }
+
+    public Set<Integer> getRemovidos() {
+        return removidos;
+    }
+
+    @Override
+    public String toString() {
+        return "DiferencaSituacao{" +
+                "completa=" + completa +
+                ", aprovados=" + aprovados.size() +
+                ", reprovados=" + reprovados.size() +
+                ", removidos=" + removidos.size() +
+                '}';
+    }
+}
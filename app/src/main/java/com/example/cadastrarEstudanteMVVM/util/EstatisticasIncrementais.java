@@ -0,0 +1,222 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Estatísticas da turma mantidas entre as atualizações, para que um estudante alterado custe só a
+// retirada da sua contribuição antiga e o acréscimo da nova, em vez de recalcular a turma inteira.
+// Cada estudante contribui com a média, a presença e a idade guardadas no momento em que entrou, e é
+// exatamente isso que sai quando ele muda ou é removido.
+// - Somas (médias e idades) e distribuições (AcumuladorDistribuicao) aceitam retirar valores. Para o
+//   arredondamento das retiradas não se acumular, tudo é recalculado a partir das contribuições a cada
+//   RECALCULO alterações.
+// - Maior e menor média saem da ClassificacaoEstudantes recebida no construtor, a mesma que as telas usam
+//   nos placares, e que é mantida por quem a criou (ex.: o repositório, a cada estudante recebido). Em
+//   empate, fica o de maior presença e depois o de menor ID, e não o primeiro da lista como no cálculo
+//   completo.
+// - Aprovados e reprovados ficam ordenados por ID, e não entram no resumo: a tela recebe só o que mudou
+//   desde a última retirada (retirarDiferencaSituacao), para uma alteração não copiar as duas listas.
+// Métodos sincronizados: as alterações chegam pela thread do armazém e o resumo pode ser lido pela tela.
+public class EstatisticasIncrementais {
+
+    // Quantidade de alterações entre dois recálculos completos das somas e distribuições.
+    static final int RECALCULO = 1000;
+
+    // Média mínima e percentual mínimo de presença para aprovação (mesmo critério de Estudante.verificarSituacao).
+    private static final double MEDIA_APROVACAO = 7;
+    private static final double PRESENCA_APROVACAO = 75;
+
+    // Contribuição de cada estudante, por ID.
+    private final Map<Integer, Contribuicao> contribuicoes = new HashMap<>();
+
+    // Somas das médias e das idades.
+    private double somaMedias;
+    private long somaIdades;
+
+    // Distribuições das médias e dos percentuais de presença.
+    private final AcumuladorDistribuicao notas = AcumuladorDistribuicao.paraNotas();
+    private final AcumuladorDistribuicao presencas = AcumuladorDistribuicao.paraPresenca();
+
+    // Classificação pela média (maior e menor média), só consultada aqui.
+    private final ClassificacaoEstudantes classificacao;
+
+    // Aprovados e reprovados, por ID.
+    private final TreeMap<Integer, Estudante> aprovados = new TreeMap<>();
+    private final TreeMap<Integer, Estudante> reprovados = new TreeMap<>();
+
+    // Mudanças de aprovados e reprovados ainda não retiradas pela tela (o último valor de cada ID vale), e se
+    // a próxima diferença deve trazer as listas inteiras (depois de reconstruir).
+    private final Map<Integer, Estudante> situacoesAlteradas = new HashMap<>();
+    private final Set<Integer> situacoesRemovidas = new HashSet<>();
+    private boolean situacoesCompletas;
+
+    // Alterações desde o último recálculo completo.
+    private int alteracoes;
+
+    // Construtor
+    public EstatisticasIncrementais(ClassificacaoEstudantes classificacao) {
+        this.classificacao = classificacao;
+    }
+
+    // Descarta tudo e monta as estatísticas a partir da turma inteira (ex.: ao abrir a tela). As médias e
+    // presenças saem da fotografia em colunas (TurmaColunar), calculadas em paralelo nas turmas grandes
+    // (CalculoEstatisticas.calcularPorEstudante).
+    public synchronized void reconstruir(Collection<Estudante> estudantes) {
+        TurmaColunar turma = TurmaColunar.criar(new ArrayList<>(estudantes));
+        int quantidade = turma.getQuantidade();
+        double[] medias = new double[quantidade];
+        double[] presencasPorEstudante = new double[quantidade];
+        CalculoEstatisticas.calcularPorEstudante(turma, medias, presencasPorEstudante);
+
+        contribuicoes.clear();
+        aprovados.clear();
+        reprovados.clear();
+        situacoesAlteradas.clear();
+        situacoesRemovidas.clear();
+        situacoesCompletas = true;
+        for (int i = 0; i < quantidade; i++) {
+            Contribuicao contribuicao = new Contribuicao(medias[i], presencasPorEstudante[i], turma.idades[i]);
+            contribuicoes.put(turma.ids[i], contribuicao);
+            (contribuicao.aprovado ? aprovados : reprovados).put(turma.ids[i], turma.getEstudante(i));
+        }
+        recalcular();
+    }
+
+    // Aplica uma atualização parcial: os estudantes novos ou alterados e os IDs removidos.
+    public synchronized void aplicar(Collection<Estudante> atualizados, Collection<Integer> removidos) {
+        for (Integer id : removidos) {
+            removerSemSincronizar(id);
+        }
+        for (Estudante estudante : atualizados) {
+            removerSemSincronizar(estudante.getId());
+            adicionarSemSincronizar(estudante);
+        }
+        if (alteracoes >= RECALCULO) recalcular();
+    }
+
+    // Quantidade de estudantes considerados.
+    public synchronized int getQuantidade() {
+        return contribuicoes.size();
+    }
+
+    // Resumo com o estado atual (as distribuições são copiadas, o resumo não muda depois). As listas de
+    // aprovados e reprovados do resumo ficam vazias; veja retirarDiferencaSituacao.
+    public synchronized ResumoEstatisticas getResumo() {
+        int quantidade = contribuicoes.size();
+        if (quantidade == 0) return ResumoEstatisticas.VAZIO;
+        List<Estudante> melhores = classificacao.getMelhores(1);
+        List<Estudante> piores = classificacao.getPiores(1);
+        Estudante maior = melhores.isEmpty() ? null : melhores.get(0);
+        Estudante menor = piores.isEmpty() ? null : piores.get(0);
+        return new ResumoEstatisticas(quantidade, somaMedias / quantidade,
+                maior, media(maior), menor, media(menor),
+                (double) somaIdades / quantidade,
+                Collections.emptyList(), Collections.emptyList(),
+                notas.copiar(), presencas.copiar());
+    }
+
+    // Retira as mudanças de aprovados e reprovados acumuladas desde a última retirada (null se não houver).
+    // Custa o número de estudantes alterados, e não o tamanho da turma, exceto depois de reconstruir,
+    // quando a diferença traz as listas inteiras.
+    public synchronized DiferencaSituacao retirarDiferencaSituacao() {
+        if (situacoesCompletas) {
+            situacoesCompletas = false;
+            return new DiferencaSituacao(true, new ArrayList<>(aprovados.values()),
+                    new ArrayList<>(reprovados.values()), Collections.emptySet());
+        }
+        if (situacoesAlteradas.isEmpty() && situacoesRemovidas.isEmpty()) return null;
+
+        List<Estudante> entraramAprovados = new ArrayList<>();
+        List<Estudante> entraramReprovados = new ArrayList<>();
+        for (Map.Entry<Integer, Estudante> alterado : situacoesAlteradas.entrySet()) {
+            (aprovados.containsKey(alterado.getKey()) ? entraramAprovados : entraramReprovados).add(alterado.getValue());
+        }
+        DiferencaSituacao diferenca = new DiferencaSituacao(false, entraramAprovados, entraramReprovados,
+                new HashSet<>(situacoesRemovidas));
+        situacoesAlteradas.clear();
+        situacoesRemovidas.clear();
+        return diferenca;
+    }
+
+    private void adicionarSemSincronizar(Estudante estudante) {
+        Contribuicao contribuicao = new Contribuicao(estudante);
+        contribuicoes.put(estudante.getId(), contribuicao);
+        somaMedias += contribuicao.media;
+        somaIdades += contribuicao.idade;
+        notas.adicionar(contribuicao.media);
+        presencas.adicionar(contribuicao.presenca);
+        (contribuicao.aprovado ? aprovados : reprovados).put(estudante.getId(), estudante);
+        if (!situacoesCompletas) {
+            situacoesRemovidas.remove(estudante.getId());
+            situacoesAlteradas.put(estudante.getId(), estudante);
+        }
+        alteracoes++;
+    }
+
+    private void removerSemSincronizar(int id) {
+        Contribuicao contribuicao = contribuicoes.remove(id);
+        if (contribuicao == null) return;
+        somaMedias -= contribuicao.media;
+        somaIdades -= contribuicao.idade;
+        notas.remover(contribuicao.media);
+        presencas.remover(contribuicao.presenca);
+        aprovados.remove(id);
+        reprovados.remove(id);
+        if (!situacoesCompletas) {
+            situacoesAlteradas.remove(id);
+            situacoesRemovidas.add(id);
+        }
+        alteracoes++;
+    }
+
+    // Média com que o estudante entrou nas estatísticas (ou a atual, se a classificação já tem um estudante
+    // que ainda não chegou aqui); 0 se não houver estudante.
+    private double media(Estudante estudante) {
+        if (estudante == null) return 0;
+        Contribuicao contribuicao = contribuicoes.get(estudante.getId());
+        return contribuicao != null ? contribuicao.media : estudante.calcularMedia();
+    }
+
+    // Refaz as somas e as distribuições a partir das contribuições guardadas (sem recalcular as médias).
+    private void recalcular() {
+        somaMedias = 0;
+        somaIdades = 0;
+        notas.limpar();
+        presencas.limpar();
+        for (Contribuicao contribuicao : contribuicoes.values()) {
+            somaMedias += contribuicao.media;
+            somaIdades += contribuicao.idade;
+            notas.adicionar(contribuicao.media);
+            presencas.adicionar(contribuicao.presenca);
+        }
+        alteracoes = 0;
+    }
+
+    // Valores com que um estudante entrou nas estatísticas.
+    private static final class Contribuicao {
+        final double media;
+        final double presenca;
+        final int idade;
+        final boolean aprovado;
+
+        Contribuicao(Estudante estudante) {
+            this(estudante.calcularMedia(), estudante.calcularPercentualPresenca(), estudante.getIdade());
+        }
+
+        Contribuicao(double media, double presenca, int idade) {
+            this.media = media;
+            this.presenca = presenca;
+            this.idade = idade;
+            aprovado = media >= MEDIA_APROVACAO && presenca >= PRESENCA_APROVACAO;
+        }
+    }
+}
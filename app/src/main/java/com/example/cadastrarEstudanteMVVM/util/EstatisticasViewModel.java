@@ -11,14 +11,13 @@ import androidx.lifecycle.ViewModel;
 
 import com.example.cadastrarEstudanteMVVM.model.Estudante;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
-// Classe ViewModel que observa e calcula as estatísticas dos estudantes
+// Classe ViewModel que observa e calcula as estatísticas dos estudantes.
+// As estatísticas são mantidas entre as atualizações: cada atualização do armazém traz só os estudantes
+// novos ou alterados e os removidos, e apenas a contribuição deles é refeita. A turma inteira só é
+// percorrida quando a tela volta a assinar (ao abrir ou voltar para a tela). As listas de aprovados e
+// reprovados também chegam à tela só com os estudantes que mudaram (DiferencaSituacao).
 public class EstatisticasViewModel extends ViewModel implements DefaultLifecycleObserver {
 
     // LiveData que armazena a média geral das notas dos estudantes.
@@ -33,103 +32,155 @@ public class EstatisticasViewModel extends ViewModel implements DefaultLifecycle
     // LiveData que armazena a média de idade dos estudantes.
     private final MutableLiveData<Double> mediaIdade = new MutableLiveData<>();
 
-    // LiveData com a lista de estudantes aprovados.
-    private final MutableLiveData<List<Estudante>> aprovados = new MutableLiveData<>();
+    // LiveData que avisa que as listas de aprovados e reprovados mudaram. A tela retira as mudanças com
+    // retirarDiferencaSituacao (avisos seguidos podem chegar como um só; as mudanças ficam acumuladas
+    // nas estatísticas até serem retiradas, então nenhuma se perde).
+    private final MutableLiveData<Boolean> situacoesAlteradas = new MutableLiveData<>();
 
-    // LiveData com a lista de estudantes reprovados.
-    private final MutableLiveData<List<Estudante>> reprovados = new MutableLiveData<>();
+    // LiveData com o desvio padrão das médias dos estudantes.
+    private final MutableLiveData<Double> desvioPadraoNotas = new MutableLiveData<>();
 
-    // Executor que gerencia tarefas em background (thread separada).
-    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    // LiveData com os percentis das médias e dos percentuais de presença (25, 50 e 90).
+    private final MutableLiveData<double[]> percentisNotas = new MutableLiveData<>();
+    private final MutableLiveData<double[]> percentisPresenca = new MutableLiveData<>();
 
-    // Manipulador para controlar a tarefa agendada que calcula estatísticas periodicamente.
-    private ScheduledFuture<?> manipulador;
+    // LiveData com o histograma das médias (classes de 1 ponto, de 0-1 até 9-10).
+    private final MutableLiveData<long[]> histogramaNotas = new MutableLiveData<>();
 
-    // Instância do repositório para acessar os dados dos estudantes.
+    // LiveData com os estudantes de maiores e menores médias (placares), lidos da classificação do repositório.
+    private final MutableLiveData<List<Estudante>> melhores = new MutableLiveData<>();
+    private final MutableLiveData<List<Estudante>> piores = new MutableLiveData<>();
+
+    // Quantidade de estudantes em cada placar.
+    public static final int TAMANHO_PLACAR = 5;
+
+    // Percentis exibidos na tela.
+    public static final double[] PERCENTIS = {25, 50, 90};
+
+    // Quantidade de classes do histograma das médias.
+    public static final int CLASSES_HISTOGRAMA = 10;
+
+    // Repositório que mantém a classificação da turma.
     private final EstudantesRepository repository = EstudantesRepository.getInstance();
 
+    // Armazém compartilhado que faz a atualização periódica para todas as telas.
+    private final ArmazemEstudantes armazem = ArmazemEstudantes.getInstance();
+
+    // Estatísticas mantidas entre as atualizações; maior e menor média vêm da classificação do repositório,
+    // a mesma dos placares.
+    private final EstatisticasIncrementais estatisticas = new EstatisticasIncrementais(repository.getClassificacao());
+
+    // Indica se a próxima entrega deve remontar as estatísticas a partir da turma inteira (ao assinar,
+    // as alterações entregues enquanto a tela estava parada foram perdidas).
+    private volatile boolean reconstruir = true;
+
+    // Ouvinte registrado no armazém; só é chamado quando a lista completa mudou.
+    private final ArmazemEstudantes.OuvinteCompletos ouvinte = resultado -> {
+        if (reconstruir || !resultado.isIncremental()) {
+            reconstruir = false;
+            estatisticas.reconstruir(resultado.getEstudantes());
+        } else {
+            estatisticas.aplicar(resultado.getAtualizados(), resultado.getRemovidos());
+        }
+        // Se houver estudantes válidos, publica as estatísticas.
+        if (estatisticas.getQuantidade() > 0) {
+            publicarEstatisticas(estatisticas.getResumo());
+        }
+        // Avisa a tela das mudanças de aprovados e reprovados (inclusive quando a turma ficou vazia).
+        situacoesAlteradas.postValue(true);
+    };
+
     // Getters públicos para expor os LiveData para a UI observar.
     public LiveData<Double> getMediaGeral() { return mediaGeral; }
     public LiveData<String> getAlunoMaiorNota() { return alunoMaiorNota; }
     public LiveData<String> getAlunoMenorNota() { return alunoMenorNota; }
     public LiveData<Double> getMediaIdade() { return mediaIdade; }
-    public LiveData<List<Estudante>> getAprovados() { return aprovados; }
-    public LiveData<List<Estudante>> getReprovados() { return reprovados; }
+    public LiveData<Boolean> getSituacoesAlteradas() { return situacoesAlteradas; }
+    public LiveData<Double> getDesvioPadraoNotas() { return desvioPadraoNotas; }
+    public LiveData<double[]> getPercentisNotas() { return percentisNotas; }
+    public LiveData<double[]> getPercentisPresenca() { return percentisPresenca; }
+    public LiveData<long[]> getHistogramaNotas() { return histogramaNotas; }
+    public LiveData<List<Estudante>> getMelhores() { return melhores; }
+    public LiveData<List<Estudante>> getPiores() { return piores; }
 
     // Método chamado automaticamente quando o ciclo de vida entra em estado STARTED.
     @Override
     public void onStart(@NonNull LifecycleOwner lifecycleOwner) {
-        // Se já existe uma tarefa em execução, evita duplicação.
-        if (manipulador != null && !manipulador.isCancelled()) return;
-
-        // Agenda tarefa para rodar a cada 30 segundos, iniciando imediatamente.
-        manipulador = executor.scheduleWithFixedDelay(() -> {
-            try {
-                // Busca a lista completa dos estudantes (com notas e presença).
-                List<Estudante> estudantesCompletos = repository.buscarTodosEstudantesCompletos();
-
-                // Se houver estudantes válidos, calcula as estatísticas.
-                if (estudantesCompletos != null && !estudantesCompletos.isEmpty()) {
-                    calcularEAtualizarEstatisticas(estudantesCompletos);
-                }
-            } catch (Exception e) {
-                Log.e("EstatisticasVM", "Erro ao calcular estatísticas!", e);
-            }
-        }, 0, 30, TimeUnit.SECONDS);
+        // Assina a lista completa (com notas e presença); o armazém a atualiza a cada alteração.
+        reconstruir = true;
+        armazem.assinarCompletos(ouvinte);
     }
 
     // Método chamado automaticamente quando o ciclo de vida entra em estado STOPPED.
     @Override
     public void onStop(@NonNull LifecycleOwner lifecycleOwner) {
-        // Cancela a tarefa periódica se estiver ativa.
-        if (manipulador != null) {
-            manipulador.cancel(false);
-        }
+        // Cancela a assinatura quando a tela não estiver mais visível.
+        armazem.cancelarCompletos(ouvinte);
     }
 
-    // Método que processa os dados dos estudantes e atualiza os LiveData com os resultados.
-    private void calcularEAtualizarEstatisticas(List<Estudante> estudantes) {
-        // Verifica se a lista está vazia ou nula.
-        if (estudantes == null || estudantes.isEmpty()) {
+    // Método que atualiza os LiveData com o resumo das estatísticas.
+    private void publicarEstatisticas(ResumoEstatisticas resumo) {
+        // Verifica se a turma está vazia.
+        if (resumo.getQuantidade() == 0) {
             Log.w("EstatisticasVM", "Lista de estudantes vazia!");
             return;
         }
 
         try {
-            // Calcula a média geral e publica no LiveData.
-            mediaGeral.postValue(CalculoEstatisticas.calcularMediaGeral(estudantes));
+            // Publica a média geral no LiveData.
+            mediaGeral.postValue(resumo.getMediaGeral());
 
-            // Busca o aluno com maior nota e publica o nome + média no LiveData.
-            Estudante maiorNota = CalculoEstatisticas.encontrarMaiorNota(estudantes);
+            // Publica o aluno com maior nota (nome + média) no LiveData.
+            Estudante maiorNota = resumo.getMaiorNota();
             alunoMaiorNota.postValue(maiorNota != null ?
-                    String.format("%s (%.2f)", maiorNota.getNome(), maiorNota.calcularMedia()) : "Nenhum");
+                    String.format("%s (%.2f)", maiorNota.getNome(), resumo.getMediaMaiorNota()) : "Nenhum");
 
-            // Busca o aluno com menor nota e publica o nome + média no LiveData.
-            Estudante menorNota = CalculoEstatisticas.encontrarMenorNota(estudantes);
+            // Publica o aluno com menor nota (nome + média) no LiveData.
+            Estudante menorNota = resumo.getMenorNota();
             alunoMenorNota.postValue(menorNota != null ?
-                    String.format("%s (%.2f)", menorNota.getNome(), menorNota.calcularMedia()) : "Nenhum");
+                    String.format("%s (%.2f)", menorNota.getNome(), resumo.getMediaMenorNota()) : "Nenhum");
 
-            // Calcula a média de idade e atualiza o LiveData.
-            mediaIdade.postValue(CalculoEstatisticas.calcularMediaIdade(estudantes));
+            // Publica a média de idade no LiveData.
+            mediaIdade.postValue(resumo.getMediaIdade());
 
-            // Atualiza a lista de estudantes aprovados.
-            List<Estudante> listaAprovados = CalculoEstatisticas.getAprovados(estudantes);
-            aprovados.postValue(listaAprovados != null ? listaAprovados : new ArrayList<>());
+            // Publica a distribuição das médias e da presença (calculada na mesma passada).
+            AcumuladorDistribuicao notas = resumo.getDistribuicaoNotas();
+            AcumuladorDistribuicao presenca = resumo.getDistribuicaoPresenca();
+            desvioPadraoNotas.postValue(notas.getDesvioPadrao());
+            percentisNotas.postValue(percentis(notas));
+            percentisPresenca.postValue(percentis(presenca));
+            histogramaNotas.postValue(notas.getHistograma(CLASSES_HISTOGRAMA));
 
-            // Atualiza a lista de estudantes reprovados.
-            List<Estudante> listaReprovados = CalculoEstatisticas.getReprovados(estudantes);
-            reprovados.postValue(listaReprovados != null ? listaReprovados : new ArrayList<>());
+            // Placares: a classificação já foi atualizada pelo repositório a cada estudante recebido,
+            // então basta ler as pontas da árvore (sem ordenar a turma).
+            melhores.postValue(repository.buscarMelhores(TAMANHO_PLACAR));
+            piores.postValue(repository.buscarPiores(TAMANHO_PLACAR));
 
         } catch (Exception e) {
             Log.e("EstatisticasVM", "Erro ao calcular estatísticas", e);
         }
     }
 
-    // Método chamado quando o ViewModel for destruído — finaliza o executor para liberar a thread.
+    // Retira as mudanças de aprovados e reprovados desde a última retirada (null se não houver); uma
+    // diferença completa substitui as listas da tela.
+    public DiferencaSituacao retirarDiferencaSituacao() {
+        return estatisticas.retirarDiferencaSituacao();
+    }
+
+    // Estima os percentis exibidos na tela.
+    private static double[] percentis(AcumuladorDistribuicao distribuicao) {
+        double[] valores = new double[PERCENTIS.length];
+        for (int i = 0; i < PERCENTIS.length; i++) {
+            valores[i] = distribuicao.getPercentil(PERCENTIS[i]);
+        }
+        return valores;
+    }
+
+    // Método chamado quando o ViewModel for destruído — garante que a assinatura não fique ativa.
     @Override
     protected void onCleared() {
         super.onCleared();
-        executor.shutdown();
+        armazem.cancelarCompletos(ouvinte);
     }
 }
 
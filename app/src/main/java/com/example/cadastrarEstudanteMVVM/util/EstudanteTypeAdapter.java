@@ -0,0 +1,129 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.model.ListaNotas;
+import com.example.cadastrarEstudanteMVVM.model.ListaPresenca;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.List;
+
+// Conversor JSON escrito à mão para Estudante (sem reflexão).
+// Lê e escreve os campos diretamente com JsonReader/JsonWriter, no mesmo formato do Gson reflexivo:
+// campos desconhecidos são ignorados e campos nulos não são escritos.
+public class EstudanteTypeAdapter extends TypeAdapter<Estudante> {
+
+    @Override
+    public void write(JsonWriter out, Estudante estudante) throws IOException {
+        if (estudante == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(estudante.getId());
+        if (estudante.getNome() != null) {
+            out.name("nome").value(estudante.getNome());
+        }
+        out.name("idade").value(estudante.getIdade());
+
+        List<Double> notas = estudante.getNotas();
+        if (notas != null) {
+            out.name("notas").beginArray();
+            if (notas instanceof ListaNotas) {
+                // Lê direto do double[], sem criar um Double por nota.
+                ListaNotas primitivas = (ListaNotas) notas;
+                for (int i = 0; i < primitivas.size(); i++) {
+                    out.value(primitivas.getNota(i));
+                }
+            } else {
+                for (int i = 0; i < notas.size(); i++) {
+                    out.value(notas.get(i).doubleValue());
+                }
+            }
+            out.endArray();
+        }
+
+        List<Boolean> presenca = estudante.getPresenca();
+        if (presenca != null) {
+            out.name("presenca").beginArray();
+            if (presenca instanceof ListaPresenca) {
+                ListaPresenca bits = (ListaPresenca) presenca;
+                for (int i = 0; i < bits.size(); i++) {
+                    out.value(bits.isPresente(i));
+                }
+            } else {
+                for (int i = 0; i < presenca.size(); i++) {
+                    out.value(presenca.get(i).booleanValue());
+                }
+            }
+            out.endArray();
+        }
+        out.endObject();
+    }
+
+    @Override
+    public Estudante read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        Estudante estudante = new Estudante();
+        in.beginObject();
+        while (in.hasNext()) {
+            String nome = in.nextName();
+            // Campo nulo: mantém o valor padrão, como no Gson reflexivo.
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (nome) {
+                case "id":
+                    estudante.setId(in.nextInt());
+                    break;
+                case "nome":
+                    estudante.setNome(in.nextString());
+                    break;
+                case "idade":
+                    estudante.setIdade(in.nextInt());
+                    break;
+                case "notas":
+                    estudante.setNotas(lerNotas(in));
+                    break;
+                case "presenca":
+                    estudante.setPresenca(lerPresenca(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+        in.endObject();
+        return estudante;
+    }
+
+    // Lê o array de notas direto para o double[] da lista final (o Estudante usa a lista sem copiar).
+    private static ListaNotas lerNotas(JsonReader in) throws IOException {
+        ListaNotas notas = new ListaNotas();
+        in.beginArray();
+        while (in.hasNext()) {
+            notas.adicionarNota(in.nextDouble());
+        }
+        in.endArray();
+        return notas;
+    }
+
+    // Lê o array de presenças direto para os bits da lista final (o Estudante usa a lista sem copiar).
+    private static ListaPresenca lerPresenca(JsonReader in) throws IOException {
+        ListaPresenca presenca = new ListaPresenca();
+        in.beginArray();
+        while (in.hasNext()) {
+            presenca.adicionarPresenca(in.nextBoolean());
+        }
+        in.endArray();
+        return presenca;
+    }
+}
@@ -1,15 +1,42 @@
 package com.example.cadastrarEstudanteMVVM.util;
 
+import android.content.Context;
 import android.util.Log;
 
 import com.example.cadastrarEstudanteMVVM.model.Estudante;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Type;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 // Classe repositório para acesso e manipulação de dados dos estudantes
 public class EstudantesRepository {
@@ -23,14 +50,129 @@ public class EstudantesRepository {
     // Objeto responsável por realizar conexões HTTP.
     private final Conexao conexao = new Conexao();
 
-    // URL base da API de estudantes (ajustada para uso com emulador Android local).
-    private final String URL = "https://10.0.2.2:8080/estudantes/";
+    // URL base padrão da API de estudantes (ajustada para uso com emulador Android local).
+    private static final String URL_PADRAO = "https://10.0.2.2:8080/estudantes/";
 
-    // Instância da biblioteca Gson para converter objetos Java em JSON e vice-versa.
-    private final Gson gson = new Gson();
+    // URL base da API de estudantes usada por esta instância.
+    private final String URL;
+
+    // Quantidade padrão de requisições de detalhes executadas ao mesmo tempo.
+    public static final int PARALELISMO_PADRAO = 8;
+
+    // Prazo padrão (em milissegundos) para buscar os detalhes de todos os estudantes.
+    public static final long PRAZO_PADRAO_MS = 20_000;
+
+    // Máximo de threads do executor das requisições em lote, somadas todas as chamadas em andamento (um
+    // paralelismo maior pedido em uma chamada fica limitado a isso).
+    static final int MAXIMO_THREADS_LOTE = 2 * PARALELISMO_PADRAO;
+
+    // Tempo (em segundos) que uma thread do executor das requisições em lote fica ociosa antes de ser encerrada.
+    private static final long TEMPO_OCIOSO_LOTE_S = 30;
+
+    // Nome do arquivo (em assets) com o certificado do servidor de desenvolvimento.
+    private static final String CERTIFICADO_DESENVOLVIMENTO = "certificado_dev.crt";
+
+    // Tamanho máximo (em bytes) do cache de respostas em disco.
+    private static final long TAMANHO_MAXIMO_CACHE = 5 * 1024 * 1024;
+
+    // Quantidade máxima de tentativas de um acréscimo quando a versão do estudante muda no servidor.
+    private static final int MAXIMO_TENTATIVAS_ACRESCIMO = 3;
+
+    // Última lista decodificada, reaproveitada quando o servidor responde 304.
+    private volatile List<Estudante> ultimaLista;
+
+    // Índice de busca por nome, sincronizado com cada lista completa decodificada.
+    private final IndiceNomes indice = new IndiceNomes();
+
+    // Classificação da turma por média e presença, atualizada a cada estudante recebido com notas.
+    private final ClassificacaoEstudantes classificacao = new ClassificacaoEstudantes();
+
+    // Últimos detalhes decodificados por ID, reaproveitados quando o servidor responde 304.
+    private final Map<Integer, Estudante> detalhes = new ConcurrentHashMap<>();
+
+    // Busca incremental dos dados completos: entradas da lista e detalhes entregues na chamada anterior,
+    // por ID (acessados somente dentro de buscarCompletosAlterados).
+    private Map<Integer, Estudante> entradasEntregues = new HashMap<>();
+    private final Map<Integer, Estudante> entregues = new HashMap<>();
+
+    // Última versão (ETag) conhecida de cada estudante, usada nas escritas condicionais.
+    private final Map<Integer, String> versoes = new ConcurrentHashMap<>();
+
+    // Indica se o servidor aceita os acréscimos de nota/presença (POST /estudantes/{id}/notas|presenca).
+    // Passa a false quando um servidor antigo responde que a rota não existe; daí em diante usa GET + PUT.
+    private volatile boolean acrescimoSuportado = true;
+
+    // Indica se o servidor aceita lotes de lançamentos (POST /estudantes/lancamentos). Passa a false
+    // quando um servidor antigo responde que a rota não existe; daí em diante os lançamentos são
+    // enviados um a um, em paralelo.
+    private volatile boolean loteSuportado = true;
+
+    // Indica se o servidor pagina a lista (GET /estudantes/?_start=&_limit=). Passa a false quando um
+    // servidor antigo ignora os parâmetros e devolve a lista inteira; daí em diante as páginas são
+    // recortadas da lista completa.
+    private volatile boolean paginacaoSuportada = true;
+
+    // Indica se o servidor tem o fluxo de alterações (GET /estudantes/eventos). Passa a false quando um
+    // servidor antigo responde que a rota não existe; daí em diante só a consulta periódica é usada.
+    private volatile boolean eventosSuportados = true;
+
+    // Tempo máximo (em milissegundos) sem receber nada do fluxo de alterações (nem o "ping" que o
+    // servidor envia a cada 15 segundos) antes de considerar a conexão perdida.
+    public static final int TEMPO_LIMITE_EVENTOS_MS = 45_000;
+
+    // Requisições GET em andamento, por chave ("lista" ou "estudante:<id>"). Quem pede o mesmo dado
+    // enquanto a requisição não termina aguarda e recebe o mesmo resultado, sem abrir outra conexão.
+    private final Map<String, CompletableFuture<Object>> emAndamento = new ConcurrentHashMap<>();
+
+    // Quantidade de chamadas atendidas por uma requisição que já estava em andamento.
+    private final AtomicLong chamadasAgrupadas = new AtomicLong();
+
+    // Executor das requisições em lote (detalhes dos estudantes e lançamentos enviados um a um),
+    // compartilhado por todas as chamadas em vez de um pool novo por chamada: no máximo
+    // MAXIMO_THREADS_LOTE threads, criadas sob demanda e encerradas depois de TEMPO_OCIOSO_LOTE_S sem uso.
+    // Cada chamada respeita o seu paralelismo enviando só essa quantidade de trabalhadores (executarEmLote).
+    private final ThreadPoolExecutor executorLote = criarExecutorLote();
+
+    // Indica se o cache em disco já foi configurado.
+    private boolean inicializado;
 
     // Construtor privado para garantir singleton.
-    private EstudantesRepository() {}
+    private EstudantesRepository() {
+        this(URL_PADRAO);
+    }
+
+    // Construtor com outra URL base (ex.: servidor local nos testes).
+    EstudantesRepository(String url) {
+        this.URL = url;
+    }
+
+    // Cria o executor das requisições em lote (threads daemon, para não segurar o encerramento do processo).
+    private static ThreadPoolExecutor criarExecutorLote() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAXIMO_THREADS_LOTE, MAXIMO_THREADS_LOTE,
+                TEMPO_OCIOSO_LOTE_S, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), tarefa -> {
+                    Thread thread = new Thread(tarefa, "EstudantesRepo-lote");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // Executa "tarefa" para cada item da fila no executor compartilhado, com no máximo "paralelismo"
+    // itens ao mesmo tempo: são enviados só "paralelismo" trabalhadores, e cada um retira o próximo item
+    // até a fila acabar. Para interromper, quem chamou esvazia a fila e cancela os trabalhadores devolvidos.
+    private <T> List<Future<?>> executarEmLote(Queue<T> fila, int paralelismo, Consumer<T> tarefa) {
+        List<Future<?>> trabalhadores = new ArrayList<>(paralelismo);
+        for (int i = 0; i < paralelismo; i++) {
+            trabalhadores.add(executorLote.submit(() -> {
+                T item;
+                while ((item = fila.poll()) != null) {
+                    tarefa.accept(item);
+                }
+            }));
+        }
+        return trabalhadores;
+    }
 
     // Método para obter a instância única da classe.
     public static synchronized EstudantesRepository getInstance() {
@@ -40,6 +182,24 @@ public class EstudantesRepository {
         return instance;
     }
 
+    // Configura o cache de respostas em disco e o TLS (deve ser chamado uma vez, com o contexto da aplicação).
+    public synchronized void inicializar(Context context) {
+        if (inicializado) return;
+        File diretorio = new File(context.getCacheDir(), "respostas");
+        conexao.setCache(new CacheRespostas(diretorio, TAMANHO_MAXIMO_CACHE));
+
+        // Se o certificado do servidor de desenvolvimento estiver nos assets, confia apenas nele;
+        // caso contrário, usa as autoridades certificadoras do sistema.
+        try (InputStream certificado = context.getAssets().open(CERTIFICADO_DESENVOLVIMENTO)) {
+            Conexao.configurarTls(ConfiguracaoTls.certificadoFixado(certificado));
+        } catch (FileNotFoundException e) {
+            Log.i("EstudantesRepo", "Sem certificado de desenvolvimento; usando a confiança do sistema");
+        } catch (IOException e) {
+            Log.e("EstudantesRepo", "Erro ao carregar o certificado de desenvolvimento", e);
+        }
+        inicializado = true;
+    }
+
     // Define a lista local de estudantes.
     public void setEstudantes(List<Estudante> estudantes) {
         this.estudantes = estudantes;
@@ -48,15 +208,7 @@ public class EstudantesRepository {
     // Busca todos os estudantes da API com dados básicos (nome, id, etc.).
     public List<Estudante> buscarTodosEstudantes() {
         try {
-            // Realiza requisição GET.
-            InputStream resposta = conexao.fazerRequisicao(URL, "GET", null);
-
-            // Converte resposta em JSON.
-            String json = conexao.converter(resposta);
-
-            // Converte JSON para lista de objetos Estudante.
-            Type listType = new TypeToken<List<Estudante>>(){}.getType();
-            return gson.fromJson(json, listType);
+            return consultarLista().getDados();
         } catch (Exception e) {
             // Em caso de erro, loga a exceção e retorna uma lista vazia.
             Log.e("EstudantesRepo", "Erro ao buscar estudantes", e);
@@ -64,15 +216,24 @@ public class EstudantesRepository {
         }
     }
 
+    // Busca a lista de estudantes informando se ela mudou desde a última consulta.
+    // Quando não mudou, a lista anterior é devolvida sem decodificar o JSON novamente.
+    // Retorna null em caso de erro.
+    public ResultadoConsulta<List<Estudante>> buscarTodosEstudantesSeAlterado() {
+        try {
+            return consultarLista();
+        } catch (Exception e) {
+            Log.e("EstudantesRepo", "Erro ao buscar estudantes", e);
+            return null;
+        }
+    }
+
     // Busca informações detalhadas de um estudante específico a partir de seu ID.
+    // Retorna uma cópia, que pode ser alterada por quem chamou (ex.: antes de um PUT) sem afetar o
+    // objeto compartilhado com as outras telas.
     public Estudante buscarDadosEstudante(int id) {
         try {
-            // Requisição GET para o endpoint do estudante específico.
-            InputStream resposta = conexao.fazerRequisicao(URL + id, "GET", null);
-
-            // Converte resposta JSON para objeto Estudante.
-            String json = conexao.converter(resposta);
-            return gson.fromJson(json, Estudante.class);
+            return copiar(consultarEstudante(id).getDados());
         } catch (Exception e) {
             // Loga erro e retorna null em caso de falha.
             Log.e("EstudantesRepo", "Erro ao buscar estudante ID: " + id, e);
@@ -80,14 +241,318 @@ public class EstudantesRepository {
         }
     }
 
+    // Busca os detalhes de um estudante informando se mudaram desde a última consulta.
+    // Retorna null em caso de erro.
+    public ResultadoConsulta<Estudante> buscarDadosEstudanteSeAlterado(int id) {
+        try {
+            return consultarEstudante(id);
+        } catch (Exception e) {
+            Log.e("EstudantesRepo", "Erro ao buscar estudante ID: " + id, e);
+            return null;
+        }
+    }
+
+    // Busca a lista de estudantes entregando cada um ao ouvinte assim que é decodificado, para que a
+    // tela possa começar a exibir antes de a resposta terminar de chegar. Se a lista não mudou
+    // (304), os estudantes já em memória são entregues. Retorna null em caso de erro.
+    public ResultadoConsulta<List<Estudante>> buscarTodosEstudantesEmFluxo(OnEstudanteLidoListener ouvinte) {
+        try {
+            return consultarLista(ouvinte);
+        } catch (Exception e) {
+            Log.e("EstudantesRepo", "Erro ao buscar estudantes", e);
+            return null;
+        }
+    }
+
+    // Abre o fluxo de alterações do servidor (um evento por estudante criado, alterado ou removido).
+    // "ultimoEvento" é o ID do último evento recebido antes de a conexão cair (null na primeira vez).
+    // Lança IOException se o fluxo não puder ser aberto (e marca o servidor como sem fluxo se a rota
+    // não existir).
+    public FluxoEventos abrirAlteracoes(String ultimoEvento) throws IOException {
+        if (!eventosSuportados) throw new IOException("Servidor sem fluxo de alterações");
+        FluxoEventos fluxo = conexao.abrirEventos(URL + "eventos", ultimoEvento, TEMPO_LIMITE_EVENTOS_MS);
+        int codigo = fluxo.getCodigo();
+        if (codigo == HttpURLConnection.HTTP_OK) return fluxo;
+        fluxo.close();
+        if (codigo == HttpURLConnection.HTTP_NOT_FOUND || codigo == HttpURLConnection.HTTP_BAD_METHOD
+                || codigo == HttpURLConnection.HTTP_NOT_IMPLEMENTED) {
+            Log.i("EstudantesRepo", "Servidor sem fluxo de alterações; usando só a consulta periódica");
+            eventosSuportados = false;
+        }
+        throw new IOException("HTTP " + codigo + " em GET " + URL + "eventos");
+    }
+
+    // Indica se vale a pena tentar abrir o fluxo de alterações.
+    public boolean isAlteracoesSuportadas() {
+        return eventosSuportados;
+    }
+
+    // Busca estudantes pelo nome (sem diferenciar acentos e maiúsculas), pelo começo das palavras ou por
+    // trechos de três letras ou mais. Consulta só o índice em memória, sem acessar a rede: o índice
+    // acompanha a última lista completa recebida (ex.: pela atualização periódica do ArmazemEstudantes).
+    public List<Estudante> buscarPorNome(String consulta, int limite) {
+        return indice.buscar(consulta, limite);
+    }
+
+    // Quantidade de estudantes no índice de busca (0 enquanto nenhuma lista completa foi recebida).
+    public int getEstudantesIndexados() {
+        return indice.getQuantidade();
+    }
+
+    // Posição do estudante na classificação da turma (1 = maior média; empates na mesma posição),
+    // ou 0 se ele ainda não foi classificado. Não acessa a rede.
+    public int getPosicaoNaTurma(int id) {
+        return classificacao.getPosicao(id);
+    }
+
+    // Quantidade de estudantes classificados.
+    public int getTamanhoClassificacao() {
+        return classificacao.getQuantidade();
+    }
+
+    // Classificação da turma mantida pelo repositório, para quem precisa consultá-la diretamente (ex.: as
+    // estatísticas, que assim usam a mesma ordem dos placares).
+    public ClassificacaoEstudantes getClassificacao() {
+        return classificacao;
+    }
+
+    // Indica se a classificação cobre a turma inteira da última lista recebida. A lista traz só os dados
+    // básicos, então um estudante só é classificado depois que os detalhes dele chegam; antes disso a
+    // posição compararia apenas os que já foram buscados.
+    public boolean isClassificacaoCompleta() {
+        List<Estudante> lista = ultimaLista;
+        return lista != null && classificacao.getQuantidade() == lista.size();
+    }
+
+    // Os estudantes com as maiores médias (do primeiro para baixo). Não acessa a rede.
+    public List<Estudante> buscarMelhores(int quantidade) {
+        return classificacao.getMelhores(quantidade);
+    }
+
+    // Os estudantes com as menores médias (do último para cima). Não acessa a rede.
+    public List<Estudante> buscarPiores(int quantidade) {
+        return classificacao.getPiores(quantidade);
+    }
+
+    // Busca uma página da lista de estudantes: no máximo "quantidade" estudantes a partir da posição
+    // "inicio". Cada página é um GET condicional próprio. Retorna null em caso de erro.
+    public PaginaEstudantes buscarPagina(int inicio, int quantidade) {
+        try {
+            if (paginacaoSuportada) {
+                String url = URL + "?_start=" + inicio + "&_limit=" + quantidade;
+                try (RespostaHttp resposta = conexao.fazerRequisicaoCondicional(url)) {
+                    List<Estudante> estudantes = lerLista(resposta.getCorpo(), null);
+                    if (estudantes.size() <= quantidade) {
+                        // Página cheia: pode haver mais estudantes depois dela.
+                        return new PaginaEstudantes(inicio, estudantes, estudantes.size() == quantidade);
+                    }
+                    // Veio mais do que o pedido: o servidor ignorou a paginação e devolveu a lista inteira.
+                    Log.w("EstudantesRepo", "Servidor sem paginação; as páginas serão recortadas da lista completa");
+                    paginacaoSuportada = false;
+                    return recortar(estudantes, inicio, quantidade);
+                }
+            }
+            return recortar(consultarLista().getDados(), inicio, quantidade);
+        } catch (Exception e) {
+            Log.e("EstudantesRepo", "Erro ao buscar a página de estudantes a partir de " + inicio, e);
+            return null;
+        }
+    }
+
+    // Recorta uma página da lista completa.
+    private static PaginaEstudantes recortar(List<Estudante> estudantes, int inicio, int quantidade) {
+        int fim = Math.min(inicio + quantidade, estudantes.size());
+        List<Estudante> pagina = inicio < fim ? new ArrayList<>(estudantes.subList(inicio, fim)) : new ArrayList<>();
+        return new PaginaEstudantes(inicio, pagina, fim < estudantes.size());
+    }
+
+    // Interface para receber cada estudante à medida que a lista é decodificada.
+    public interface OnEstudanteLidoListener {
+        void onEstudanteLido(Estudante estudante);
+    }
+
+    // Quantidade de chamadas que aproveitaram uma requisição já em andamento (requisições economizadas).
+    public long getChamadasAgrupadas() {
+        return chamadasAgrupadas.get();
+    }
+
+    // Chamada de rede que pode ser compartilhada entre várias threads.
+    private interface Requisicao<T> {
+        T executar() throws IOException;
+    }
+
+    // Executa a requisição, ou aguarda a que já está em andamento para a mesma chave e devolve o
+    // mesmo resultado (ou a mesma exceção). A chave é liberada assim que a requisição termina, então
+    // chamadas posteriores fazem uma nova requisição (condicional) normalmente.
+    @SuppressWarnings("unchecked")
+    private <T> T compartilhar(String chave, Requisicao<T> requisicao) throws IOException {
+        CompletableFuture<Object> nova = new CompletableFuture<>();
+        CompletableFuture<Object> existente = emAndamento.putIfAbsent(chave, nova);
+        if (existente != null) {
+            chamadasAgrupadas.incrementAndGet();
+            try {
+                return (T) existente.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrompido aguardando " + chave);
+            } catch (ExecutionException e) {
+                Throwable causa = e.getCause();
+                if (causa instanceof IOException) throw (IOException) causa;
+                if (causa instanceof RuntimeException) throw (RuntimeException) causa;
+                if (causa instanceof Error) throw (Error) causa;
+                throw new IOException(causa);
+            }
+        }
+
+        try {
+            T resultado = requisicao.executar();
+            nova.complete(resultado);
+            return resultado;
+        } catch (IOException | RuntimeException | Error e) {
+            nova.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, nova);
+        }
+    }
+
+    // GET condicional da lista de estudantes.
+    private ResultadoConsulta<List<Estudante>> consultarLista() throws IOException {
+        return consultarLista(null);
+    }
+
+    // GET condicional da lista de estudantes, compartilhado com chamadas simultâneas.
+    // Quem aguardou outra requisição recebe os estudantes no ouvinte depois que a lista chega.
+    private ResultadoConsulta<List<Estudante>> consultarLista(OnEstudanteLidoListener ouvinte) throws IOException {
+        boolean[] executou = new boolean[1];
+        ResultadoConsulta<List<Estudante>> consulta = compartilhar("lista", () -> {
+            executou[0] = true;
+            return requisitarLista(ouvinte);
+        });
+        if (!executou[0] && ouvinte != null) {
+            for (Estudante estudante : consulta.getDados()) {
+                ouvinte.onEstudanteLido(estudante);
+            }
+        }
+        return consulta;
+    }
+
+    // GET condicional da lista de estudantes, decodificando direto do fluxo da resposta.
+    private ResultadoConsulta<List<Estudante>> requisitarLista(OnEstudanteLidoListener ouvinte) throws IOException {
+        try (RespostaHttp resposta = conexao.fazerRequisicaoCondicional(URL)) {
+            // 304 com a lista já decodificada em memória: nada a decodificar.
+            List<Estudante> anterior = ultimaLista;
+            if (resposta.isNaoModificado() && anterior != null) {
+                if (ouvinte != null) {
+                    for (Estudante estudante : anterior) {
+                        ouvinte.onEstudanteLido(estudante);
+                    }
+                }
+                return new ResultadoConsulta<>(anterior, false);
+            }
+
+            List<Estudante> lista = lerLista(resposta.getCorpo(), ouvinte);
+            ultimaLista = lista;
+            indice.atualizar(lista);
+            classificar(lista);
+            return new ResultadoConsulta<>(lista, true);
+        }
+    }
+
+    // Decodifica um array JSON de estudantes elemento por elemento, sem montar o texto inteiro em memória.
+    private List<Estudante> lerLista(InputStream corpo, OnEstudanteLidoListener ouvinte) throws IOException {
+        List<Estudante> lista = new ArrayList<>();
+        try {
+            JsonReader reader = new JsonReader(Conexao.criarLeitor(corpo));
+            if (reader.peek() == JsonToken.NULL) {
+                return lista;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                Estudante estudante = ConversorJson.lerEstudante(reader);
+                lista.add(estudante);
+                if (ouvinte != null) {
+                    ouvinte.onEstudanteLido(estudante);
+                }
+            }
+            reader.endArray();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IOException("JSON inválido na lista de estudantes", e);
+        } catch (EOFException e) {
+            // Corpo vazio: trata como lista vazia, como o Gson fazia com a String.
+            if (!lista.isEmpty()) throw e;
+        }
+        return lista;
+    }
+
+    // GET condicional dos detalhes de um estudante, compartilhado com chamadas simultâneas para o mesmo ID.
+    private ResultadoConsulta<Estudante> consultarEstudante(int id) throws IOException {
+        return compartilhar("estudante:" + id, () -> requisitarEstudante(id));
+    }
+
+    // GET condicional dos detalhes de um estudante.
+    private ResultadoConsulta<Estudante> requisitarEstudante(int id) throws IOException {
+        try (RespostaHttp resposta = conexao.fazerRequisicaoCondicional(URL + id)) {
+            // 304 com o estudante já decodificado em memória: nada a decodificar.
+            Estudante anterior = detalhes.get(id);
+            if (resposta.isNaoModificado() && anterior != null) {
+                return new ResultadoConsulta<>(anterior, false);
+            }
+
+            // Decodifica o estudante direto do fluxo da resposta.
+            Estudante estudante = lerEstudante(resposta.getCorpo(), id);
+            registrar(id, estudante, resposta.getEtag());
+            return new ResultadoConsulta<>(estudante, true);
+        }
+    }
+
+    // Decodifica um estudante direto do fluxo de uma resposta.
+    private static Estudante lerEstudante(InputStream corpo, int id) throws IOException {
+        Estudante estudante;
+        try {
+            JsonReader reader = new JsonReader(Conexao.criarLeitor(corpo));
+            estudante = reader.peek() == JsonToken.NULL ? null : ConversorJson.lerEstudante(reader);
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IOException("JSON inválido para o estudante ID: " + id, e);
+        } catch (EOFException e) {
+            estudante = null;
+        }
+        if (estudante == null) {
+            throw new IOException("Resposta vazia para o estudante ID: " + id);
+        }
+        return estudante;
+    }
+
+    // Atualiza a classificação com a lista recebida: retira quem saiu e reposiciona quem veio com notas
+    // (uma lista só com os dados básicos não altera as posições).
+    private void classificar(List<Estudante> lista) {
+        Set<Integer> ids = new HashSet<>();
+        for (Estudante estudante : lista) {
+            ids.add(estudante.getId());
+            if (estudante.getNotas() != null) classificacao.atualizar(estudante);
+        }
+        classificacao.manterSomente(ids);
+    }
+
+    // Guarda os detalhes recebidos do servidor e a versão correspondente.
+    private void registrar(int id, Estudante estudante, String versao) {
+        detalhes.put(id, estudante);
+        classificacao.atualizar(estudante);
+        if (versao != null) versoes.put(id, versao);
+        else versoes.remove(id);
+    }
+
+    // Cria uma cópia independente do estudante (o construtor copia as listas de notas e presença).
+    private static Estudante copiar(Estudante estudante) {
+        return new Estudante(estudante.getId(), estudante.getNome(), estudante.getIdade(),
+                estudante.getNotas(), estudante.getPresenca());
+    }
+
     // Cadastra um novo estudante enviando dados via POST.
     public boolean cadastrarEstudante(Estudante estudante) {
         try {
-            // Converte estudante para JSON.
-            String json = gson.toJson(estudante);
-
-            // Envia requisição POST com o JSON.
-            conexao.enviarPost(URL, json);
+            // Envia requisição POST com o estudante escrito como JSON direto na conexão.
+            conexao.enviarPost(URL, writer -> ConversorJson.escreverEstudante(writer, estudante));
             return true;
         } catch (Exception e) {
             // Loga erro e retorna false em caso de falha.
@@ -99,11 +564,14 @@ public class EstudantesRepository {
     // Atualiza os dados de um estudante existente via PUT.
     public boolean atualizarEstudante(Estudante estudante) {
         try {
-            // Converte estudante atualizado para JSON.
-            String json = gson.toJson(estudante);
+            // O objeto em memória pode ter sido alterado por quem chamou; descarta para reler do servidor.
+            // A versão (ETag) também é descartada, para a próxima escrita não enviar um If-Match desatualizado.
+            detalhes.remove(estudante.getId());
+            versoes.remove(estudante.getId());
 
-            // Envia requisição PUT para o endpoint correspondente ao ID.
-            conexao.enviarPut(URL + estudante.getId(), json);
+            // Envia requisição PUT para o endpoint correspondente ao ID, escrevendo o JSON direto na conexão.
+            conexao.enviarPut(URL + estudante.getId(), writer -> ConversorJson.escreverEstudante(writer, estudante));
+            indice.adicionar(copiar(estudante));
             return true;
         } catch (Exception e) {
             // Loga erro e retorna false se ocorrer exceção.
@@ -117,6 +585,10 @@ public class EstudantesRepository {
         try {
             // Envia requisição DELETE para o ID correspondente.
             conexao.enviarDelete(URL + id);
+            detalhes.remove(id);
+            versoes.remove(id);
+            indice.remover(id);
+            classificacao.remover(id);
             return true;
         } catch (Exception e) {
             // Loga erro e retorna false em caso de falha.
@@ -125,42 +597,520 @@ public class EstudantesRepository {
         }
     }
 
-    // Busca todos os estudantes com seus dados completos, incluindo notas e presença.
-    public List<Estudante> buscarTodosEstudantesCompletos() {
+    // Acrescenta uma nota ao estudante enviando só a nota nova, em uma única requisição.
+    // Retorna o estudante atualizado pelo servidor, ou null em caso de erro ou de nota não finita.
+    public Estudante adicionarNota(int id, double nota) {
+        // NaN e infinito não são notas nem podem ser escritos em JSON.
+        if (!Double.isFinite(nota)) {
+            Log.e("EstudantesRepo", "Nota inválida para o estudante ID " + id + ": " + nota);
+            return null;
+        }
+        return acrescentar(id, "notas",
+                writer -> {
+                    JsonWriter json = new JsonWriter(writer);
+                    json.beginObject().name("nota").value(nota).endObject();
+                    json.flush();
+                },
+                estudante -> {
+                    if (estudante.getNotas() == null) estudante.setNotas(new ArrayList<>());
+                    estudante.getNotas().add(nota);
+                });
+    }
+
+    // Acrescenta um registro de presença (true) ou falta (false) ao estudante, em uma única requisição.
+    // Retorna o estudante atualizado pelo servidor, ou null em caso de erro.
+    public Estudante adicionarPresenca(int id, boolean presente) {
+        return acrescentar(id, "presenca",
+                writer -> {
+                    JsonWriter json = new JsonWriter(writer);
+                    json.beginObject().name("presente").value(presente).endObject();
+                    json.flush();
+                },
+                estudante -> {
+                    if (estudante.getPresenca() == null) estudante.setPresenca(new ArrayList<>());
+                    estudante.getPresenca().add(presente);
+                });
+    }
+
+    // Alteração aplicada localmente no estudante, usada quando o servidor não aceita acréscimos.
+    private interface Alteracao {
+        void aplicar(Estudante estudante);
+    }
+
+    // Envia só o acréscimo (POST /estudantes/{id}/{recurso}) com a última versão conhecida do estudante
+    // (If-Match). Se outro usuário alterou o estudante nesse meio tempo, o servidor responde 412 com a
+    // versão atual; o acréscimo é então reenviado sobre ela, sem perder a alteração do outro usuário.
+    // Servidores sem a rota de acréscimo recebem a alteração pelo caminho antigo (GET + PUT).
+    private Estudante acrescentar(int id, String recurso, Conexao.EscritorCorpo delta, Alteracao alteracao) {
+        if (!acrescimoSuportado) {
+            return acrescentarComPut(id, alteracao);
+        }
+
+        String url = URL + id + "/" + recurso;
         try {
-            // Requisição GET para buscar lista inicial de estudantes (dados básicos).
-            InputStream resposta = conexao.fazerRequisicao(URL, "GET", null);
+            for (int tentativa = 1; tentativa <= MAXIMO_TENTATIVAS_ACRESCIMO; tentativa++) {
+                try (RespostaHttp resposta = conexao.enviarCondicional(url, "POST", versoes.get(id), delta)) {
+                    int codigo = resposta.getCodigo();
+                    if (codigo == HttpURLConnection.HTTP_OK || codigo == HttpURLConnection.HTTP_CREATED) {
+                        Estudante estudante = lerEstudante(resposta.getCorpo(), id);
+                        registrar(id, estudante, resposta.getEtag());
+                        return copiar(estudante);
+                    }
+                    if (codigo == HttpURLConnection.HTTP_PRECON_FAILED) {
+                        // Conflito: guarda a versão atual enviada pelo servidor e tenta de novo sobre ela.
+                        Log.i("EstudantesRepo", "Versão do estudante ID " + id + " mudou; reenviando acréscimo");
+                        atualizarVersao(id, resposta);
+                        continue;
+                    }
+                    if (codigo == HttpURLConnection.HTTP_BAD_METHOD || codigo == HttpURLConnection.HTTP_NOT_IMPLEMENTED) {
+                        acrescimoSuportado = false;
+                        return acrescentarComPut(id, alteracao);
+                    }
+                    if (codigo == HttpURLConnection.HTTP_NOT_FOUND) {
+                        // Pode ser o estudante que não existe ou a rota de acréscimo; o caminho antigo decide.
+                        Estudante estudante = acrescentarComPut(id, alteracao);
+                        if (estudante != null) acrescimoSuportado = false;
+                        return estudante;
+                    }
+                    throw new IOException("HTTP " + codigo + " em POST " + url);
+                }
+            }
+            Log.e("EstudantesRepo", "Acréscimo em conflito após " + MAXIMO_TENTATIVAS_ACRESCIMO
+                    + " tentativas, estudante ID: " + id);
+            return null;
+        } catch (Exception e) {
+            Log.e("EstudantesRepo", "Erro ao acrescentar " + recurso + " ao estudante ID: " + id, e);
+            return null;
+        }
+    }
 
-            // Verifica se houve resposta.
-            if (resposta == null) {
-                Log.e("EstudantesRepo", "Resposta nula ao buscar estudantes!");
-                return null;
+    // Atualiza a versão conhecida a partir da resposta 412 (com o estudante atual no corpo, se houver).
+    private void atualizarVersao(int id, RespostaHttp resposta) throws IOException {
+        if (resposta.getEtag() == null) {
+            // Sem ETag na resposta: busca a versão atual.
+            versoes.remove(id);
+            consultarEstudante(id);
+            return;
+        }
+        try {
+            registrar(id, lerEstudante(resposta.getCorpo(), id), resposta.getEtag());
+        } catch (IOException e) {
+            // Corpo vazio ou inválido: basta a versão para reenviar o acréscimo.
+            detalhes.remove(id);
+            versoes.put(id, resposta.getEtag());
+        }
+    }
+
+    // Caminho antigo: busca o estudante inteiro, aplica a alteração e envia tudo via PUT.
+    private Estudante acrescentarComPut(int id, Alteracao alteracao) {
+        Estudante estudante = buscarDadosEstudante(id);
+        if (estudante == null) return null;
+        alteracao.aplicar(estudante);
+        return atualizarEstudante(estudante) ? estudante : null;
+    }
+
+    // Interface para acompanhar o envio de um lote de lançamentos.
+    public interface OuvinteProgresso {
+        void onProgresso(int concluidos, int total);
+    }
+
+    // Envia um lote de lançamentos (ex.: a chamada de uma turma) com o paralelismo padrão.
+    public ResultadoLancamentos enviarLancamentos(List<Lancamento> lancamentos, OuvinteProgresso ouvinte) {
+        return enviarLancamentos(lancamentos, PARALELISMO_PADRAO, ouvinte);
+    }
+
+    // Envia um lote de lançamentos em uma única requisição (POST /estudantes/lancamentos), lendo o
+    // resultado de cada lançamento à medida que a resposta chega. Servidores sem a rota de lote recebem
+    // os lançamentos um a um, com no máximo "paralelismo" requisições simultâneas (os lançamentos de um
+    // mesmo estudante vão em sequência). O ouvinte (opcional) é chamado a cada lançamento concluído,
+    // possivelmente de outra thread. O resultado informa a falha de cada lançamento, se houver.
+    public ResultadoLancamentos enviarLancamentos(List<Lancamento> lancamentos, int paralelismo,
+                                                  OuvinteProgresso ouvinte) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que zero: " + paralelismo);
+        }
+        long inicio = System.nanoTime();
+        Map<Lancamento, String> falhas = new ConcurrentHashMap<>();
+        Map<Integer, Estudante> atualizados = new ConcurrentHashMap<>();
+        int requisicoes = 0;
+
+        boolean enviado = false;
+        if (loteSuportado && !lancamentos.isEmpty()) {
+            requisicoes++;
+            enviado = enviarLote(lancamentos, falhas, atualizados, ouvinte);
+        }
+        if (!enviado && !lancamentos.isEmpty()) {
+            requisicoes += lancamentos.size();
+            enviarIndividualmente(lancamentos, paralelismo, falhas, atualizados, ouvinte);
+        }
+
+        // Mantém a ordem dos lançamentos nas falhas.
+        Map<Lancamento, String> falhasOrdenadas = new LinkedHashMap<>();
+        for (Lancamento lancamento : lancamentos) {
+            String falha = falhas.get(lancamento);
+            if (falha != null) falhasOrdenadas.put(lancamento, falha);
+        }
+        ResultadoLancamentos resultado = new ResultadoLancamentos(new ArrayList<>(lancamentos), falhasOrdenadas,
+                new HashMap<>(atualizados), requisicoes,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        if (!resultado.isCompleto()) {
+            Log.w("EstudantesRepo", "Lote de lançamentos com falhas: " + resultado);
+        }
+        return resultado;
+    }
+
+    // Envia todos os lançamentos em uma requisição. Retorna false se o servidor não tem a rota de lote
+    // (nada foi gravado e os lançamentos devem ser enviados de outra forma).
+    private boolean enviarLote(List<Lancamento> lancamentos, Map<Lancamento, String> falhas,
+                               Map<Integer, Estudante> atualizados, OuvinteProgresso ouvinte) {
+        int concluidos = 0;
+        try (RespostaHttp resposta = conexao.enviarCondicional(URL + "lancamentos", "POST", null, writer -> {
+            JsonWriter json = new JsonWriter(writer);
+            json.beginArray();
+            for (Lancamento lancamento : lancamentos) {
+                lancamento.escrever(json);
+            }
+            json.endArray();
+            json.flush();
+        })) {
+            int codigo = resposta.getCodigo();
+            if (codigo == HttpURLConnection.HTTP_NOT_FOUND || codigo == HttpURLConnection.HTTP_BAD_METHOD
+                    || codigo == HttpURLConnection.HTTP_NOT_IMPLEMENTED) {
+                Log.i("EstudantesRepo", "Servidor sem lote de lançamentos (HTTP " + codigo + "); enviando um a um");
+                loteSuportado = false;
+                return false;
+            }
+            if (codigo != HttpURLConnection.HTTP_OK) {
+                throw new IOException("HTTP " + codigo + " em POST " + URL + "lancamentos");
             }
 
-            // Converte a resposta para JSON.
-            String json = conexao.converter(resposta);
+            // A resposta traz um resultado por lançamento, na mesma ordem do envio:
+            // {"id": 1, "codigo": 200, "etag": "...", "estudante": {...}} ou {"id": 1, "codigo": 404, "erro": "..."}
+            JsonReader reader = new JsonReader(Conexao.criarLeitor(resposta.getCorpo()));
+            reader.beginArray();
+            while (reader.hasNext() && concluidos < lancamentos.size()) {
+                Lancamento lancamento = lancamentos.get(concluidos);
+                int codigoItem = HttpURLConnection.HTTP_OK;
+                String etag = null;
+                String erro = null;
+                Estudante estudante = null;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "codigo":
+                            codigoItem = reader.nextInt();
+                            break;
+                        case "etag":
+                            etag = lerTextoOpcional(reader);
+                            break;
+                        case "erro":
+                            erro = lerTextoOpcional(reader);
+                            break;
+                        case "estudante":
+                            if (reader.peek() == JsonToken.NULL) reader.nextNull();
+                            else estudante = ConversorJson.lerEstudante(reader);
+                            break;
+                        default:
+                            reader.skipValue();
+                    }
+                }
+                reader.endObject();
 
-            // Converte JSON para lista inicial de estudantes.
-            Type listType = new TypeToken<List<Estudante>>() {}.getType();
-            List<Estudante> estudantes = gson.fromJson(json, listType);
+                if (codigoItem == HttpURLConnection.HTTP_OK && estudante != null) {
+                    registrar(lancamento.getEstudanteId(), estudante, etag);
+                    atualizados.put(lancamento.getEstudanteId(), estudante);
+                } else {
+                    falhas.put(lancamento, erro != null ? erro : "HTTP " + codigoItem);
+                }
+                concluidos++;
+                if (ouvinte != null) ouvinte.onProgresso(concluidos, lancamentos.size());
+            }
+        } catch (Exception e) {
+            // Os lançamentos sem resultado podem ou não ter sido gravados; não são reenviados para não
+            // duplicar notas ou presenças. A próxima atualização mostra o que ficou no servidor.
+            Log.e("EstudantesRepo", "Erro ao enviar lote de lançamentos", e);
+            String mensagem = "Sem confirmação do servidor: " + e.getMessage();
+            for (int i = concluidos; i < lancamentos.size(); i++) {
+                falhas.put(lancamentos.get(i), mensagem);
+            }
+            if (ouvinte != null) ouvinte.onProgresso(lancamentos.size(), lancamentos.size());
+            return true;
+        }
+
+        // Resposta com menos resultados do que lançamentos.
+        for (int i = concluidos; i < lancamentos.size(); i++) {
+            falhas.put(lancamentos.get(i), "Sem resultado na resposta do lote");
+        }
+        if (concluidos < lancamentos.size() && ouvinte != null) {
+            ouvinte.onProgresso(lancamentos.size(), lancamentos.size());
+        }
+        return true;
+    }
+
+    // Lê um texto que pode ser null.
+    private static String lerTextoOpcional(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
 
-            // Lista que será preenchida com estudantes detalhados.
-            List<Estudante> estudantesCompletos = new ArrayList<>();
+    // Envia os lançamentos um a um, em paralelo entre estudantes e em sequência para o mesmo estudante
+    // (evitando conflitos de versão entre lançamentos do próprio lote).
+    private void enviarIndividualmente(List<Lancamento> lancamentos, int paralelismo, Map<Lancamento, String> falhas,
+                                       Map<Integer, Estudante> atualizados, OuvinteProgresso ouvinte) {
+        Map<Integer, List<Lancamento>> porEstudante = new LinkedHashMap<>();
+        for (Lancamento lancamento : lancamentos) {
+            porEstudante.computeIfAbsent(lancamento.getEstudanteId(), k -> new ArrayList<>()).add(lancamento);
+        }
 
-            // Para cada estudante, busca os dados completos e adiciona à nova lista.
-            for (Estudante estudante : estudantes) {
-                estudante = buscarDadosEstudante(estudante.getId());
-                estudantesCompletos.add(estudante);
+        Set<Lancamento> enviados = ConcurrentHashMap.newKeySet();
+        AtomicInteger concluidos = new AtomicInteger();
+        int threads = Math.max(1, Math.min(paralelismo, porEstudante.size()));
+        Queue<List<Lancamento>> fila = new ConcurrentLinkedQueue<>(porEstudante.values());
+        List<Future<?>> trabalhadores = executarEmLote(fila, threads, doEstudante -> {
+            for (Lancamento lancamento : doEstudante) {
+                Estudante estudante = lancamento.getTipo() == Lancamento.Tipo.NOTA
+                        ? adicionarNota(lancamento.getEstudanteId(), lancamento.getNota())
+                        : adicionarPresenca(lancamento.getEstudanteId(), lancamento.isPresente());
+                if (estudante != null) {
+                    atualizados.put(lancamento.getEstudanteId(), estudante);
+                } else {
+                    falhas.put(lancamento, "Falha ao gravar o lançamento");
+                }
+                enviados.add(lancamento);
+                int total = concluidos.incrementAndGet();
+                if (ouvinte != null) ouvinte.onProgresso(total, lancamentos.size());
+            }
+        });
+        try {
+            for (Future<?> trabalhador : trabalhadores) {
+                trabalhador.get();
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Log.e("EstudantesRepo", "Envio de lançamentos interrompido!", e);
+        } catch (ExecutionException e) {
+            Log.e("EstudantesRepo", "Erro ao enviar lançamentos!", e.getCause());
+        } finally {
+            fila.clear();
+            for (Future<?> trabalhador : trabalhadores) {
+                trabalhador.cancel(true);
+            }
+        }
+        // Lançamentos que não chegaram a ser enviados (interrupção ou erro em um trabalhador).
+        for (Lancamento lancamento : lancamentos) {
+            if (!enviados.contains(lancamento)) falhas.putIfAbsent(lancamento, "Envio interrompido");
+        }
+    }
+
+    // Busca todos os estudantes com seus dados completos, incluindo notas e presença.
+    // Retorna null em caso de erro ou se algum estudante falhar, para não passar uma turma parcial como
+    // se fosse a turma inteira (quem aceita a lista parcial usa a versão com paralelismo e prazo, que
+    // informa as falhas).
+    public List<Estudante> buscarTodosEstudantesCompletos() {
+        ResultadoBuscaEmLote resultado = buscarTodosEstudantesCompletos(PARALELISMO_PADRAO, PRAZO_PADRAO_MS);
+        if (resultado == null) return null;
+        if (!resultado.isCompleto()) {
+            Log.e("EstudantesRepo", "Busca de estudantes completos parcial: " + resultado.getFalhas().size()
+                    + " falha(s)");
+            return null;
+        }
+        return resultado.getEstudantes();
+    }
+
+    // Busca os dados completos de todos os estudantes com no máximo "paralelismo" requisições
+    // simultâneas e um prazo total para o lote. A ordem da lista original é mantida e as falhas
+    // são informadas por ID no resultado, em vez de entradas nulas.
+    public ResultadoBuscaEmLote buscarTodosEstudantesCompletos(int paralelismo, long prazoMs) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que zero: " + paralelismo);
+        }
 
-            // Atualiza lista local e retorna.
-            setEstudantes(estudantesCompletos);
-            return estudantesCompletos;
+        long inicio = System.nanoTime();
+        ResultadoConsulta<List<Estudante>> consultaLista;
+        try {
+            // GET condicional da lista inicial de estudantes (dados básicos).
+            consultaLista = consultarLista();
         } catch (Exception e) {
             // Loga erro e retorna null em caso de exceção.
             Log.e("EstudantesRepo", "Erro ao buscar estudantes completos!", e);
             return null;
         }
+        List<Estudante> estudantes = consultaLista.getDados();
+        long fimLista = System.nanoTime();
+
+        // Detalhes de todos os estudantes, em paralelo e dentro do prazo.
+        List<Integer> ids = new ArrayList<>(estudantes.size());
+        for (Estudante estudante : estudantes) {
+            ids.add(estudante.getId());
+        }
+        Map<Integer, String> falhas = new LinkedHashMap<>();
+        int threads = Math.max(1, Math.min(paralelismo, ids.size()));
+        Map<Integer, ResultadoConsulta<Estudante>> consultas;
+        try {
+            consultas = buscarDetalhes(ids, threads, prazoMs, falhas);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Log.e("EstudantesRepo", "Busca de estudantes completos interrompida!", e);
+            return null;
+        }
+
+        List<Estudante> estudantesCompletos = new ArrayList<>(estudantes.size());
+        boolean alterado = consultaLista.isAlterado();
+        for (ResultadoConsulta<Estudante> consulta : consultas.values()) {
+            estudantesCompletos.add(consulta.getDados());
+            alterado |= consulta.isAlterado();
+        }
+        long fimDetalhes = System.nanoTime();
+
+        ResultadoBuscaEmLote resultado = new ResultadoBuscaEmLote(estudantesCompletos, falhas, alterado, threads,
+                TimeUnit.NANOSECONDS.toMillis(fimLista - inicio),
+                TimeUnit.NANOSECONDS.toMillis(fimDetalhes - fimLista));
+        if (!falhas.isEmpty()) {
+            Log.w("EstudantesRepo", "Busca em lote com falhas: " + resultado);
+        }
+
+        // Atualiza a lista local só com a turma inteira (uma lista parcial esconderia os que falharam).
+        if (resultado.isCompleto()) setEstudantes(estudantesCompletos);
+        return resultado;
     }
-}
 
+    // Busca os dados completos só dos estudantes que podem ter mudado desde a chamada anterior: os que
+    // entraram na lista, os que têm a entrada da lista diferente, os informados em "alterados" (ex.: IDs
+    // recebidos pelo fluxo de alterações) e os que falharam na vez anterior. Os demais saem dos detalhes
+    // já entregues, sem requisição, então o custo acompanha a quantidade de mudanças e não o tamanho da
+    // turma. Com "alterados" null, todos são conferidos (GET condicional, quase sempre 304).
+    // O resultado traz a turma inteira (na ordem da lista) e também, à parte, só os estudantes novos ou
+    // diferentes do que foi entregue na chamada anterior e os IDs que saíram da lista. Um estudante que
+    // falhar continua com os dados entregues antes (se houver) e é buscado de novo na próxima chamada.
+    public synchronized ResultadoBuscaEmLote buscarCompletosAlterados(Collection<Integer> alterados,
+                                                                      int paralelismo, long prazoMs) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que zero: " + paralelismo);
+        }
+
+        long inicio = System.nanoTime();
+        ResultadoConsulta<List<Estudante>> consultaLista;
+        try {
+            consultaLista = consultarLista();
+        } catch (Exception e) {
+            Log.e("EstudantesRepo", "Erro ao buscar estudantes completos!", e);
+            return null;
+        }
+        List<Estudante> lista = consultaLista.getDados();
+        long fimLista = System.nanoTime();
+
+        // Escolhe quem precisa de detalhes comparando cada entrada da lista com a da chamada anterior.
+        Map<Integer, Estudante> entradas = new HashMap<>();
+        List<Integer> buscar = new ArrayList<>();
+        for (Estudante entrada : lista) {
+            int id = entrada.getId();
+            entradas.put(id, entrada);
+            Estudante anterior = entradasEntregues.get(id);
+            if (alterados == null || anterior == null || !anterior.equals(entrada) || alterados.contains(id)
+                    || !entregues.containsKey(id)) {
+                buscar.add(id);
+            }
+        }
+        Set<Integer> removidos = new HashSet<>();
+        for (Integer id : entregues.keySet()) {
+            if (!entradas.containsKey(id)) removidos.add(id);
+        }
+
+        Map<Integer, String> falhas = new LinkedHashMap<>();
+        int threads = Math.max(1, Math.min(paralelismo, buscar.size()));
+        Map<Integer, ResultadoConsulta<Estudante>> consultas;
+        try {
+            consultas = buscar.isEmpty() ? new HashMap<>() : buscarDetalhes(buscar, threads, prazoMs, falhas);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Log.e("EstudantesRepo", "Busca de estudantes completos interrompida!", e);
+            return null;
+        }
+        long fimDetalhes = System.nanoTime();
+
+        // Monta a turma com os detalhes novos ou os já entregues e separa o que mudou.
+        List<Estudante> estudantesCompletos = new ArrayList<>(lista.size());
+        List<Estudante> atualizados = new ArrayList<>();
+        for (Estudante entrada : lista) {
+            int id = entrada.getId();
+            ResultadoConsulta<Estudante> consulta = consultas.get(id);
+            Estudante estudante = consulta != null ? consulta.getDados() : entregues.get(id);
+            if (estudante == null) continue;
+            estudantesCompletos.add(estudante);
+            Estudante anterior = entregues.put(id, estudante);
+            if (!estudante.equals(anterior)) atualizados.add(estudante);
+        }
+        for (Integer id : removidos) {
+            entregues.remove(id);
+        }
+
+        // Quem falhou fica sem entrada, para ser buscado de novo na próxima chamada.
+        entradas.keySet().removeAll(falhas.keySet());
+        entradasEntregues = entradas;
+
+        // Só conta como alteração o que muda a turma entregue (uma lista regravada igual não conta).
+        boolean alterado = !atualizados.isEmpty() || !removidos.isEmpty();
+        ResultadoBuscaEmLote resultado = new ResultadoBuscaEmLote(estudantesCompletos, falhas, alterado, threads,
+                TimeUnit.NANOSECONDS.toMillis(fimLista - inicio),
+                TimeUnit.NANOSECONDS.toMillis(fimDetalhes - fimLista), atualizados, removidos);
+        Log.d("EstudantesRepo", "Busca incremental: " + buscar.size() + " detalhes buscados | " + resultado);
+        if (!falhas.isEmpty()) {
+            Log.w("EstudantesRepo", "Busca em lote com falhas: " + resultado);
+        }
+
+        // Atualiza a lista local só se nenhum estudante ficou de fora (quem falhou sem ter sido entregue
+        // antes não está na turma montada).
+        if (estudantesCompletos.size() == lista.size()) setEstudantes(estudantesCompletos);
+        return resultado;
+    }
+
+    // Busca os detalhes dos IDs com no máximo "threads" requisições simultâneas e um prazo total.
+    // Retorna os resultados na ordem dos IDs; os que falharem ou passarem do prazo vão para "falhas".
+    private Map<Integer, ResultadoConsulta<Estudante>> buscarDetalhes(List<Integer> ids, int threads, long prazoMs,
+                                                                       Map<Integer, String> falhas)
+            throws InterruptedException {
+        Map<Integer, ResultadoConsulta<Estudante>> obtidos = new ConcurrentHashMap<>();
+        Map<Integer, String> erros = new ConcurrentHashMap<>();
+        Queue<Integer> fila = new ConcurrentLinkedQueue<>(ids);
+        List<Future<?>> trabalhadores = executarEmLote(fila, threads, id -> {
+            try {
+                obtidos.put(id, consultarEstudante(id));
+            } catch (Exception e) {
+                Log.e("EstudantesRepo", "Erro ao buscar estudante ID: " + id, e);
+                erros.put(id, String.valueOf(e.getMessage()));
+            }
+        });
+
+        // Aguarda os trabalhadores até o prazo; o que não terminou a tempo é cancelado.
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(prazoMs);
+        try {
+            for (Future<?> trabalhador : trabalhadores) {
+                trabalhador.get(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            Log.w("EstudantesRepo", "Prazo esgotado na busca de detalhes (" + prazoMs + " ms)");
+        } catch (ExecutionException e) {
+            Log.e("EstudantesRepo", "Erro na busca de detalhes!", e.getCause());
+        } finally {
+            fila.clear();
+            for (Future<?> trabalhador : trabalhadores) {
+                trabalhador.cancel(true);
+            }
+        }
+
+        Map<Integer, ResultadoConsulta<Estudante>> resultados = new LinkedHashMap<>();
+        for (int id : ids) {
+            ResultadoConsulta<Estudante> consulta = obtidos.get(id);
+            String erro = erros.get(id);
+            if (consulta != null) {
+                resultados.put(id, consulta);
+            } else {
+                falhas.put(id, erro != null ? erro : "Prazo esgotado");
+            }
+        }
+        return resultados;
+    }
+}
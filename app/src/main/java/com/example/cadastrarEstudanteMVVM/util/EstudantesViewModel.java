@@ -1,8 +1,6 @@
 package  com.example.cadastrarEstudanteMVVM.util;
 //package com.example.cadastrarEstudanteMVVM.util;
 
-import android.util.Log;
-
 import androidx.annotation.NonNull;
 import androidx.lifecycle.DefaultLifecycleObserver;
 import androidx.lifecycle.LifecycleOwner;
@@ -11,88 +9,125 @@ import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 
 import com.example.cadastrarEstudanteMVVM.model.Estudante;
-import com.example.cadastrarEstudanteMVVM.util.EstudantesRepository;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-// Classe ViewModel que cuida da lista de estudantes e observa suas alterações
+// Classe ViewModel que cuida da lista de estudantes e observa suas alterações.
+// A lista é carregada em páginas conforme a tela rola, com só algumas páginas em memória, em vez
+// de baixar a turma inteira antes de mostrar a primeira linha.
+// A busca pelo nome consulta o índice do repositório em outra thread, um pouco depois da última tecla.
+// Enquanto há uma busca ativa, a lista completa é assinada no ArmazemEstudantes, que mantém o índice
+// atualizado a cada rodada, e a busca é refeita quando a lista muda.
+// As páginas em memória são recarregadas quando o ArmazemEstudantes avisa que algo mudou (pelo fluxo de
+// alterações do servidor ou, sem ele, quando a consulta periódica encontra diferenças na lista).
 public class EstudantesViewModel extends ViewModel implements DefaultLifecycleObserver {
 
-    // LiveData que armazena e expõe a lista de estudantes para observação pela UI.
-    private final MutableLiveData<List<Estudante>> estudantesLiveData = new MutableLiveData<>();
+    // Tempo (em milissegundos) sem digitar antes de executar a busca.
+    static final long ATRASO_BUSCA_MS = 250;
 
-    // Repositório responsável por fornecer os dados dos estudantes.
-    private final EstudantesRepository repository = EstudantesRepository.getInstance();
+    // Quantidade máxima de resultados exibidos na busca.
+    static final int LIMITE_RESULTADOS = 100;
 
-    // Executor que lida com tarefas em segundo plano.
+    // Thread única que carrega as páginas.
     private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
 
-    // Manipulador que permite controlar a tarefa agendada.
-    private ScheduledFuture<?> manipulador;
+    // Lista paginada exibida pela tela.
+    private final ListaPaginada estudantes =
+            new ListaPaginada(EstudantesRepository.getInstance()::buscarPagina, executor);
+
+    // Recarrega as páginas em memória quando o armazém avisa que estudantes mudaram
+    // (assinado enquanto a tela está visível).
+    private final ArmazemEstudantes.OuvinteAlteracoes ouvinteAlteracoes = ids -> estudantes.atualizar();
+
+    // Thread das buscas (separada da carga das páginas, que pode esperar pela rede).
+    private final ScheduledExecutorService buscas = Executors.newSingleThreadScheduledExecutor();
+
+    // Busca agendada para depois do intervalo sem digitar.
+    private ScheduledFuture<?> buscaAgendada;
+
+    // Texto da busca atual (vazio = sem busca).
+    private volatile String consulta = "";
+
+    // Resultados da busca atual (null quando não há busca, e a tela mostra a lista paginada).
+    private final MutableLiveData<List<Estudante>> resultadosBusca = new MutableLiveData<>();
+
+    // Refaz a busca quando a lista completa muda (o índice já foi atualizado pelo repositório).
+    private final ArmazemEstudantes.OuvinteLista ouvinteLista = (lista, diferenca) -> {
+        if (diferenca != null) buscas.execute(this::executarBusca);
+    };
 
-    // Cache local para evitar atualizações desnecessárias no LiveData.
-    private List<Estudante> cacheEstudantes = new ArrayList<>();
+    // Indica se a lista completa está assinada no ArmazemEstudantes.
+    private boolean assinado;
 
-    // Método para permitir que a UI observe a lista de estudantes.
-    public LiveData<List<Estudante>> getEstudantes() {
-        return estudantesLiveData;
+    // Método para permitir que a UI exiba a lista de estudantes.
+    public ListaPaginada getEstudantes() {
+        return estudantes;
     }
 
-    // Chamado quando o ciclo de vida entra no estado STARTED.
-    @Override
-    public void onStart(@NonNull LifecycleOwner lifecycleOwner) {
-        // Evita iniciar a tarefa se já estiver ativa.
-        if (manipulador != null && !manipulador.isCancelled()) {
+    // Resultados da busca pelo nome (null quando não há busca).
+    public LiveData<List<Estudante>> getResultadosBusca() {
+        return resultadosBusca;
+    }
+
+    // Chamado a cada alteração do texto de busca (na thread principal). A busca só é executada depois
+    // de ATRASO_BUSCA_MS sem alterações; um texto vazio encerra a busca.
+    public void buscar(String texto) {
+        consulta = texto != null ? texto.trim() : "";
+        if (buscaAgendada != null) buscaAgendada.cancel(false);
+        if (consulta.isEmpty()) {
+            cancelarAssinatura();
+            resultadosBusca.setValue(null);
             return;
         }
+        assinar();
+        buscaAgendada = buscas.schedule(this::executarBusca, ATRASO_BUSCA_MS, TimeUnit.MILLISECONDS);
+    }
 
-        // Agenda a tarefa que busca estudantes a cada 30 segundos.
-        manipulador = executor.scheduleWithFixedDelay(() -> {
-            try {
-                // Obtém nova lista de estudantes do repositório.
-                List<Estudante> novosEstudantes = repository.buscarTodosEstudantes();
-
-                // Verifica se a lista mudou em relação ao cache local.
-                if (!novosEstudantes.equals(cacheEstudantes)) {
-                    // Atualiza o cache.
-                    cacheEstudantes = novosEstudantes;
-
-                    // Atualiza o LiveData para notificar observadores.
-                    estudantesLiveData.postValue(novosEstudantes);
-
-                    // Atualiza a lista no repositório.
-                    repository.setEstudantes(novosEstudantes);
-                }
-            } catch (Exception e) {
-                // Loga erros em caso de falhas na requisição.
-                Log.e("EstudantesVM", "Erro ao carregar estudantes", e);
-            }
-        }, 0, 30, TimeUnit.SECONDS); // Executa imediatamente e depois a cada 30 segundos.
+    // Consulta o índice e publica os resultados, se a busca ainda for a mesma.
+    private void executarBusca() {
+        String texto = consulta;
+        if (texto.isEmpty()) return;
+        List<Estudante> resultados = EstudantesRepository.getInstance().buscarPorNome(texto, LIMITE_RESULTADOS);
+        if (texto.equals(consulta)) resultadosBusca.postValue(resultados);
+    }
+
+    // Assina a lista completa para manter o índice de busca atualizado.
+    private void assinar() {
+        if (assinado) return;
+        ArmazemEstudantes.getInstance().assinarLista(ouvinteLista);
+        assinado = true;
+    }
+
+    private void cancelarAssinatura() {
+        if (!assinado) return;
+        ArmazemEstudantes.getInstance().cancelarLista(ouvinteLista);
+        assinado = false;
+    }
+
+    // Chamado quando o ciclo de vida entra no estado STARTED.
+    @Override
+    public void onStart(@NonNull LifecycleOwner lifecycleOwner) {
+        // Carrega a primeira página e passa a recarregar as páginas em memória a cada alteração avisada.
+        estudantes.iniciar();
+        if (!consulta.isEmpty()) assinar();
+        ArmazemEstudantes.getInstance().assinarAlteracoes(ouvinteAlteracoes);
     }
 
     // Chamado quando o ciclo de vida entra no estado STOPPED.
     @Override
     public void onStop(@NonNull LifecycleOwner lifecycleOwner) {
-        // Cancela a tarefa agendada quando a UI não estiver mais visível.
-        if (manipulador != null) {
-            manipulador.cancel(false);
-        }
+        // Para a atualização quando a UI não estiver mais visível.
+        ArmazemEstudantes.getInstance().cancelarAlteracoes(ouvinteAlteracoes);
+        cancelarAssinatura();
     }
 
     // Permite que a UI force o recarregamento da lista de estudantes.
     public void recarregarEstudantes() {
-        // Cancela tarefa atual, se houver.
-        if (manipulador != null) {
-            manipulador.cancel(false);
-        }
-
-        // Reinicia a tarefa de atualização.
-        onStart(null);
+        estudantes.atualizar();
     }
 
     // Método chamado quando o ViewModel é destruído.
@@ -100,8 +135,10 @@ public class EstudantesViewModel extends ViewModel implements DefaultLifecycleOb
     protected void onCleared() {
         super.onCleared();
 
-        // Encerra o executor para liberar recursos.
-        executor.shutdown();
+        // Cancela as assinaturas e encerra a thread de carga e a thread das buscas.
+        ArmazemEstudantes.getInstance().cancelarAlteracoes(ouvinteAlteracoes);
+        cancelarAssinatura();
+        executor.shutdownNow();
+        buscas.shutdownNow();
     }
 }
-
@@ -0,0 +1,56 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+// Classe que representa um evento do fluxo de alterações do servidor (GET /estudantes/eventos):
+// um estudante criado, alterado ou removido, ou um pedido para recarregar tudo (quando o servidor
+// não tem mais os eventos perdidos desde a última conexão).
+public class EventoEstudante {
+
+    // Tipos de evento.
+    public static final String CRIADO = "criado";
+    public static final String ALTERADO = "alterado";
+    public static final String REMOVIDO = "removido";
+    public static final String REINICIAR = "reiniciar";
+
+    // Identificador do evento no fluxo (enviado de volta como Last-Event-ID ao reconectar), ou null.
+    private final String id;
+
+    // Tipo do evento.
+    private final String tipo;
+
+    // ID do estudante afetado (0 no evento de reiniciar).
+    private final int estudanteId;
+
+    // Construtor
+    public EventoEstudante(String id, String tipo, int estudanteId) {
+        this.id = id;
+        this.tipo = tipo;
+        this.estudanteId = estudanteId;
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public int getEstudanteId() {
+        return estudanteId;
+    }
+
+    // Indica que os eventos perdidos não podem ser repetidos e tudo deve ser recarregado.
+    public boolean isReiniciar() {
+        return REINICIAR.equals(tipo);
+    }
+
+    @Override
+    public String toString() {
+        return "EventoEstudante{" +
+                "id='" + id + '\'' +
+                ", tipo='" + tipo + '\'' +
+                ", estudanteId=" + estudanteId +
+                '}';
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+// Fábrica de sockets SSL que delega para outra fábrica e conta quantas conexões novas foram abertas.
+// Conexões reaproveitadas do pool de keep-alive não passam por aqui; as requisições feitas com esta
+// fábrica são contadas nela também (registrarRequisicao), então (requisições - conexões novas) dá o
+// número de reaproveitamentos, e as duas contagens começam juntas quando a fábrica é trocada.
+// Também mede o tempo de cada handshake TLS e quantos deles retomaram uma sessão do cache.
+class FabricaSocketsContadora extends SSLSocketFactory {
+
+    // Fábrica real usada para criar os sockets.
+    private final SSLSocketFactory delegada;
+
+    // Quantidade de requisições feitas com esta fábrica.
+    private final AtomicLong requisicoes = new AtomicLong();
+
+    // Quantidade de sockets criados (conexões novas).
+    private final AtomicLong socketsCriados = new AtomicLong();
+
+    // Quantidade de handshakes concluídos.
+    private final AtomicLong handshakes = new AtomicLong();
+
+    // Quantidade de handshakes que retomaram uma sessão TLS existente.
+    private final AtomicLong handshakesRetomados = new AtomicLong();
+
+    // Soma do tempo de todos os handshakes (em nanossegundos).
+    private final AtomicLong tempoHandshakesNs = new AtomicLong();
+
+    // Construtor
+    FabricaSocketsContadora(SSLSocketFactory delegada) {
+        this.delegada = delegada;
+    }
+
+    // Conta uma requisição feita com esta fábrica (reaproveitando uma conexão ou não).
+    void registrarRequisicao() {
+        requisicoes.incrementAndGet();
+    }
+
+    // Retorna quantas requisições foram feitas com esta fábrica.
+    long getRequisicoes() {
+        return requisicoes.get();
+    }
+
+    // Retorna quantos sockets já foram criados.
+    long getSocketsCriados() {
+        return socketsCriados.get();
+    }
+
+    // Retorna quantos handshakes foram concluídos.
+    long getHandshakes() {
+        return handshakes.get();
+    }
+
+    // Retorna quantos handshakes retomaram uma sessão do cache.
+    long getHandshakesRetomados() {
+        return handshakesRetomados.get();
+    }
+
+    // Retorna a soma do tempo de todos os handshakes (em nanossegundos).
+    long getTempoHandshakesNs() {
+        return tempoHandshakesNs.get();
+    }
+
+    // Conta o socket criado e registra um ouvinte para medir o handshake.
+    private Socket monitorar(Socket socket) {
+        socketsCriados.incrementAndGet();
+        if (socket instanceof SSLSocket) {
+            long inicioNs = System.nanoTime();
+            long inicioMs = System.currentTimeMillis();
+            ((SSLSocket) socket).addHandshakeCompletedListener(evento -> {
+                handshakes.incrementAndGet();
+                tempoHandshakesNs.addAndGet(System.nanoTime() - inicioNs);
+                // Uma sessão criada antes deste socket só pode ter vindo do cache (sessão retomada).
+                if (evento.getSession().getCreationTime() < inicioMs) {
+                    handshakesRetomados.incrementAndGet();
+                }
+            });
+        }
+        return socket;
+    }
+
+    @Override
+    public String[] getDefaultCipherSuites() {
+        return delegada.getDefaultCipherSuites();
+    }
+
+    @Override
+    public String[] getSupportedCipherSuites() {
+        return delegada.getSupportedCipherSuites();
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+        return monitorar(delegada.createSocket());
+    }
+
+    @Override
+    public Socket createSocket(Socket s, String host, int port, boolean autoClose) throws IOException {
+        return monitorar(delegada.createSocket(s, host, port, autoClose));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+        return monitorar(delegada.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+        return monitorar(delegada.createSocket(host, port, localHost, localPort));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+        return monitorar(delegada.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort)
+            throws IOException {
+        return monitorar(delegada.createSocket(address, port, localAddress, localPort));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+
+// Fluxo de eventos do servidor (Server-Sent Events) aberto por Conexao.abrirEventos. Cada chamada a
+// proximo() bloqueia até o próximo evento chegar; comentários (": ping") só mantêm a conexão viva e
+// fazem o tempo limite de leitura recomeçar. Deve ser fechado por quem abriu; fechar de outra thread
+// interrompe a leitura em andamento.
+public class FluxoEventos implements Closeable {
+
+    // Conexão aberta (desconectada ao fechar, em vez de ler o resto, que não tem fim).
+    private final HttpURLConnection conexao;
+
+    // Código HTTP da resposta.
+    private final int codigo;
+
+    // Linhas do fluxo (null se a resposta não for um fluxo de eventos).
+    private final BufferedReader leitor;
+
+    // Construtor (usado por Conexao).
+    FluxoEventos(HttpURLConnection conexao, int codigo, InputStream corpo) {
+        this.conexao = conexao;
+        this.codigo = codigo;
+        this.leitor = corpo != null ? new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8)) : null;
+    }
+
+    // Código HTTP da resposta (200 quando o fluxo foi aberto).
+    public int getCodigo() {
+        return codigo;
+    }
+
+    // Lê o próximo evento. Retorna null quando o servidor encerra o fluxo.
+    public EventoEstudante proximo() throws IOException {
+        if (leitor == null) return null;
+        String id = null;
+        String tipo = null;
+        StringBuilder dados = new StringBuilder();
+        String linha;
+        while ((linha = leitor.readLine()) != null) {
+            if (linha.isEmpty()) {
+                // Fim do evento (uma linha em branco); blocos sem campos (ex.: só comentários) são ignorados.
+                if (tipo != null || dados.length() > 0) return criarEvento(id, tipo, dados.toString());
+                continue;
+            }
+            if (linha.startsWith(":")) continue;
+            int separador = linha.indexOf(':');
+            String campo = separador >= 0 ? linha.substring(0, separador) : linha;
+            String valor = separador >= 0 ? linha.substring(separador + 1) : "";
+            if (valor.startsWith(" ")) valor = valor.substring(1);
+            switch (campo) {
+                case "id": id = valor; break;
+                case "event": tipo = valor; break;
+                case "data":
+                    if (dados.length() > 0) dados.append('\n');
+                    dados.append(valor);
+                    break;
+                default:
+                    // "retry" e campos desconhecidos são ignorados.
+                    break;
+            }
+        }
+        return null;
+    }
+
+    // Monta o evento a partir dos campos lidos (os dados são um objeto JSON com o ID do estudante).
+    private static EventoEstudante criarEvento(String id, String tipo, String dados) throws IOException {
+        int estudanteId = 0;
+        if (!dados.isEmpty()) {
+            try {
+                JsonObject objeto = JsonParser.parseString(dados).getAsJsonObject();
+                JsonElement valor = objeto.get("id");
+                if (valor != null) estudanteId = valor.getAsInt();
+            } catch (JsonParseException | IllegalStateException | NumberFormatException e) {
+                throw new IOException("Evento inválido: " + dados, e);
+            }
+        }
+        return new EventoEstudante(id, tipo != null ? tipo : "message", estudanteId);
+    }
+
+    // Fecha o fluxo e a conexão (a conexão não volta para o pool de keep-alive).
+    @Override
+    public void close() {
+        conexao.disconnect();
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+// Índice de busca pelo nome dos estudantes, mantido em memória e atualizado aos poucos (só os
+// estudantes adicionados, removidos ou renomeados mexem no índice).
+// Os nomes são comparados sem acentos e sem diferenciar maiúsculas. Cada termo da busca precisa
+// corresponder ao nome, seja pelo começo de uma palavra ("mar" acha "Márcia Souza"), seja por qualquer
+// trecho de três letras ou mais ("uza" acha "Márcia Souza"). Os resultados vêm primeiro os que
+// correspondem pelo começo das palavras (em ordem alfabética da palavra) e depois os demais (por ID).
+// - As palavras ficam em um TreeMap, e a busca por prefixo percorre só o trecho do mapa que começa com ele.
+// - Cada trigrama (trecho de três letras de uma palavra) aponta para os IDs ordenados dos estudantes que
+//   o contêm; a busca por trecho cruza as listas dos trigramas do termo, começando pela menor.
+// Métodos sincronizados: o índice é alterado pela thread de atualização e consultado pela tela.
+public class IndiceNomes {
+
+    // Tamanho dos trechos usados na busca por trecho do nome.
+    static final int TAMANHO_TRIGRAMA = 3;
+
+    // Marcas de acento deixadas pela decomposição (NFD) e separadores entre palavras.
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Estudantes indexados, por ID.
+    private final Map<Integer, Estudante> estudantes = new HashMap<>();
+
+    // Palavras do nome normalizado de cada estudante indexado, por ID.
+    private final Map<Integer, String[]> palavras = new HashMap<>();
+
+    // IDs dos estudantes por palavra (para a busca por prefixo).
+    private final TreeMap<String, Postagens> porPalavra = new TreeMap<>();
+
+    // IDs dos estudantes por trigrama (para a busca por trecho).
+    private final Map<String, Postagens> porTrigrama = new HashMap<>();
+
+    // Remove acentos, passa para minúsculas e separa as palavras por um espaço (ex.: "  JOÃO  d'Ávila" vira
+    // "joao d avila").
+    public static String normalizar(String texto) {
+        if (texto == null) return "";
+        String semAcentos = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARADORES.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // Sincroniza o índice com a lista completa recebida do servidor: indexa os novos, reindexa os que
+    // mudaram de nome e retira os que não vieram. Os demais só têm o objeto trocado.
+    public synchronized void atualizar(List<Estudante> lista) {
+        Set<Integer> presentes = new HashSet<>();
+        for (Estudante estudante : lista) {
+            presentes.add(estudante.getId());
+            adicionarSemSincronizar(estudante);
+        }
+        for (Integer id : new ArrayList<>(estudantes.keySet())) {
+            if (!presentes.contains(id)) removerSemSincronizar(id);
+        }
+    }
+
+    // Indexa um estudante (ou atualiza, se o ID já estiver no índice).
+    public synchronized void adicionar(Estudante estudante) {
+        adicionarSemSincronizar(estudante);
+    }
+
+    // Retira um estudante do índice.
+    public synchronized void remover(int id) {
+        removerSemSincronizar(id);
+    }
+
+    // Quantidade de estudantes indexados.
+    public synchronized int getQuantidade() {
+        return estudantes.size();
+    }
+
+    // Busca os estudantes cujo nome corresponde a todos os termos da consulta (no máximo "limite").
+    // Uma consulta vazia não retorna ninguém.
+    public synchronized List<Estudante> buscar(String consulta, int limite) {
+        List<Estudante> resultado = new ArrayList<>();
+        String normalizada = normalizar(consulta);
+        if (normalizada.isEmpty() || limite <= 0) return resultado;
+
+        // O termo mais longo costuma ser o mais seletivo: ele gera os candidatos, os outros só filtram.
+        String[] termos = normalizada.split(" ");
+        String principal = termos[0];
+        for (String termo : termos) {
+            if (termo.length() > principal.length()) principal = termo;
+        }
+
+        // Primeiro os nomes com uma palavra começando pelo termo, na ordem das palavras.
+        Set<Integer> vistos = new HashSet<>();
+        NavigableMap<String, Postagens> comPrefixo =
+                porPalavra.subMap(principal, true, principal + Character.MAX_VALUE, false);
+        for (Postagens postagens : comPrefixo.values()) {
+            for (int i = 0; i < postagens.tamanho; i++) {
+                int id = postagens.ids[i];
+                if (vistos.add(id) && corresponde(id, termos)) {
+                    resultado.add(estudantes.get(id));
+                    if (resultado.size() == limite) return resultado;
+                }
+            }
+        }
+
+        // Depois os nomes que contêm o termo em outra posição (somente termos com um trigrama ou mais).
+        if (principal.length() < TAMANHO_TRIGRAMA) return resultado;
+        for (int id : candidatosPorTrecho(principal)) {
+            if (!vistos.contains(id) && corresponde(id, termos)) {
+                resultado.add(estudantes.get(id));
+                if (resultado.size() == limite) return resultado;
+            }
+        }
+        return resultado;
+    }
+
+    // IDs (em ordem crescente) que contêm todos os trigramas do termo.
+    private int[] candidatosPorTrecho(String termo) {
+        List<Postagens> listas = new ArrayList<>();
+        for (String trigrama : trigramas(termo)) {
+            Postagens postagens = porTrigrama.get(trigrama);
+            if (postagens == null) return new int[0];
+            listas.add(postagens);
+        }
+        listas.sort((a, b) -> Integer.compare(a.tamanho, b.tamanho));
+
+        int[] candidatos = Arrays.copyOf(listas.get(0).ids, listas.get(0).tamanho);
+        int quantidade = candidatos.length;
+        for (int i = 1; i < listas.size() && quantidade > 0; i++) {
+            quantidade = listas.get(i).intersectar(candidatos, quantidade);
+        }
+        return Arrays.copyOf(candidatos, quantidade);
+    }
+
+    // Verifica se o nome do estudante corresponde a todos os termos.
+    private boolean corresponde(int id, String[] termos) {
+        String[] palavrasNome = palavras.get(id);
+        for (String termo : termos) {
+            boolean encontrou = false;
+            for (String palavra : palavrasNome) {
+                if (termo.length() >= TAMANHO_TRIGRAMA ? palavra.contains(termo) : palavra.startsWith(termo)) {
+                    encontrou = true;
+                    break;
+                }
+            }
+            if (!encontrou) return false;
+        }
+        return true;
+    }
+
+    private void adicionarSemSincronizar(Estudante estudante) {
+        int id = estudante.getId();
+        Estudante anterior = estudantes.put(id, estudante);
+        // Mesmo nome de antes: o índice não muda (caso comum a cada rodada de atualização).
+        if (anterior != null && Objects.equals(anterior.getNome(), estudante.getNome())) return;
+
+        String[] novas = separar(estudante.getNome());
+        String[] atuais = palavras.get(id);
+        if (atuais != null && Arrays.equals(atuais, novas)) return;
+
+        if (atuais != null) desindexar(id, atuais);
+        palavras.put(id, novas);
+        for (String palavra : novas) {
+            porPalavra.computeIfAbsent(palavra, k -> new Postagens()).adicionar(id);
+        }
+        for (String trigrama : trigramas(novas)) {
+            porTrigrama.computeIfAbsent(trigrama, k -> new Postagens()).adicionar(id);
+        }
+    }
+
+    private void removerSemSincronizar(int id) {
+        estudantes.remove(id);
+        String[] atuais = palavras.remove(id);
+        if (atuais != null) desindexar(id, atuais);
+    }
+
+    // Retira o ID das listas das palavras e trigramas informados (apagando as listas que ficarem vazias).
+    private void desindexar(int id, String[] palavrasNome) {
+        for (String palavra : palavrasNome) {
+            Postagens postagens = porPalavra.get(palavra);
+            if (postagens != null && postagens.remover(id) && postagens.tamanho == 0) porPalavra.remove(palavra);
+        }
+        for (String trigrama : trigramas(palavrasNome)) {
+            Postagens postagens = porTrigrama.get(trigrama);
+            if (postagens != null && postagens.remover(id) && postagens.tamanho == 0) porTrigrama.remove(trigrama);
+        }
+    }
+
+    // Palavras distintas do nome normalizado.
+    private static String[] separar(String nome) {
+        String normalizado = normalizar(nome);
+        if (normalizado.isEmpty()) return new String[0];
+        Set<String> distintas = new HashSet<>(Arrays.asList(normalizado.split(" ")));
+        String[] resultado = distintas.toArray(new String[0]);
+        Arrays.sort(resultado);
+        return resultado;
+    }
+
+    // Trigramas distintos das palavras (sem atravessar o espaço entre elas).
+    private static Set<String> trigramas(String... palavrasNome) {
+        Set<String> trigramas = new HashSet<>();
+        for (String palavra : palavrasNome) {
+            for (int i = 0; i + TAMANHO_TRIGRAMA <= palavra.length(); i++) {
+                trigramas.add(palavra.substring(i, i + TAMANHO_TRIGRAMA));
+            }
+        }
+        return trigramas;
+    }
+
+    // Lista de IDs em ordem crescente, em um int[] que cresce conforme necessário. Os IDs chegam quase
+    // sempre em ordem (cadastros novos têm IDs maiores), então inserir costuma ser só acrescentar no fim.
+    private static final class Postagens {
+        int[] ids = new int[4];
+        int tamanho;
+
+        void adicionar(int id) {
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao >= 0) return;
+            posicao = -posicao - 1;
+            if (tamanho == ids.length) ids = Arrays.copyOf(ids, tamanho * 2);
+            System.arraycopy(ids, posicao, ids, posicao + 1, tamanho - posicao);
+            ids[posicao] = id;
+            tamanho++;
+        }
+
+        boolean remover(int id) {
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao < 0) return false;
+            System.arraycopy(ids, posicao + 1, ids, posicao, tamanho - posicao - 1);
+            tamanho--;
+            return true;
+        }
+
+        // Mantém em "candidatos" (ordenado) só os IDs que também estão nesta lista; retorna quantos ficaram.
+        int intersectar(int[] candidatos, int quantidade) {
+            int mantidos = 0;
+            int j = 0;
+            for (int i = 0; i < quantidade && j < tamanho; i++) {
+                int id = candidatos[i];
+                while (j < tamanho && ids[j] < id) j++;
+                if (j < tamanho && ids[j] == id) candidatos[mantidos++] = id;
+            }
+            return mantidos;
+        }
+    }
+}
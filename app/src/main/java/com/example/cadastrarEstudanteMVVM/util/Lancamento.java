@@ -0,0 +1,80 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+// Classe que representa um lançamento de nota ou de presença para um estudante.
+// Vários lançamentos (ex.: a chamada de uma turma inteira) são enviados juntos em um lote.
+public class Lancamento {
+
+    // Tipos de lançamento aceitos.
+    public enum Tipo { NOTA, PRESENCA }
+
+    // ID do estudante que recebe o lançamento.
+    private final int estudanteId;
+
+    // Tipo do lançamento.
+    private final Tipo tipo;
+
+    // Nota lançada (somente para o tipo NOTA).
+    private final double nota;
+
+    // Presença (true) ou falta (false) (somente para o tipo PRESENCA).
+    private final boolean presente;
+
+    // Construtor privado: use nota(...) ou presenca(...).
+    private Lancamento(int estudanteId, Tipo tipo, double nota, boolean presente) {
+        this.estudanteId = estudanteId;
+        this.tipo = tipo;
+        this.nota = nota;
+        this.presente = presente;
+    }
+
+    // Cria o lançamento de uma nota.
+    public static Lancamento nota(int estudanteId, double nota) {
+        return new Lancamento(estudanteId, Tipo.NOTA, nota, false);
+    }
+
+    // Cria o lançamento de uma presença (true) ou falta (false).
+    public static Lancamento presenca(int estudanteId, boolean presente) {
+        return new Lancamento(estudanteId, Tipo.PRESENCA, 0, presente);
+    }
+
+    // Getters
+    public int getEstudanteId() {
+        return estudanteId;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public double getNota() {
+        return nota;
+    }
+
+    public boolean isPresente() {
+        return presente;
+    }
+
+    // Escreve o lançamento no formato do lote: {"id": 1, "nota": 8.5} ou {"id": 1, "presente": true}.
+    void escrever(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(estudanteId);
+        if (tipo == Tipo.NOTA) {
+            writer.name("nota").value(nota);
+        } else {
+            writer.name("presente").value(presente);
+        }
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "Lancamento{" +
+                "estudanteId=" + estudanteId +
+                ", " + (tipo == Tipo.NOTA ? "nota=" + nota : "presente=" + presente) +
+                '}';
+    }
+}
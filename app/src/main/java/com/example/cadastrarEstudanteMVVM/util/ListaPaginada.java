@@ -0,0 +1,230 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import android.util.Log;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+// Lista de estudantes carregada em páginas, sob demanda, conforme as posições acessadas pela tela.
+// Só uma janela limitada de páginas fica em memória (MAXIMO_PAGINAS, por padrão): ao carregar uma página nova,
+// a mais distante da posição atual é descartada e volta a ser carregada se a tela voltar até ela.
+// Posições de páginas não carregadas retornam null (a tela mostra a linha vazia até a página chegar).
+// As páginas são carregadas no executor informado; os ouvintes são avisados na thread do executor.
+public class ListaPaginada {
+
+    // Quantidade de estudantes por página.
+    public static final int TAMANHO_PAGINA = 50;
+
+    // Quantidade máxima de páginas mantidas em memória.
+    public static final int MAXIMO_PAGINAS = 6;
+
+    // Quantas posições antes/depois da posição acessada já devem estar carregadas.
+    public static final int DISTANCIA_PRE_CARGA = 20;
+
+    // Fonte das páginas (ex.: o repositório, ou uma lista já em memória).
+    public interface FontePaginas {
+        // Retorna a página, ou null em caso de erro.
+        PaginaEstudantes carregar(int inicio, int quantidade);
+    }
+
+    // Interface para ser avisado quando a quantidade de posições ou o conteúdo de um trecho mudou.
+    public interface OuvinteListaPaginada {
+        void onListaAlterada(int quantidade, int inicioAlterado, int quantidadeAlterada);
+    }
+
+    private final FontePaginas fonte;
+    private final Executor executor;
+
+    // Quantidade máxima de páginas mantidas em memória por esta lista.
+    private final int maximoPaginas;
+    private final List<OuvinteListaPaginada> ouvintes = new CopyOnWriteArrayList<>();
+
+    // Páginas em memória, por número da página (acessadas com o monitor da lista).
+    private final Map<Integer, List<Estudante>> paginas = new LinkedHashMap<>();
+
+    // Páginas com carga em andamento.
+    private final Set<Integer> carregando = new HashSet<>();
+
+    // Quantidade de posições conhecidas (até o fim da página mais distante já carregada).
+    private int quantidade;
+
+    // Indica se pode haver estudantes depois da última posição conhecida.
+    private boolean temMais = true;
+
+    // Última posição acessada pela tela.
+    private int posicaoAtual;
+
+    // Construtor
+    public ListaPaginada(FontePaginas fonte, Executor executor) {
+        this(fonte, executor, MAXIMO_PAGINAS);
+    }
+
+    // Construtor com outro limite de páginas (ex.: sem limite para uma lista já em memória, em que
+    // descartar as páginas não libera nada).
+    public ListaPaginada(FontePaginas fonte, Executor executor, int maximoPaginas) {
+        this.fonte = fonte;
+        this.executor = executor;
+        this.maximoPaginas = Math.max(1, maximoPaginas);
+    }
+
+    // Fonte de páginas sobre uma lista já em memória (as páginas são trechos da lista).
+    public static FontePaginas daLista(List<Estudante> estudantes) {
+        return (inicio, quantidade) -> {
+            int fim = Math.min(inicio + quantidade, estudantes.size());
+            List<Estudante> trecho = inicio < fim ? estudantes.subList(inicio, fim) : new ArrayList<>();
+            return new PaginaEstudantes(inicio, trecho, fim < estudantes.size());
+        };
+    }
+
+    public void adicionarOuvinte(OuvinteListaPaginada ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    public void removerOuvinte(OuvinteListaPaginada ouvinte) {
+        ouvintes.remove(ouvinte);
+    }
+
+    // Carrega a primeira página, se ainda não houver nada carregado.
+    public void iniciar() {
+        acessar(posicaoAtual);
+    }
+
+    // Retorna o estudante da posição, ou null se a página dela não estiver em memória (sem carregar).
+    public synchronized Estudante get(int posicao) {
+        List<Estudante> pagina = paginas.get(posicao / TAMANHO_PAGINA);
+        int indice = posicao % TAMANHO_PAGINA;
+        return pagina != null && indice < pagina.size() ? pagina.get(indice) : null;
+    }
+
+    // Registra a posição acessada pela tela e carrega as páginas ao redor dela que faltarem
+    // (inclusive a próxima página, quando a posição está perto do fim do que já foi carregado).
+    public void acessar(int posicao) {
+        List<Integer> faltando = new ArrayList<>();
+        synchronized (this) {
+            posicaoAtual = Math.max(0, posicao);
+            int primeira = Math.max(0, posicaoAtual - DISTANCIA_PRE_CARGA) / TAMANHO_PAGINA;
+            int ultima = (posicaoAtual + DISTANCIA_PRE_CARGA) / TAMANHO_PAGINA;
+            for (int numero = primeira; numero <= ultima; numero++) {
+                boolean existe = numero * TAMANHO_PAGINA < quantidade || temMais && numero * TAMANHO_PAGINA == quantidade;
+                if (existe && !paginas.containsKey(numero) && carregando.add(numero)) {
+                    faltando.add(numero);
+                }
+            }
+        }
+        for (int numero : faltando) {
+            executor.execute(() -> carregar(numero));
+        }
+    }
+
+    // Carrega a página seguinte à última posição conhecida (ex.: a tela chegou perto do fim).
+    public void carregarMais() {
+        int ultimaPosicao;
+        synchronized (this) {
+            if (!temMais) return;
+            ultimaPosicao = quantidade;
+        }
+        acessar(ultimaPosicao);
+    }
+
+    // Recarrega as páginas em memória (ex.: após cadastrar ou editar um estudante, ou periodicamente).
+    // Páginas que não mudaram não geram aviso.
+    public void atualizar() {
+        List<Integer> numeros;
+        synchronized (this) {
+            numeros = new ArrayList<>(paginas.keySet());
+            if (numeros.isEmpty()) {
+                // Nada carregado ainda (ex.: a primeira carga falhou): tenta de novo.
+                temMais = true;
+                numeros.add(posicaoAtual / TAMANHO_PAGINA);
+            }
+            numeros.removeIf(numero -> !carregando.add(numero));
+        }
+        for (int numero : numeros) {
+            executor.execute(() -> carregar(numero));
+        }
+    }
+
+    // Quantidade de posições conhecidas (a tela exibe linhas vazias para as páginas fora da memória).
+    public synchronized int getQuantidade() {
+        return quantidade;
+    }
+
+    // Indica se pode haver estudantes depois da última posição conhecida.
+    public synchronized boolean isTemMais() {
+        return temMais;
+    }
+
+    // Quantidade de páginas em memória.
+    public synchronized int getPaginasEmMemoria() {
+        return paginas.size();
+    }
+
+    // Busca a página na fonte e guarda em memória, descartando a página mais distante se necessário.
+    private void carregar(int numero) {
+        PaginaEstudantes pagina = null;
+        try {
+            pagina = fonte.carregar(numero * TAMANHO_PAGINA, TAMANHO_PAGINA);
+        } catch (Exception e) {
+            Log.e("ListaPaginada", "Erro ao carregar a página " + numero, e);
+        }
+
+        int inicio = numero * TAMANHO_PAGINA;
+        int novaQuantidade;
+        int quantidadeAlterada;
+        List<int[]> descartadas = new ArrayList<>();
+        synchronized (this) {
+            carregando.remove(numero);
+            // Em caso de erro a página continua faltando; a próxima vez que for acessada tenta de novo.
+            if (pagina == null) return;
+
+            List<Estudante> estudantes = pagina.getEstudantes();
+            List<Estudante> anterior = estudantes.isEmpty() ? paginas.remove(numero) : paginas.put(numero, estudantes);
+            int quantidadeAnterior = quantidade;
+            if (!pagina.isTemMais()) {
+                // Última página: a lista termina aqui (pode ter diminuído desde a última carga).
+                quantidade = inicio + estudantes.size();
+                temMais = false;
+                paginas.keySet().removeIf(outra -> outra > numero);
+            } else {
+                quantidade = Math.max(quantidade, inicio + estudantes.size());
+                if (inicio + estudantes.size() >= quantidade) temMais = true;
+            }
+
+            // Mantém só as páginas mais próximas da posição atual.
+            int atual = posicaoAtual / TAMANHO_PAGINA;
+            while (paginas.size() > maximoPaginas) {
+                int maisDistante = -1;
+                for (int outra : paginas.keySet()) {
+                    if (maisDistante < 0 || Math.abs(outra - atual) > Math.abs(maisDistante - atual)) {
+                        maisDistante = outra;
+                    }
+                }
+                paginas.remove(maisDistante);
+                descartadas.add(new int[]{maisDistante * TAMANHO_PAGINA, TAMANHO_PAGINA});
+            }
+
+            // Página recarregada sem mudanças e sem mudar o tamanho da lista: nada a avisar.
+            if (anterior != null && quantidade == quantidadeAnterior && descartadas.isEmpty()
+                    && !DiferencaEstudantes.calcular(anterior, estudantes).temMudancas()) {
+                return;
+            }
+            novaQuantidade = quantidade;
+            quantidadeAlterada = Math.max(estudantes.size(), anterior != null ? anterior.size() : 0);
+        }
+
+        for (OuvinteListaPaginada ouvinte : ouvintes) {
+            ouvinte.onListaAlterada(novaQuantidade, inicio, quantidadeAlterada);
+            for (int[] trecho : descartadas) {
+                ouvinte.onListaAlterada(novaQuantidade, trecho[0], trecho[1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.PowerManager;
+import android.util.Log;
+
+// Classe que acompanha a economia de bateria e o modo ocioso (Doze) do aparelho e repassa o estado ao
+// ArmazemEstudantes, que espaça as consultas periódicas enquanto um dos dois estiver ativo.
+public class MonitorEnergia {
+
+    // Indica se o monitor já foi registrado (um só para o aplicativo inteiro).
+    private static boolean iniciado;
+
+    // Construtor privado: a classe só tem métodos estáticos.
+    private MonitorEnergia() {
+    }
+
+    // Registra o monitor com o contexto da aplicação e informa o estado atual. Chamadas repetidas
+    // (ex.: a Activity recriada ao girar a tela) são ignoradas.
+    public static synchronized void iniciar(Context context) {
+        if (iniciado) return;
+        Context aplicacao = context.getApplicationContext();
+        PowerManager energia = aplicacao.getSystemService(PowerManager.class);
+        if (energia == null) return;
+        iniciado = true;
+
+        IntentFilter filtro = new IntentFilter(PowerManager.ACTION_POWER_SAVE_MODE_CHANGED);
+        filtro.addAction(PowerManager.ACTION_DEVICE_IDLE_MODE_CHANGED);
+        aplicacao.registerReceiver(new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                informar(energia);
+            }
+        }, filtro, Context.RECEIVER_NOT_EXPORTED);
+        informar(energia);
+    }
+
+    // Repassa ao armazém se o aparelho está economizando energia.
+    private static void informar(PowerManager energia) {
+        boolean economia = energia.isPowerSaveMode() || energia.isDeviceIdleMode();
+        Log.d("MonitorEnergia", "Economia de bateria ou aparelho ocioso: " + economia);
+        ArmazemEstudantes.getInstance().setEconomiaEnergia(economia);
+    }
+}
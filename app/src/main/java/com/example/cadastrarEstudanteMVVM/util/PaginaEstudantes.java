@@ -0,0 +1,48 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.Collections;
+import java.util.List;
+
+// Classe que representa uma página da lista de estudantes.
+public class PaginaEstudantes {
+
+    // Posição do primeiro estudante da página na lista completa.
+    private final int inicio;
+
+    // Estudantes da página, na ordem da lista.
+    private final List<Estudante> estudantes;
+
+    // Indica se pode haver estudantes depois desta página.
+    private final boolean temMais;
+
+    // Construtor
+    public PaginaEstudantes(int inicio, List<Estudante> estudantes, boolean temMais) {
+        this.inicio = inicio;
+        this.estudantes = Collections.unmodifiableList(estudantes);
+        this.temMais = temMais;
+    }
+
+    // Getters
+    public int getInicio() {
+        return inicio;
+    }
+
+    public List<Estudante> getEstudantes() {
+        return estudantes;
+    }
+
+    public boolean isTemMais() {
+        return temMais;
+    }
+
+    @Override
+    public String toString() {
+        return "PaginaEstudantes{" +
+                "inicio=" + inicio +
+                ", estudantes=" + estudantes.size() +
+                ", temMais=" + temMais +
+                '}';
+    }
+}
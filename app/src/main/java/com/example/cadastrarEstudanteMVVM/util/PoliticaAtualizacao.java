@@ -0,0 +1,147 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import java.util.Random;
+
+// Política que decide o intervalo até a próxima consulta periódica do ArmazemEstudantes, a partir do
+// resultado das últimas rodadas:
+// - dados mudaram: o intervalo cai pela metade (até INTERVALO_MINIMO_MS), porque outras mudanças
+//   costumam vir em seguida (ex.: um professor lançando as notas da turma);
+// - nada mudou: o intervalo cresce FATOR_SEM_MUDANCAS vezes a cada rodada (até INTERVALO_MAXIMO_MS);
+// - falha na requisição: o intervalo dobra a cada falha seguida (até INTERVALO_MAXIMO_MS), para não
+//   insistir com um servidor fora do ar ou uma rede ruim.
+// Com o fluxo de alterações conectado, a consulta é só uma verificação de segurança e não roda antes de
+// INTERVALO_COM_EVENTOS_MS. Com o aparelho em economia de bateria ou ocioso (Doze), o intervalo é
+// multiplicado por FATOR_ECONOMIA. Cada intervalo sorteado varia até JITTER para mais ou para menos,
+// para os aparelhos não consultarem o servidor todos no mesmo instante.
+// O intervalo atual e o motivo ficam expostos para depuração. Métodos sincronizados: a política é
+// alterada pela thread do armazém e pelo monitor de energia.
+public class PoliticaAtualizacao {
+
+    // Intervalo inicial (em milissegundos).
+    public static final long INTERVALO_BASE_MS = 30_000;
+
+    // Menor intervalo, enquanto os dados estão mudando.
+    public static final long INTERVALO_MINIMO_MS = 10_000;
+
+    // Maior intervalo, com os dados parados ou com falhas seguidas.
+    public static final long INTERVALO_MAXIMO_MS = 5 * 60_000;
+
+    // Intervalo das verificações de segurança com o fluxo de alterações conectado.
+    public static final long INTERVALO_COM_EVENTOS_MS = 5 * 60_000;
+
+    // Crescimento do intervalo a cada rodada sem mudanças.
+    static final double FATOR_SEM_MUDANCAS = 1.5;
+
+    // Multiplicador do intervalo em economia de bateria ou com o aparelho ocioso.
+    static final int FATOR_ECONOMIA = 4;
+
+    // Variação aleatória máxima do intervalo (0,2 = até 20% para mais ou para menos).
+    static final double JITTER = 0.2;
+
+    private final long intervaloBase;
+    private final long intervaloMinimo;
+    private final long intervaloMaximo;
+    private final long intervaloComEventos;
+    private final Random sorteio;
+
+    // Intervalo atual, sem o fluxo, a economia e o jitter.
+    private long intervalo;
+
+    // Rodadas seguidas sem mudanças e com falha.
+    private int rodadasSemMudancas;
+    private int falhasSeguidas;
+
+    // Estado do fluxo de alterações e da energia do aparelho.
+    private boolean fluxoConectado;
+    private boolean economiaEnergia;
+
+    // Último intervalo sorteado e o motivo (para depuração).
+    private long ultimoIntervalo;
+    private String motivo = "inicial";
+
+    // Construtor com os intervalos padrão.
+    public PoliticaAtualizacao() {
+        this(INTERVALO_BASE_MS, INTERVALO_MINIMO_MS, INTERVALO_MAXIMO_MS, INTERVALO_COM_EVENTOS_MS, new Random());
+    }
+
+    // Construtor com outros intervalos e sorteio (ex.: testes).
+    PoliticaAtualizacao(long intervaloBase, long intervaloMinimo, long intervaloMaximo, long intervaloComEventos,
+                        Random sorteio) {
+        this.intervaloBase = intervaloBase;
+        this.intervaloMinimo = intervaloMinimo;
+        this.intervaloMaximo = intervaloMaximo;
+        this.intervaloComEventos = intervaloComEventos;
+        this.sorteio = sorteio;
+        this.intervalo = intervaloBase;
+        this.ultimoIntervalo = intervaloBase;
+    }
+
+    // Registra o resultado de uma rodada e retorna o intervalo (em milissegundos) até a próxima.
+    public synchronized long registrarRodada(boolean alterou, boolean falhou) {
+        if (falhou) {
+            falhasSeguidas++;
+            rodadasSemMudancas = 0;
+            intervalo = Math.min(intervaloMaximo, Math.max(intervalo, intervaloBase) * 2);
+        } else if (alterou) {
+            falhasSeguidas = 0;
+            rodadasSemMudancas = 0;
+            intervalo = Math.max(intervaloMinimo, Math.min(intervalo, intervaloBase) / 2);
+        } else {
+            falhasSeguidas = 0;
+            rodadasSemMudancas++;
+            intervalo = Math.min(intervaloMaximo, (long) (intervalo * FATOR_SEM_MUDANCAS));
+        }
+        return sortearIntervalo();
+    }
+
+    // Informa se o fluxo de alterações está conectado e retorna o novo intervalo até a próxima rodada.
+    public synchronized long setFluxoConectado(boolean fluxoConectado) {
+        this.fluxoConectado = fluxoConectado;
+        return sortearIntervalo();
+    }
+
+    // Informa se o aparelho está em economia de bateria ou ocioso. Retorna true se o estado mudou.
+    public synchronized boolean setEconomiaEnergia(boolean economiaEnergia) {
+        if (this.economiaEnergia == economiaEnergia) return false;
+        this.economiaEnergia = economiaEnergia;
+        return true;
+    }
+
+    // Sorteia de novo o intervalo até a próxima rodada, sem registrar uma rodada (ex.: a energia mudou).
+    public synchronized long recalcular() {
+        return sortearIntervalo();
+    }
+
+    // Último intervalo sorteado (em milissegundos).
+    public synchronized long getIntervaloMs() {
+        return ultimoIntervalo;
+    }
+
+    // Motivo do último intervalo (ex.: "sem mudanças há 3 rodadas + economia de energia").
+    public synchronized String getMotivo() {
+        return motivo;
+    }
+
+    // Aplica o fluxo, a economia e o jitter ao intervalo atual e monta o motivo.
+    private long sortearIntervalo() {
+        StringBuilder descricao = new StringBuilder();
+        if (falhasSeguidas > 0) descricao.append(falhasSeguidas).append(" falha(s) seguida(s)");
+        else if (rodadasSemMudancas > 0) descricao.append("sem mudanças há ").append(rodadasSemMudancas).append(" rodada(s)");
+        else if (intervalo < intervaloBase) descricao.append("dados mudando");
+        else descricao.append("inicial");
+
+        long base = intervalo;
+        if (fluxoConectado && base < intervaloComEventos) {
+            base = intervaloComEventos;
+            descricao.append(" + fluxo de alterações conectado");
+        }
+        if (economiaEnergia) {
+            base *= FATOR_ECONOMIA;
+            descricao.append(" + economia de energia");
+        }
+
+        ultimoIntervalo = Math.round(base * (1 + JITTER * (2 * sorteio.nextDouble() - 1)));
+        motivo = descricao.toString();
+        return ultimoIntervalo;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Classe que representa a resposta de uma requisição condicional (GET ou escrita com If-Match).
+// O corpo é um fluxo lido diretamente da conexão (ou do cache, no caso de 304) e deve ser fechado.
+public class RespostaHttp implements Closeable {
+
+    // Código HTTP recebido do servidor (200, 304...).
+    private final int codigo;
+
+    // Corpo da resposta (vindo do servidor ou do cache, no caso de 304).
+    private final InputStream corpo;
+
+    // Tamanho do corpo em bytes, ou -1 se desconhecido.
+    private final long tamanho;
+
+    // Indica que o servidor respondeu 304 e o corpo veio do cache.
+    private final boolean naoModificado;
+
+    // Versão do recurso (cabeçalho ETag), ou null se o servidor não informou.
+    private final String etag;
+
+    // Construtores
+    public RespostaHttp(int codigo, InputStream corpo, long tamanho, boolean naoModificado) {
+        this(codigo, corpo, tamanho, naoModificado, null);
+    }
+
+    public RespostaHttp(int codigo, InputStream corpo, long tamanho, boolean naoModificado, String etag) {
+        this.codigo = codigo;
+        this.corpo = corpo;
+        this.tamanho = tamanho;
+        this.naoModificado = naoModificado;
+        this.etag = etag;
+    }
+
+    // Getters
+    public int getCodigo() {
+        return codigo;
+    }
+
+    public InputStream getCorpo() {
+        return corpo;
+    }
+
+    public long getTamanho() {
+        return tamanho;
+    }
+
+    public boolean isNaoModificado() {
+        return naoModificado;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    // Fecha o corpo (o que ainda não foi lido é descartado para liberar a conexão).
+    @Override
+    public void close() throws IOException {
+        corpo.close();
+    }
+}
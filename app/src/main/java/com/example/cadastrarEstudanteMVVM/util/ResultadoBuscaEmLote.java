@@ -0,0 +1,125 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Classe que guarda o resultado de uma busca em lote dos dados completos dos estudantes
+public class ResultadoBuscaEmLote {
+
+    // Estudantes obtidos com sucesso, na mesma ordem da lista retornada pela API.
+    private final List<Estudante> estudantes;
+
+    // Falhas por ID do estudante (mensagem do erro ou "Prazo esgotado").
+    private final Map<Integer, String> falhas;
+
+    // Indica se a lista ou algum estudante mudou desde a busca anterior.
+    private final boolean alterado;
+
+    // Quantidade máxima de requisições simultâneas usada na busca.
+    private final int paralelismo;
+
+    // Tempo gasto buscando a lista inicial (em milissegundos).
+    private final long tempoListaMs;
+
+    // Tempo gasto buscando os detalhes de todos os estudantes (em milissegundos).
+    private final long tempoDetalhesMs;
+
+    // Estudantes novos ou alterados desde a busca anterior e IDs dos que saíram da lista. Em uma busca
+    // completa (não incremental), todos os estudantes contam como atualizados.
+    private final List<Estudante> atualizados;
+    private final Set<Integer> removidos;
+
+    // Indica se o resultado é incremental (atualizados e removidos são relativos à busca anterior).
+    private final boolean incremental;
+
+    // Construtor
+    public ResultadoBuscaEmLote(List<Estudante> estudantes, Map<Integer, String> falhas, boolean alterado,
+                                int paralelismo, long tempoListaMs, long tempoDetalhesMs) {
+        this(estudantes, falhas, alterado, paralelismo, tempoListaMs, tempoDetalhesMs,
+                estudantes, Collections.emptySet(), false);
+    }
+
+    // Construtor de um resultado incremental
+    public ResultadoBuscaEmLote(List<Estudante> estudantes, Map<Integer, String> falhas, boolean alterado,
+                                int paralelismo, long tempoListaMs, long tempoDetalhesMs,
+                                List<Estudante> atualizados, Set<Integer> removidos) {
+        this(estudantes, falhas, alterado, paralelismo, tempoListaMs, tempoDetalhesMs, atualizados, removidos, true);
+    }
+
+    private ResultadoBuscaEmLote(List<Estudante> estudantes, Map<Integer, String> falhas, boolean alterado,
+                                 int paralelismo, long tempoListaMs, long tempoDetalhesMs,
+                                 List<Estudante> atualizados, Set<Integer> removidos, boolean incremental) {
+        this.atualizados = Collections.unmodifiableList(atualizados);
+        this.removidos = Collections.unmodifiableSet(removidos);
+        this.incremental = incremental;
+        this.estudantes = Collections.unmodifiableList(estudantes);
+        this.falhas = Collections.unmodifiableMap(falhas);
+        this.alterado = alterado;
+        this.paralelismo = paralelismo;
+        this.tempoListaMs = tempoListaMs;
+        this.tempoDetalhesMs = tempoDetalhesMs;
+    }
+
+    // Getters
+    public List<Estudante> getEstudantes() {
+        return estudantes;
+    }
+
+    public List<Estudante> getAtualizados() {
+        return atualizados;
+    }
+
+    public Set<Integer> getRemovidos() {
+        return removidos;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public Map<Integer, String> getFalhas() {
+        return falhas;
+    }
+
+    public boolean isAlterado() {
+        return alterado;
+    }
+
+    public int getParalelismo() {
+        return paralelismo;
+    }
+
+    public long getTempoListaMs() {
+        return tempoListaMs;
+    }
+
+    public long getTempoDetalhesMs() {
+        return tempoDetalhesMs;
+    }
+
+    public long getTempoTotalMs() {
+        return tempoListaMs + tempoDetalhesMs;
+    }
+
+    // Indica se todos os estudantes foram obtidos sem falhas.
+    public boolean isCompleto() {
+        return falhas.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoBuscaEmLote{" +
+                "estudantes=" + estudantes.size() +
+                ", falhas=" + falhas.size() +
+                ", alterado=" + alterado +
+                (incremental ? ", atualizados=" + atualizados.size() + ", removidos=" + removidos.size() : "") +
+                ", paralelismo=" + paralelismo +
+                ", tempoListaMs=" + tempoListaMs +
+                ", tempoDetalhesMs=" + tempoDetalhesMs +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+// Classe que devolve o resultado de uma consulta ao repositório indicando se os dados mudaram
+public class ResultadoConsulta<T> {
+
+    // Dados obtidos (novos ou os mesmos da consulta anterior).
+    private final T dados;
+
+    // Indica se os dados mudaram desde a última consulta.
+    private final boolean alterado;
+
+    // Construtor
+    public ResultadoConsulta(T dados, boolean alterado) {
+        this.dados = dados;
+        this.alterado = alterado;
+    }
+
+    // Getters
+    public T getDados() {
+        return dados;
+    }
+
+    public boolean isAlterado() {
+        return alterado;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// Classe que guarda o resultado do envio de um lote de lançamentos (notas e presenças)
+public class ResultadoLancamentos {
+
+    // Lançamentos enviados, na ordem em que foram informados.
+    private final List<Lancamento> lancamentos;
+
+    // Falhas por lançamento (mensagem do erro). Os lançamentos ausentes foram gravados.
+    private final Map<Lancamento, String> falhas;
+
+    // Estudantes como ficaram no servidor após o lote, por ID.
+    private final Map<Integer, Estudante> atualizados;
+
+    // Quantidade de requisições HTTP usadas para enviar o lote.
+    private final int requisicoes;
+
+    // Tempo total do envio (em milissegundos).
+    private final long tempoMs;
+
+    // Construtor
+    public ResultadoLancamentos(List<Lancamento> lancamentos, Map<Lancamento, String> falhas,
+                                Map<Integer, Estudante> atualizados, int requisicoes, long tempoMs) {
+        this.lancamentos = Collections.unmodifiableList(lancamentos);
+        this.falhas = Collections.unmodifiableMap(falhas);
+        this.atualizados = Collections.unmodifiableMap(atualizados);
+        this.requisicoes = requisicoes;
+        this.tempoMs = tempoMs;
+    }
+
+    // Getters
+    public List<Lancamento> getLancamentos() {
+        return lancamentos;
+    }
+
+    public Map<Lancamento, String> getFalhas() {
+        return falhas;
+    }
+
+    public Map<Integer, Estudante> getAtualizados() {
+        return atualizados;
+    }
+
+    public int getRequisicoes() {
+        return requisicoes;
+    }
+
+    public long getTempoMs() {
+        return tempoMs;
+    }
+
+    // Mensagem de erro do lançamento, ou null se ele foi gravado.
+    public String getFalha(Lancamento lancamento) {
+        return falhas.get(lancamento);
+    }
+
+    // Quantidade de lançamentos gravados.
+    public int getQuantidadeSucessos() {
+        return lancamentos.size() - falhas.size();
+    }
+
+    // Indica se todos os lançamentos foram gravados.
+    public boolean isCompleto() {
+        return falhas.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoLancamentos{" +
+                "lancamentos=" + lancamentos.size() +
+                ", falhas=" + falhas.size() +
+                ", requisicoes=" + requisicoes +
+                ", tempoMs=" + tempoMs +
+                '}';
+    }
+}
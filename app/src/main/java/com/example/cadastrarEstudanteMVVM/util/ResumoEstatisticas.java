@@ -0,0 +1,119 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import java.util.Collections;
+import java.util.List;
+
+// Classe imutável com todas as estatísticas da turma exibidas na tela de estatísticas,
+// calculadas em uma única passada por CalculoEstatisticas.calcularResumo.
+public final class ResumoEstatisticas {
+
+    // Resumo de uma turma vazia.
+    static final ResumoEstatisticas VAZIO = new ResumoEstatisticas(0, 0, null, 0, null, 0, 0,
+            Collections.emptyList(), Collections.emptyList(),
+            AcumuladorDistribuicao.paraNotas(), AcumuladorDistribuicao.paraPresenca());
+
+    // Quantidade de estudantes considerados.
+    private final int quantidade;
+
+    // Média geral (média das médias dos estudantes).
+    private final double mediaGeral;
+
+    // Estudante com a maior média (o primeiro, em caso de empate) e sua média.
+    private final Estudante maiorNota;
+    private final double mediaMaiorNota;
+
+    // Estudante com a menor média (o primeiro, em caso de empate) e sua média.
+    private final Estudante menorNota;
+    private final double mediaMenorNota;
+
+    // Média de idade da turma.
+    private final double mediaIdade;
+
+    // Estudantes aprovados e reprovados, na ordem da lista original (vazias no resumo das estatísticas
+    // incrementais, que entregam as mudanças à parte).
+    private final List<Estudante> aprovados;
+    private final List<Estudante> reprovados;
+
+    // Distribuição das médias e dos percentuais de presença dos estudantes (desvio padrão, percentis e
+    // histograma). Não devem ser alteradas depois de montado o resumo.
+    private final AcumuladorDistribuicao distribuicaoNotas;
+    private final AcumuladorDistribuicao distribuicaoPresenca;
+
+    // Construtor
+    ResumoEstatisticas(int quantidade, double mediaGeral, Estudante maiorNota, double mediaMaiorNota,
+                       Estudante menorNota, double mediaMenorNota, double mediaIdade,
+                       List<Estudante> aprovados, List<Estudante> reprovados,
+                       AcumuladorDistribuicao distribuicaoNotas, AcumuladorDistribuicao distribuicaoPresenca) {
+        this.quantidade = quantidade;
+        this.mediaGeral = mediaGeral;
+        this.maiorNota = maiorNota;
+        this.mediaMaiorNota = mediaMaiorNota;
+        this.menorNota = menorNota;
+        this.mediaMenorNota = mediaMenorNota;
+        this.mediaIdade = mediaIdade;
+        this.aprovados = Collections.unmodifiableList(aprovados);
+        this.reprovados = Collections.unmodifiableList(reprovados);
+        this.distribuicaoNotas = distribuicaoNotas;
+        this.distribuicaoPresenca = distribuicaoPresenca;
+    }
+
+    // Getters
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public double getMediaGeral() {
+        return mediaGeral;
+    }
+
+    public Estudante getMaiorNota() {
+        return maiorNota;
+    }
+
+    public double getMediaMaiorNota() {
+        return mediaMaiorNota;
+    }
+
+    public Estudante getMenorNota() {
+        return menorNota;
+    }
+
+    public double getMediaMenorNota() {
+        return mediaMenorNota;
+    }
+
+    public double getMediaIdade() {
+        return mediaIdade;
+    }
+
+    public List<Estudante> getAprovados() {
+        return aprovados;
+    }
+
+    public List<Estudante> getReprovados() {
+        return reprovados;
+    }
+
+    public AcumuladorDistribuicao getDistribuicaoNotas() {
+        return distribuicaoNotas;
+    }
+
+    public AcumuladorDistribuicao getDistribuicaoPresenca() {
+        return distribuicaoPresenca;
+    }
+
+    @Override
+    public String toString() {
+        return "ResumoEstatisticas{" +
+                "quantidade=" + quantidade +
+                ", mediaGeral=" + mediaGeral +
+                ", mediaIdade=" + mediaIdade +
+                ", aprovados=" + aprovados.size() +
+                ", reprovados=" + reprovados.size() +
+                ", notas=" + distribuicaoNotas +
+                ", presenca=" + distribuicaoPresenca +
+                '}';
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.model.ListaNotas;
+import com.example.cadastrarEstudanteMVVM.model.ListaPresenca;
+
+import java.util.List;
+
+// Fotografia imutável da turma em colunas (um array por campo, em vez de um objeto por estudante),
+// usada pelas estatísticas. As notas de todos os estudantes ficam em um único double[] e as presenças
+// em um único long[] de bits; os arrays de início indicam onde começa cada estudante (o estudante i
+// vai de inicioNotas[i] até inicioNotas[i + 1]). Assim os cálculos percorrem arrays primitivos em
+// sequência, sem seguir referências nem criar objetos.
+public final class TurmaColunar {
+
+    // Turma sem estudantes.
+    static final TurmaColunar VAZIA = new TurmaColunar(new Estudante[0], new int[0], new int[0],
+            new double[0], new int[1], new long[0], new int[1], new int[0]);
+
+    // Estudantes de origem, na ordem da lista (usados só para devolver os estudantes nos resultados).
+    private final Estudante[] estudantes;
+
+    // IDs e idades, por posição.
+    final int[] ids;
+    final int[] idades;
+
+    // Notas de todos os estudantes, em sequência, e o início das notas de cada um (tamanho n + 1).
+    final double[] notas;
+    final int[] inicioNotas;
+
+    // Presenças de todos os estudantes (64 aulas por palavra, cada estudante começando em uma palavra
+    // nova), o início das palavras de cada um (tamanho n + 1) e a quantidade de aulas de cada um.
+    final long[] presencas;
+    final int[] inicioPresencas;
+    final int[] aulas;
+
+    // Construtor
+    private TurmaColunar(Estudante[] estudantes, int[] ids, int[] idades, double[] notas, int[] inicioNotas,
+                         long[] presencas, int[] inicioPresencas, int[] aulas) {
+        this.estudantes = estudantes;
+        this.ids = ids;
+        this.idades = idades;
+        this.notas = notas;
+        this.inicioNotas = inicioNotas;
+        this.presencas = presencas;
+        this.inicioPresencas = inicioPresencas;
+        this.aulas = aulas;
+    }
+
+    // Monta a fotografia a partir da lista de estudantes (duas passadas: tamanhos e depois cópia).
+    // Alterações feitas depois nos estudantes não afetam a fotografia.
+    public static TurmaColunar criar(List<Estudante> lista) {
+        if (lista == null || lista.isEmpty()) return VAZIA;
+
+        Estudante[] estudantes = lista.toArray(new Estudante[0]);
+        int n = estudantes.length;
+        int[] ids = new int[n];
+        int[] idades = new int[n];
+        int[] inicioNotas = new int[n + 1];
+        int[] inicioPresencas = new int[n + 1];
+        int[] aulas = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            Estudante estudante = estudantes[i];
+            ids[i] = estudante.getId();
+            idades[i] = estudante.getIdade();
+            List<Double> notas = estudante.getNotas();
+            List<Boolean> presenca = estudante.getPresenca();
+            aulas[i] = presenca != null ? presenca.size() : 0;
+            inicioNotas[i + 1] = inicioNotas[i] + (notas != null ? notas.size() : 0);
+            inicioPresencas[i + 1] = inicioPresencas[i] + (aulas[i] + 63) / 64;
+        }
+
+        double[] notas = new double[inicioNotas[n]];
+        long[] presencas = new long[inicioPresencas[n]];
+        for (int i = 0; i < n; i++) {
+            copiarNotas(estudantes[i].getNotas(), notas, inicioNotas[i]);
+            copiarPresencas(estudantes[i].getPresenca(), presencas, inicioPresencas[i]);
+        }
+        return new TurmaColunar(estudantes, ids, idades, notas, inicioNotas, presencas, inicioPresencas, aulas);
+    }
+
+    // Copia as notas de um estudante (direto do double[] quando possível).
+    private static void copiarNotas(List<Double> origem, double[] destino, int posicao) {
+        if (origem == null) return;
+        if (origem instanceof ListaNotas) {
+            ((ListaNotas) origem).copiarPara(destino, posicao);
+            return;
+        }
+        for (int j = 0; j < origem.size(); j++) {
+            destino[posicao + j] = origem.get(j);
+        }
+    }
+
+    // Copia as presenças de um estudante (direto dos bits quando possível).
+    private static void copiarPresencas(List<Boolean> origem, long[] destino, int posicao) {
+        if (origem == null) return;
+        if (origem instanceof ListaPresenca) {
+            ((ListaPresenca) origem).copiarPara(destino, posicao);
+            return;
+        }
+        for (int j = 0; j < origem.size(); j++) {
+            if (origem.get(j)) destino[posicao + (j >>> 6)] |= 1L << j;
+        }
+    }
+
+    // Quantidade de estudantes.
+    public int getQuantidade() {
+        return estudantes.length;
+    }
+
+    // Estudante de origem na posição.
+    public Estudante getEstudante(int posicao) {
+        return estudantes[posicao];
+    }
+
+    // Média das notas do estudante na posição (mesmo cálculo de Estudante.calcularMedia: 0 sem notas).
+    double media(int posicao) {
+        int inicio = inicioNotas[posicao];
+        int fim = inicioNotas[posicao + 1];
+        if (inicio == fim) return 0;
+        double soma = 0;
+        for (int j = inicio; j < fim; j++) {
+            soma += notas[j];
+        }
+        return soma / (fim - inicio);
+    }
+
+    // Percentual de presença do estudante na posição (mesmo cálculo de Estudante.calcularPercentualPresenca).
+    double percentualPresenca(int posicao) {
+        if (aulas[posicao] == 0) return 0;
+        int presentes = 0;
+        for (int j = inicioPresencas[posicao]; j < inicioPresencas[posicao + 1]; j++) {
+            presentes += Long.bitCount(presencas[j]);
+        }
+        return (presentes * 100.0) / aulas[posicao];
+    }
+
+    @Override
+    public String toString() {
+        return "TurmaColunar{" +
+                "estudantes=" + estudantes.length +
+                ", notas=" + notas.length +
+                ", palavrasPresenca=" + presencas.length +
+                '}';
+    }
+}
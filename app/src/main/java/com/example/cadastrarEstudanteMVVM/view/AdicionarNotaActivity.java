@@ -94,8 +94,8 @@ public class AdicionarNotaActivity extends AppCompatActivity {
         try {
             double nota = Double.parseDouble(notaStr);
 
-            // Verifica se a nota está no intervalo permitido.
-            if (nota < 0 || nota > 10) {
+            // Verifica se a nota é finita ("NaN" não falha em nenhuma das comparações) e está no intervalo.
+            if (!Double.isFinite(nota) || nota < 0 || nota > 10) {
                 showToast("Nota deve estar entre 0 e 10");
                 return false;
             }
@@ -0,0 +1,105 @@
+package com.example.cadastrarEstudanteMVVM.view;
+
+import android.os.Bundle;
+import android.view.View;
+import android.widget.Toast;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.ViewModelProvider;
+
+import com.example.cadastrarEstudanteMVVM.databinding.ActivityChamadaBinding;
+import com.example.cadastrarEstudanteMVVM.util.ChamadaViewModel;
+import com.example.cadastrarEstudanteMVVM.util.Lancamento;
+import com.example.cadastrarEstudanteMVVM.util.ResultadoLancamentos;
+
+import java.util.List;
+
+// Classe responsável pela chamada da turma: presença e nota de todos os estudantes em um único envio.
+public class ChamadaActivity extends AppCompatActivity {
+
+    // View Binding para acessar os elementos da interface de forma segura.
+    private ActivityChamadaBinding binding;
+
+    // ViewModel responsável por carregar a turma e enviar os lançamentos.
+    private ChamadaViewModel viewModel;
+
+    // Adapter com as linhas da chamada.
+    private ChamadaAdapter adapter;
+
+    // Método chamado quando a Activity é criada.
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+
+        // Inicializa o binding da UI com o layout correspondente.
+        binding = ActivityChamadaBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        // Inicializa o ViewModel e o associa ao ciclo de vida da Activity.
+        viewModel = new ViewModelProvider(this).get(ChamadaViewModel.class);
+        getLifecycle().addObserver(viewModel);
+
+        // Configura a lista, os observadores e o botão de envio.
+        adapter = new ChamadaAdapter();
+        binding.recyclerViewChamada.setAdapter(adapter);
+        setupObservers();
+        binding.btnEnviarChamada.setOnClickListener(v -> enviarChamada());
+    }
+
+    // Observa os dados do ViewModel e atualiza a interface.
+    private void setupObservers() {
+        // Turma carregada (ou atualizada) pelo armazém.
+        viewModel.getEstudantes().observe(this, adapter::submitList);
+
+        // Progresso do envio.
+        viewModel.getTotal().observe(this, total -> binding.progressEnvio.setMax(total));
+        viewModel.getProgresso().observe(this, concluidos -> {
+            binding.progressEnvio.setProgress(concluidos);
+            Integer total = viewModel.getTotal().getValue();
+            if (Boolean.TRUE.equals(viewModel.getEnviando().getValue()) && total != null) {
+                binding.textResumo.setText(String.format("Enviando %d de %d lançamentos...", concluidos, total));
+            }
+        });
+
+        // Durante o envio, mostra a barra de progresso e bloqueia um segundo envio.
+        viewModel.getEnviando().observe(this, enviando -> {
+            binding.progressEnvio.setVisibility(enviando ? View.VISIBLE : View.GONE);
+            binding.btnEnviarChamada.setEnabled(!enviando);
+        });
+
+        // Resultado: resumo geral e a situação de cada estudante que falhou.
+        viewModel.getResultado().observe(this, this::mostrarResultado);
+    }
+
+    // Monta os lançamentos a partir da tela e envia.
+    private void enviarChamada() {
+        List<Lancamento> lancamentos = adapter.getLancamentos();
+        if (lancamentos == null) {
+            showToast("Notas devem estar entre 0 e 10");
+            return;
+        }
+        if (lancamentos.isEmpty()) {
+            showToast("Nenhum estudante na turma");
+            return;
+        }
+        viewModel.enviar(lancamentos);
+    }
+
+    // Exibe o resultado do envio.
+    private void mostrarResultado(ResultadoLancamentos resultado) {
+        adapter.mostrarResultado(resultado);
+        binding.textResumo.setText(String.format("%d de %d lançamentos gravados em %d ms",
+                resultado.getQuantidadeSucessos(), resultado.getLancamentos().size(), resultado.getTempoMs()));
+        if (resultado.isCompleto()) {
+            showToast("Chamada registrada");
+            setResult(RESULT_OK);
+        } else {
+            showToast(resultado.getFalhas().size() + " lançamentos falharam");
+        }
+    }
+
+    // Exibe uma mensagem Toast simples.
+    private void showToast(String mensagem) {
+        Toast.makeText(this, mensagem, Toast.LENGTH_SHORT).show();
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.cadastrarEstudanteMVVM.view;
+
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.example.cadastrarEstudanteMVVM.databinding.ItemChamadaBinding;
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.util.Lancamento;
+import com.example.cadastrarEstudanteMVVM.util.ResultadoLancamentos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Classe Adapter da chamada: uma linha por estudante, com presença (marcada por padrão) e nota opcional.
+// O que foi marcado fica guardado por ID do estudante, então sobrevive à reciclagem das linhas e às
+// atualizações da lista.
+public class ChamadaAdapter extends ListAdapter<Estudante, ChamadaAdapter.ChamadaViewHolder> {
+
+    // Presença marcada por ID do estudante (ausente no mapa = presente).
+    private final Map<Integer, Boolean> presencas = new HashMap<>();
+
+    // Nota digitada por ID do estudante (texto como foi digitado).
+    private final Map<Integer, String> notas = new HashMap<>();
+
+    // Situação do último envio por ID do estudante (null = sem erro).
+    private final Map<Integer, String> situacoes = new HashMap<>();
+
+    /**
+     * Compara estudantes pelo ID (mesmo item) e pelo nome (único dado exibido).
+     */
+    private static final DiffUtil.ItemCallback<Estudante> COMPARADOR = new DiffUtil.ItemCallback<Estudante>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Estudante antigo, @NonNull Estudante novo) {
+            return antigo.getId() == novo.getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Estudante antigo, @NonNull Estudante novo) {
+            return antigo.getNome() != null ? antigo.getNome().equals(novo.getNome()) : novo.getNome() == null;
+        }
+    };
+
+    // Construtor
+    public ChamadaAdapter() {
+        super(COMPARADOR);
+        setHasStableIds(true);
+    }
+
+    // Retorna o ID estável do item (o ID do estudante).
+    @Override
+    public long getItemId(int position) {
+        return getItem(position).getId();
+    }
+
+    /**
+     * Monta os lançamentos da chamada: uma presença para cada estudante e uma nota para quem teve
+     * nota digitada. Retorna null se alguma nota digitada for inválida.
+     */
+    public List<Lancamento> getLancamentos() {
+        List<Lancamento> lancamentos = new ArrayList<>();
+        for (Estudante estudante : getCurrentList()) {
+            int id = estudante.getId();
+            lancamentos.add(Lancamento.presenca(id, !Boolean.FALSE.equals(presencas.get(id))));
+
+            String nota = notas.get(id);
+            if (nota != null && !nota.trim().isEmpty()) {
+                try {
+                    double valor = Double.parseDouble(nota.trim().replace(',', '.'));
+                    if (valor < 0 || valor > 10) return null;
+                    lancamentos.add(Lancamento.nota(id, valor));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return lancamentos;
+    }
+
+    /**
+     * Mostra o resultado do envio em cada linha. Estudantes gravados sem erro têm a nota digitada
+     * limpa, para não ser lançada de novo em um segundo envio.
+     */
+    public void mostrarResultado(ResultadoLancamentos resultado) {
+        situacoes.clear();
+        for (Map.Entry<Lancamento, String> falha : resultado.getFalhas().entrySet()) {
+            situacoes.put(falha.getKey().getEstudanteId(), falha.getValue());
+        }
+        for (Lancamento lancamento : resultado.getLancamentos()) {
+            if (lancamento.getTipo() == Lancamento.Tipo.NOTA && resultado.getFalha(lancamento) == null) {
+                notas.remove(lancamento.getEstudanteId());
+            }
+        }
+        notifyItemRangeChanged(0, getItemCount());
+    }
+
+    // Cria o ViewHolder para cada item na RecyclerView
+    @NonNull
+    @Override
+    public ChamadaViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        ItemChamadaBinding binding = ItemChamadaBinding.inflate(LayoutInflater.from(parent.getContext()), parent, false);
+        ChamadaViewHolder holder = new ChamadaViewHolder(binding);
+
+        // Os listeners são configurados uma única vez e gravam no estudante da posição atual.
+        binding.checkPresente.setOnCheckedChangeListener((botao, marcado) -> {
+            int posicao = holder.getBindingAdapterPosition();
+            if (!holder.vinculando && posicao != RecyclerView.NO_POSITION) {
+                presencas.put(getItem(posicao).getId(), marcado);
+            }
+        });
+        binding.editNota.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {}
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                int posicao = holder.getBindingAdapterPosition();
+                if (!holder.vinculando && posicao != RecyclerView.NO_POSITION) {
+                    notas.put(getItem(posicao).getId(), s.toString());
+                }
+            }
+        });
+        return holder;
+    }
+
+    // Vincula os dados ao ViewHolder
+    @Override
+    public void onBindViewHolder(@NonNull ChamadaViewHolder holder, int position) {
+        Estudante estudante = getItem(position);
+        int id = estudante.getId();
+
+        // Evita que os listeners gravem os valores restaurados como se fossem digitados.
+        holder.vinculando = true;
+        holder.binding.setEstudante(estudante);
+        holder.binding.checkPresente.setChecked(!Boolean.FALSE.equals(presencas.get(id)));
+        String nota = notas.get(id);
+        holder.binding.editNota.setText(nota != null ? nota : "");
+        String situacao = situacoes.get(id);
+        holder.binding.textSituacao.setText(situacao);
+        holder.binding.textSituacao.setVisibility(situacao != null ? View.VISIBLE : View.GONE);
+        holder.binding.executePendingBindings();
+        holder.vinculando = false;
+    }
+
+    /**
+     * ViewHolder que mantém a referência ao ItemChamadaBinding.
+     */
+    static class ChamadaViewHolder extends RecyclerView.ViewHolder {
+        final ItemChamadaBinding binding;
+
+        // Indica que a linha está sendo preenchida pelo adapter (e não pelo usuário).
+        boolean vinculando;
+
+        ChamadaViewHolder(ItemChamadaBinding binding) {
+            super(binding.getRoot());
+            this.binding = binding;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.cadastrarEstudanteMVVM.view;
 import android.app.AlertDialog;
 import android.content.Intent;
 import android.os.Bundle;
+import android.view.View;
 
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.lifecycle.ViewModelProvider;
@@ -96,6 +97,16 @@ public class DetalhesEstudanteActivity extends AppCompatActivity {
                 binding.textSituacao.setText("Situação: " + estudante.verificarSituacao());
             }
         });
+
+        // Observa a posição do estudante na turma (oculta enquanto ele não estiver classificado).
+        viewModel.getPosicaoNaTurma().observe(this, posicao -> {
+            if (posicao != null && posicao[0] > 0) {
+                binding.textPosicao.setText(String.format("Posição na turma: %dº de %d", posicao[0], posicao[1]));
+                binding.textPosicao.setVisibility(View.VISIBLE);
+            } else {
+                binding.textPosicao.setVisibility(View.GONE);
+            }
+        });
     }
 
     // Exibe um diálogo de confirmação antes de deletar o estudante.
@@ -9,15 +9,17 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 
 
 import com.example.cadastrarEstudanteMVVM.databinding.ActivityEstatisticasBinding;
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.util.DiferencaSituacao;
 import com.example.cadastrarEstudanteMVVM.util.EstatisticasViewModel;
 
-import java.util.ArrayList;
+import java.util.List;
 
 public class EstatisticasActivity extends AppCompatActivity {
     private ActivityEstatisticasBinding binding;
     private EstatisticasViewModel viewModel;
-    private EstudantesAdapter aprovadosAdapter;
-    private EstudantesAdapter reprovadosAdapter;
+    private EstudantesOrdenadosAdapter aprovadosAdapter;
+    private EstudantesOrdenadosAdapter reprovadosAdapter;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -45,10 +47,11 @@ public class EstatisticasActivity extends AppCompatActivity {
 
     // Inicializa e configura os RecyclerViews para exibirem as listas de aprovados e reprovados
     private void setupRecyclerViews() {
-        // Cria o adaptador para a lista de estudantes aprovados com uma lista inicial vazia
-        aprovadosAdapter = new EstudantesAdapter(new ArrayList<>());
-        // Cria o adaptador para a lista de estudantes reprovados com uma lista inicial vazia
-        reprovadosAdapter = new EstudantesAdapter(new ArrayList<>());
+        // Cria os adaptadores das listas de aprovados e reprovados, inicialmente vazias. Eles recebem só os
+        // estudantes que mudaram (DiferencaSituacao) e notificam só essas linhas, mantendo a rolagem e as
+        // animações sem copiar nem comparar as listas inteiras a cada alteração.
+        aprovadosAdapter = new EstudantesOrdenadosAdapter();
+        reprovadosAdapter = new EstudantesOrdenadosAdapter();
 
         // Define o layout em forma de lista vertical para o RecyclerView de aprovados
         binding.recyclerViewAprovados.setLayoutManager(new LinearLayoutManager(this));
@@ -83,35 +86,79 @@ public class EstatisticasActivity extends AppCompatActivity {
             binding.textMediaIdade.setText(String.format("Média de idade: %.1f anos", media));
         });
 
-        // Observa a lista de aprovados e atualiza a interface com base no conteúdo
-        viewModel.getAprovados().observe(this, aprovados -> {
-            // Se a lista não for nula nem vazia, exibe os componentes e atualiza o adaptador
-            if (aprovados != null && !aprovados.isEmpty()) {
-                binding.textViewAprovados.setVisibility(View.VISIBLE);
-                binding.recyclerViewAprovados.setVisibility(View.VISIBLE);
-                aprovadosAdapter.atualizarEstudantes(aprovados);
-            } else {
-                // Caso contrário, oculta os componentes relacionados aos aprovados
-                binding.textViewAprovados.setVisibility(View.GONE);
-                binding.recyclerViewAprovados.setVisibility(View.GONE);
-            }
+        // Observa o desvio padrão das médias e atualiza o texto correspondente
+        viewModel.getDesvioPadraoNotas().observe(this, desvio -> {
+            binding.textDesvioPadrao.setText(String.format("Desvio padrão das médias: %.2f", desvio));
         });
 
-        // Observa a lista de reprovados e atualiza a interface com base no conteúdo
-        viewModel.getReprovados().observe(this, reprovados -> {
-            // Se a lista não for nula nem vazia, exibe os componentes e atualiza o adaptador
-            if (reprovados != null && !reprovados.isEmpty()) {
-                binding.textViewReprovados.setVisibility(View.VISIBLE);
-                binding.recyclerViewReprovados.setVisibility(View.VISIBLE);
-                reprovadosAdapter.atualizarEstudantes(reprovados);
-            } else {
-                // Caso contrário, oculta os componentes relacionados aos reprovados
-                binding.textViewReprovados.setVisibility(View.GONE);
-                binding.recyclerViewReprovados.setVisibility(View.GONE);
-            }
+        // Observa os percentis (25, 50 e 90) das médias e da presença
+        viewModel.getPercentisNotas().observe(this, percentis -> {
+            binding.textPercentisNotas.setText(String.format("Médias — P25: %.2f | mediana: %.2f | P90: %.2f",
+                    percentis[0], percentis[1], percentis[2]));
+        });
+        viewModel.getPercentisPresenca().observe(this, percentis -> {
+            binding.textPercentisPresenca.setText(String.format("Presença — P25: %.0f%% | mediana: %.0f%% | P90: %.0f%%",
+                    percentis[0], percentis[1], percentis[2]));
+        });
+
+        // Observa o histograma das médias e o desenha como barras de texto
+        viewModel.getHistogramaNotas().observe(this, histograma -> {
+            binding.textHistogramaNotas.setText(desenharHistograma(histograma));
+        });
+
+        // Observa os placares de maiores e menores médias
+        viewModel.getMelhores().observe(this, melhores -> binding.textMelhores.setText(desenharPlacar(melhores)));
+        viewModel.getPiores().observe(this, piores -> binding.textPiores.setText(desenharPlacar(piores)));
+
+        // Observa o aviso de mudança nas listas de aprovados e reprovados e aplica só o que mudou
+        viewModel.getSituacoesAlteradas().observe(this, aviso -> {
+            DiferencaSituacao diferenca = viewModel.retirarDiferencaSituacao();
+            if (diferenca == null) return;
+            aprovadosAdapter.aplicar(diferenca, diferenca.getAprovados(), diferenca.getReprovados());
+            reprovadosAdapter.aplicar(diferenca, diferenca.getReprovados(), diferenca.getAprovados());
+
+            // Exibe cada lista (e seu título) somente se ela tiver estudantes
+            int visibilidadeAprovados = aprovadosAdapter.getItemCount() > 0 ? View.VISIBLE : View.GONE;
+            binding.textViewAprovados.setVisibility(visibilidadeAprovados);
+            binding.recyclerViewAprovados.setVisibility(visibilidadeAprovados);
+            int visibilidadeReprovados = reprovadosAdapter.getItemCount() > 0 ? View.VISIBLE : View.GONE;
+            binding.textViewReprovados.setVisibility(visibilidadeReprovados);
+            binding.recyclerViewReprovados.setVisibility(visibilidadeReprovados);
         });
     }
 
+    // Monta o placar em texto: uma linha por estudante, com a média e a presença
+    private static String desenharPlacar(List<Estudante> estudantes) {
+        if (estudantes == null || estudantes.isEmpty()) return "Nenhum";
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < estudantes.size(); i++) {
+            Estudante estudante = estudantes.get(i);
+            if (i > 0) texto.append('\n');
+            texto.append(String.format("%d. %s — %.2f (%.1f%%)", i + 1, estudante.getNome(),
+                    estudante.calcularMedia(), estudante.calcularPercentualPresenca()));
+        }
+        return texto.toString();
+    }
+
+    // Monta o histograma em texto: uma linha por classe de 1 ponto, com a barra proporcional à maior classe
+    private static String desenharHistograma(long[] histograma) {
+        long maior = 1;
+        for (long quantidade : histograma) {
+            maior = Math.max(maior, quantidade);
+        }
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < histograma.length; i++) {
+            int largura = (int) Math.round(histograma[i] * 20.0 / maior);
+            texto.append(String.format("%2d-%-2d ", i, i + 1));
+            for (int j = 0; j < largura; j++) {
+                texto.append('█');
+            }
+            texto.append(' ').append(histograma[i]);
+            if (i < histograma.length - 1) texto.append('\n');
+        }
+        return texto.toString();
+    }
+
     // Configura a toolbar com botão de voltar e título da tela
     private void setupToolbar() {
         // Verifica se há uma ActionBar disponível
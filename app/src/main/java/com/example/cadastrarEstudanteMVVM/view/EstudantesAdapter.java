@@ -3,6 +3,8 @@ package com.example.cadastrarEstudanteMVVM.view;
 import android.view.LayoutInflater;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 
@@ -10,12 +12,17 @@ import com.example.cadastrarEstudanteMVVM.databinding.ItemEstudanteBinding;
 import com.example.cadastrarEstudanteMVVM.model.Estudante;
 
 import java.util.List;
+import java.util.Objects;
 
 // Classe Adapter para o RecyclerView que exibe os estudantes.
-public class EstudantesAdapter extends RecyclerView.Adapter<EstudantesAdapter.EstudanteViewHolder> {
+// As listas novas são comparadas com a atual em uma thread de fundo (ListAdapter/AsyncListDiffer),
+// e só as linhas que mudaram são notificadas, mantendo as animações dos itens.
+public class EstudantesAdapter extends ListAdapter<Estudante, EstudantesAdapter.EstudanteViewHolder> {
 
-    // Lista de estudantes que será exibida na RecyclerView.
-    private List<Estudante> estudantes;
+    // Payload usado quando o nome de um estudante mudou (mesmo ID): só o TextView do nome é atualizado.
+    // O nome é o único campo exibido na linha, então mudanças só em notas, presença ou idade nem chegam
+    // a ser notificadas (veja mesmoConteudoExibido).
+    static final Object PAYLOAD_NOME = new Object();
 
     // Listener para capturar os cliques nos itens da lista.
     private OnItemClickListener listener;
@@ -28,11 +35,46 @@ public class EstudantesAdapter extends RecyclerView.Adapter<EstudantesAdapter.Es
         void onItemClick(Estudante estudante);  // Método chamado quando um item é clicado.
     }
 
+    /**
+     * Compara estudantes pelo ID (mesmo item) e pelo conteúdo exibido na linha (o nome).
+     */
+    private static final DiffUtil.ItemCallback<Estudante> COMPARADOR = new DiffUtil.ItemCallback<Estudante>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull Estudante antigo, @NonNull Estudante novo) {
+            return antigo.getId() == novo.getId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull Estudante antigo, @NonNull Estudante novo) {
+            return mesmoConteudoExibido(antigo, novo);
+        }
+
+        @Override
+        public Object getChangePayload(@NonNull Estudante antigo, @NonNull Estudante novo) {
+            return PAYLOAD_NOME;
+        }
+    };
+
+    // Indica se a linha do estudante ficaria igual (a linha exibe só o nome).
+    static boolean mesmoConteudoExibido(Estudante antigo, Estudante novo) {
+        return Objects.equals(antigo.getNome(), novo.getNome());
+    }
+
+    // Vinculação parcial: com PAYLOAD_NOME, atualiza só o TextView do nome e retorna true; sem ele,
+    // retorna false e quem chamou faz a vinculação completa.
+    static boolean vincularParcial(EstudanteViewHolder holder, Estudante estudante, List<Object> payloads) {
+        if (!payloads.contains(PAYLOAD_NOME)) return false;
+        holder.binding.itemNome.setText(estudante.getNome());
+        return true;
+    }
+
     /**
      * Construtor do adapter, inicializa a lista de estudantes.
      */
     public EstudantesAdapter(List<Estudante> estudantes) {
-        this.estudantes = estudantes;
+        super(COMPARADOR);
+        setHasStableIds(true);  // O ID do estudante identifica a linha entre atualizações.
+        submitList(estudantes);
     }
 
     /**
@@ -45,11 +87,17 @@ public class EstudantesAdapter extends RecyclerView.Adapter<EstudantesAdapter.Es
 
     /**
      * Atualiza os dados do adapter com uma nova lista de estudantes.
-     * Chama notifyDataSetChanged() para notificar o RecyclerView sobre a mudança de dados.
+     * A diferença em relação à lista atual é calculada em segundo plano e só as linhas
+     * adicionadas, removidas, movidas ou alteradas são atualizadas.
      */
     public void atualizarEstudantes(List<Estudante> novosEstudantes) {
-        this.estudantes = novosEstudantes;
-        notifyDataSetChanged();  // Notifica a RecyclerView para atualizar os itens visíveis.
+        submitList(novosEstudantes);
+    }
+
+    // Retorna o ID estável do item (o ID do estudante).
+    @Override
+    public long getItemId(int position) {
+        return getItem(position).getId();
     }
 
     // Cria o ViewHolder para cada item na RecyclerView
@@ -62,32 +110,33 @@ public class EstudantesAdapter extends RecyclerView.Adapter<EstudantesAdapter.Es
                 parent,  // O ViewGroup pai
                 false   // Não anexa o layout imediatamente
         );
-        return new EstudanteViewHolder(binding);  // Retorna o ViewHolder com o binding
+        EstudanteViewHolder holder = new EstudanteViewHolder(binding);  // Cria o ViewHolder com o binding
+
+        // Configura o clique uma única vez por ViewHolder, buscando o estudante da posição atual
+        holder.itemView.setOnClickListener(v -> {
+            int posicao = holder.getBindingAdapterPosition();
+            if (listener != null && posicao != RecyclerView.NO_POSITION) {
+                // Chama o método de clique passando o estudante clicado
+                listener.onItemClick(getItem(posicao));
+            }
+        });
+        return holder;
     }
 
     // Vincula os dados ao ViewHolder
     @Override
     public void onBindViewHolder(@NonNull EstudanteViewHolder holder, int position) {
-        // Obtém o estudante na posição atual da lista
-        Estudante estudante = estudantes.get(position);
-
         // Vincula os dados do estudante ao layout usando DataBinding
-        holder.binding.setEstudante(estudante);  // Define o estudante no binding
+        holder.binding.setEstudante(getItem(position));  // Define o estudante no binding
         holder.binding.executePendingBindings();  // Executa qualquer binding pendente
-
-        // Configura o clique no item da RecyclerView
-        holder.itemView.setOnClickListener(v -> {
-            if (listener != null) {
-                // Chama o método de clique passando o estudante clicado
-                listener.onItemClick(estudante);
-            }
-        });
     }
 
-    // Retorna o número total de itens na lista de estudantes
+    // Vinculação parcial: quando só o nome mudou, atualiza apenas o TextView do nome
     @Override
-    public int getItemCount() {
-        return estudantes != null ? estudantes.size() : 0;  // Retorna a quantidade de estudantes
+    public void onBindViewHolder(@NonNull EstudanteViewHolder holder, int position, @NonNull List<Object> payloads) {
+        if (!vincularParcial(holder, getItem(position), payloads)) {
+            onBindViewHolder(holder, position);
+        }
     }
 
     /**
@@ -0,0 +1,126 @@
+package com.example.cadastrarEstudanteMVVM.view;
+
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.recyclerview.widget.SortedList;
+import androidx.recyclerview.widget.SortedListAdapterCallback;
+
+import com.example.cadastrarEstudanteMVVM.databinding.ItemEstudanteBinding;
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.util.DiferencaSituacao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Adapter do RecyclerView para uma lista de estudantes ordenada por ID que recebe só os estudantes que
+// mudaram (ex.: aprovados e reprovados da tela de estatísticas). A SortedList acha a posição de cada
+// estudante por busca binária e notifica só as linhas inseridas, removidas ou alteradas, então uma
+// atualização custa o número de estudantes alterados e não o tamanho da lista, sem perder a rolagem
+// nem as animações.
+public class EstudantesOrdenadosAdapter extends RecyclerView.Adapter<EstudantesAdapter.EstudanteViewHolder> {
+
+    // Estudantes exibidos, ordenados por ID.
+    private final SortedList<Estudante> estudantes = new SortedList<>(Estudante.class,
+            new SortedListAdapterCallback<Estudante>(this) {
+                @Override
+                public int compare(Estudante a, Estudante b) {
+                    return Integer.compare(a.getId(), b.getId());
+                }
+
+                @Override
+                public boolean areContentsTheSame(Estudante antigo, Estudante novo) {
+                    return EstudantesAdapter.mesmoConteudoExibido(antigo, novo);
+                }
+
+                @Override
+                public Object getChangePayload(Estudante antigo, Estudante novo) {
+                    return EstudantesAdapter.PAYLOAD_NOME;
+                }
+
+                @Override
+                public boolean areItemsTheSame(Estudante a, Estudante b) {
+                    return a.getId() == b.getId();
+                }
+            });
+
+    // Estudante exibido de cada ID (para remover pelo ID).
+    private final Map<Integer, Estudante> porId = new HashMap<>();
+
+    // Substitui a lista inteira; a SortedList compara com a atual e só notifica o que mudou.
+    public void substituir(Collection<Estudante> novos) {
+        porId.clear();
+        for (Estudante estudante : novos) {
+            porId.put(estudante.getId(), estudante);
+        }
+        estudantes.replaceAll(porId.values());
+    }
+
+    // Aplica uma diferença: entram ou mudam os estudantes de "entraram" e saem os IDs de "sairam"
+    // (IDs que não estão na lista são ignorados).
+    public void aplicar(Collection<Estudante> entraram, Collection<Integer> sairam) {
+        estudantes.beginBatchedUpdates();
+        for (Integer id : sairam) {
+            Estudante atual = porId.remove(id);
+            if (atual != null) estudantes.remove(atual);
+        }
+        for (Estudante estudante : entraram) {
+            Estudante atual = porId.put(estudante.getId(), estudante);
+            if (atual != null) {
+                estudantes.updateItemAt(estudantes.indexOf(atual), estudante);
+            } else {
+                estudantes.add(estudante);
+            }
+        }
+        estudantes.endBatchedUpdates();
+    }
+
+    // Aplica a parte de uma DiferencaSituacao referente a esta lista: "entraram" são os estudantes da
+    // situação desta lista e "outros" os da outra situação, que saem desta se estiverem nela.
+    public void aplicar(DiferencaSituacao diferenca, Collection<Estudante> entraram, Collection<Estudante> outros) {
+        if (diferenca.isCompleta()) {
+            substituir(entraram);
+            return;
+        }
+        List<Integer> sairam = new ArrayList<>(diferenca.getRemovidos());
+        for (Estudante estudante : outros) {
+            sairam.add(estudante.getId());
+        }
+        aplicar(entraram, sairam);
+    }
+
+    @Override
+    public int getItemCount() {
+        return estudantes.size();
+    }
+
+    // Cria o ViewHolder para cada item na RecyclerView
+    @NonNull
+    @Override
+    public EstudantesAdapter.EstudanteViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        ItemEstudanteBinding binding = ItemEstudanteBinding.inflate(
+                LayoutInflater.from(parent.getContext()), parent, false);
+        return new EstudantesAdapter.EstudanteViewHolder(binding);
+    }
+
+    // Vincula os dados ao ViewHolder
+    @Override
+    public void onBindViewHolder(@NonNull EstudantesAdapter.EstudanteViewHolder holder, int position) {
+        holder.binding.setEstudante(estudantes.get(position));
+        holder.binding.executePendingBindings();
+    }
+
+    // Vinculação parcial: quando só o nome mudou, atualiza apenas o TextView do nome
+    @Override
+    public void onBindViewHolder(@NonNull EstudantesAdapter.EstudanteViewHolder holder, int position,
+                                 @NonNull List<Object> payloads) {
+        if (!EstudantesAdapter.vincularParcial(holder, estudantes.get(position), payloads)) {
+            onBindViewHolder(holder, position);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.cadastrarEstudanteMVVM.view;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.example.cadastrarEstudanteMVVM.databinding.ItemEstudanteBinding;
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.util.ListaPaginada;
+
+// Adapter do RecyclerView para uma ListaPaginada. Ao vincular uma linha, avisa a lista da posição
+// exibida, para que ela carregue as páginas próximas (inclusive a próxima, perto do fim) e descarte as
+// distantes. Linhas de páginas ainda não carregadas são exibidas vazias até a página chegar.
+public class EstudantesPaginadosAdapter extends RecyclerView.Adapter<EstudantesAdapter.EstudanteViewHolder> {
+
+    // Thread principal, onde os avisos da lista são aplicados ao RecyclerView.
+    private final Handler principal = new Handler(Looper.getMainLooper());
+
+    // Lista exibida (pode ser trocada por setLista).
+    private ListaPaginada lista;
+
+    // Quantidade de linhas informada ao RecyclerView (alterada somente na thread principal).
+    private int quantidade;
+
+    // Listener para capturar os cliques nos itens da lista.
+    private EstudantesAdapter.OnItemClickListener listener;
+
+    // Ouvinte registrado na lista atual.
+    private final ListaPaginada.OuvinteListaPaginada ouvinte = (novaQuantidade, inicio, alterados) ->
+            principal.post(() -> aplicar(novaQuantidade, inicio, alterados));
+
+    // Define a lista exibida, substituindo a anterior.
+    public void setLista(ListaPaginada novaLista) {
+        if (lista != null) lista.removerOuvinte(ouvinte);
+        lista = novaLista;
+        quantidade = 0;
+        notifyDataSetChanged();
+        if (lista != null) {
+            lista.adicionarOuvinte(ouvinte);
+            aplicar(lista.getQuantidade(), 0, lista.getQuantidade());
+            lista.iniciar();
+        }
+    }
+
+    public void setOnItemClickListener(EstudantesAdapter.OnItemClickListener listener) {
+        this.listener = listener;
+    }
+
+    // Aplica ao RecyclerView um aviso da lista (na thread principal).
+    private void aplicar(int novaQuantidade, int inicio, int alterados) {
+        int anterior = quantidade;
+        quantidade = novaQuantidade;
+        if (novaQuantidade > anterior) {
+            notifyItemRangeInserted(anterior, novaQuantidade - anterior);
+        } else if (novaQuantidade < anterior) {
+            notifyItemRangeRemoved(novaQuantidade, anterior - novaQuantidade);
+        }
+        // Linhas que já existiam e cujo conteúdo mudou (página carregada, recarregada ou descartada).
+        int fim = Math.min(inicio + alterados, Math.min(anterior, novaQuantidade));
+        if (fim > inicio) {
+            notifyItemRangeChanged(inicio, fim - inicio);
+        }
+    }
+
+    @Override
+    public int getItemCount() {
+        return quantidade;
+    }
+
+    // Cria o ViewHolder para cada item na RecyclerView
+    @NonNull
+    @Override
+    public EstudantesAdapter.EstudanteViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        ItemEstudanteBinding binding = ItemEstudanteBinding.inflate(
+                LayoutInflater.from(parent.getContext()), parent, false);
+        EstudantesAdapter.EstudanteViewHolder holder = new EstudantesAdapter.EstudanteViewHolder(binding);
+
+        // Configura o clique uma única vez por ViewHolder; linhas vazias (página não carregada) são ignoradas
+        holder.itemView.setOnClickListener(v -> {
+            int posicao = holder.getBindingAdapterPosition();
+            Estudante estudante = lista != null && posicao != RecyclerView.NO_POSITION ? lista.get(posicao) : null;
+            if (listener != null && estudante != null) {
+                listener.onItemClick(estudante);
+            }
+        });
+        return holder;
+    }
+
+    // Vincula os dados ao ViewHolder
+    @Override
+    public void onBindViewHolder(@NonNull EstudantesAdapter.EstudanteViewHolder holder, int position) {
+        lista.acessar(position);
+        holder.binding.setEstudante(lista.get(position));
+        holder.binding.executePendingBindings();
+    }
+}
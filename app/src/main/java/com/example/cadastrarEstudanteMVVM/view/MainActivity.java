@@ -2,6 +2,8 @@ package com.example.cadastrarEstudanteMVVM.view;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.view.View;
 
 import androidx.activity.result.ActivityResultLauncher;
@@ -14,8 +16,11 @@ import com.example.cadastrarEstudanteMVVM.R;
 
 import com.example.cadastrarEstudanteMVVM.databinding.ActivityMainBinding;
 import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.util.EstudantesRepository;
 import com.example.cadastrarEstudanteMVVM.util.EstudantesViewModel;
+import com.example.cadastrarEstudanteMVVM.util.MonitorEnergia;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
+
 import java.util.ArrayList;
 
 /**
@@ -43,6 +48,12 @@ public class MainActivity extends AppCompatActivity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
+        // Configura o cache de respostas em disco do repositório
+        EstudantesRepository.getInstance().inicializar(getApplicationContext());
+
+        // Espaça as consultas ao servidor em economia de bateria ou com o aparelho ocioso
+        MonitorEnergia.iniciar(this);
+
         // Associa o layout XML à Activity usando data binding
         binding = DataBindingUtil.setContentView(this, R.layout.activity_main);
 
@@ -64,21 +75,56 @@ public class MainActivity extends AppCompatActivity {
         // Configura o RecyclerView com o adaptador e listener
         setupRecyclerView();
 
+        // Configura a caixa de busca e a lista de resultados
+        setupBusca();
+
         // Configura o botão flutuante (FAB) para navegar para a tela de estatísticas
         setupBotaoFlutuante();
 
     }
 
-    // Configura o RecyclerView principal com um adaptador vazio e um listener de clique
+    // Configura o RecyclerView principal com a lista paginada do ViewModel e um listener de clique
     private void setupRecyclerView() {
-        // Cria um adaptador vazio inicialmente
-        EstudantesAdapter adapter = new EstudantesAdapter(new ArrayList<>());
+        // Cria o adaptador paginado: as páginas são carregadas conforme a lista rola
+        EstudantesPaginadosAdapter adapter = new EstudantesPaginadosAdapter();
 
         // Define o listener para tratar cliques em estudantes
         adapter.setOnItemClickListener(estudante -> onEstudanteClicado(estudante));
 
-        // Associa o adaptador ao RecyclerView
+        // Associa o adaptador ao RecyclerView e à lista do ViewModel
         binding.recyclerView.setAdapter(adapter);
+        adapter.setLista(estudantesViewModel.getEstudantes());
+    }
+
+    // Configura a busca pelo nome: cada alteração do texto vai para o ViewModel, que espera a digitação
+    // parar e consulta o índice em segundo plano. Enquanto há busca, os resultados substituem a lista.
+    private void setupBusca() {
+        EstudantesAdapter resultadosAdapter = new EstudantesAdapter(new ArrayList<>());
+        resultadosAdapter.setOnItemClickListener(estudante -> onEstudanteClicado(estudante));
+        binding.recyclerViewBusca.setAdapter(resultadosAdapter);
+
+        binding.editBusca.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                estudantesViewModel.buscar(s.toString());
+            }
+        });
+
+        // Observa os resultados: null = sem busca (mostra a lista paginada)
+        estudantesViewModel.getResultadosBusca().observe(this, resultados -> {
+            boolean buscando = resultados != null;
+            binding.recyclerViewBusca.setVisibility(buscando ? View.VISIBLE : View.GONE);
+            binding.recyclerView.setVisibility(buscando ? View.GONE : View.VISIBLE);
+            resultadosAdapter.atualizarEstudantes(resultados);
+        });
     }
 
     // Trata o evento de clique em um estudante
@@ -117,6 +163,12 @@ public class MainActivity extends AppCompatActivity {
         startActivityForResult(intent, 3); // Código 3 para CadastrarEstudanteActivity
     }
 
+    // Método para abrir a chamada da turma
+    public void abrirActivityChamada(View view) {
+        Intent intent = new Intent(this, ChamadaActivity.class);
+        startActivityForResult(intent, 4); // Código 4 para ChamadaActivity
+    }
+
     // Trata o retorno das Activities chamadas com startActivityForResult
     @Override
     protected void onActivityResult(int requestCode, int resultCode, Intent data) {
@@ -0,0 +1,124 @@
+package com.example.cadastrarEstudanteMVVM.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes da média, presença e situação guardadas no Estudante e descartadas quando os dados mudam.
+ */
+public class EstudanteTest {
+
+    private static Estudante aprovado() {
+        return new Estudante(1, "Ana", 20, new ArrayList<>(Arrays.asList(8.0, 9.0)),
+                new ArrayList<>(Arrays.asList(true, true, true, false)));
+    }
+
+    @Test
+    public void metricas_refletemAsListas() {
+        Estudante estudante = aprovado();
+        assertEquals(8.5, estudante.calcularMedia(), 0.0);
+        assertEquals(75.0, estudante.calcularPercentualPresenca(), 0.0);
+        assertEquals("Aprovado", estudante.verificarSituacao());
+    }
+
+    @Test
+    public void acrescentarNaLista_recalculaMedia() {
+        Estudante estudante = aprovado();
+        assertEquals(8.5, estudante.calcularMedia(), 0.0);
+
+        estudante.getNotas().add(1.0);
+
+        assertEquals(6.0, estudante.calcularMedia(), 0.0);
+        assertEquals("Reprovado", estudante.verificarSituacao());
+    }
+
+    @Test
+    public void alterarRemoverELimpar_recalculamPresenca() {
+        Estudante estudante = aprovado();
+        assertEquals(75.0, estudante.calcularPercentualPresenca(), 0.0);
+
+        estudante.getPresenca().set(3, true);
+        assertEquals(100.0, estudante.calcularPercentualPresenca(), 0.0);
+
+        estudante.getPresenca().remove(0);
+        estudante.getPresenca().add(false);
+        assertEquals(75.0, estudante.calcularPercentualPresenca(), 0.0);
+
+        estudante.getPresenca().clear();
+        assertEquals(0.0, estudante.calcularPercentualPresenca(), 0.0);
+        assertEquals("Reprovado", estudante.verificarSituacao());
+    }
+
+    @Test
+    public void setters_recalculamEIsolamAListaOriginal() {
+        Estudante estudante = aprovado();
+        assertEquals(8.5, estudante.calcularMedia(), 0.0);
+
+        List<Double> notas = new ArrayList<>(Arrays.asList(2.0, 4.0));
+        estudante.setNotas(notas);
+        assertEquals(3.0, estudante.calcularMedia(), 0.0);
+
+        // A lista passada ao setter é copiada.
+        notas.add(10.0);
+        assertEquals(3.0, estudante.calcularMedia(), 0.0);
+
+        estudante.setNotas(null);
+        assertEquals(0.0, estudante.calcularMedia(), 0.0);
+    }
+
+    @Test
+    public void equalsEHashCode_comparamComListasComuns() {
+        Estudante estudante = aprovado();
+        Estudante igual = aprovado();
+        assertEquals(estudante, igual);
+        assertEquals(estudante.hashCode(), igual.hashCode());
+        assertEquals(Arrays.asList(8.0, 9.0), estudante.getNotas());
+        assertEquals(Arrays.asList(8.0, 9.0).hashCode(), estudante.getNotas().hashCode());
+    }
+
+    @Test
+    public void presencaEmBits_comportaSeComoListaComum() {
+        // Mais de 64 aulas, para cruzar a fronteira entre palavras do conjunto de bits.
+        List<Boolean> esperado = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            esperado.add(i % 3 != 0);
+        }
+        Estudante estudante = new Estudante(1, "Ana", 20, null, esperado);
+        List<Boolean> presenca = estudante.getPresenca();
+
+        presenca.add(64, false);
+        esperado.add(64, false);
+        presenca.remove(5);
+        esperado.remove(5);
+        presenca.subList(60, 70).clear();
+        esperado.subList(60, 70).clear();
+        presenca.set(0, true);
+        esperado.set(0, true);
+
+        assertEquals(esperado, presenca);
+        long presentes = esperado.stream().filter(p -> p).count();
+        assertEquals(presentes * 100.0 / esperado.size(), estudante.calcularPercentualPresenca(), 0.0);
+    }
+
+    @Test
+    public void listaNotasSemDono_eUsadaSemCopia() {
+        ListaNotas notas = new ListaNotas();
+        notas.adicionarNota(6.0);
+        Estudante estudante = new Estudante(1, "Ana", 20, notas, null);
+        assertSame(notas, estudante.getNotas());
+        assertEquals(6.0, estudante.calcularMedia(), 0.0);
+
+        // Já pertence a um estudante: outro estudante recebe uma cópia.
+        Estudante outro = new Estudante(2, "Bia", 21, notas, null);
+        assertNotSame(notas, outro.getNotas());
+
+        notas.adicionarNota(10.0);
+        assertEquals(8.0, estudante.calcularMedia(), 0.0);
+        assertEquals(6.0, outro.calcularMedia(), 0.0);
+    }
+}
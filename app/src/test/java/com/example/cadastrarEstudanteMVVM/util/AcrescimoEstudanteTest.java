@@ -0,0 +1,132 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes dos acréscimos de nota e presença contra o servidor local (sem o backend real).
+ */
+public class AcrescimoEstudanteTest {
+
+    private ServidorLocalEstudantes servidor;
+    private EstudantesRepository repository;
+    private Estudante ana;
+
+    @Before
+    public void iniciar() throws Exception {
+        servidor = new ServidorLocalEstudantes();
+        repository = new EstudantesRepository(servidor.getUrlBase());
+        ana = servidor.cadastrar("Ana", 20);
+    }
+
+    @After
+    public void encerrar() throws Exception {
+        servidor.close();
+    }
+
+    @Test
+    public void adicionarNota_enviaSomenteUmaRequisicao() {
+        Estudante atualizado = repository.adicionarNota(ana.getId(), 8.5);
+
+        assertNotNull(atualizado);
+        assertEquals(Arrays.asList(8.5), atualizado.getNotas());
+        assertEquals(Arrays.asList(8.5), servidor.getEstudante(ana.getId()).getNotas());
+        assertEquals(1, servidor.getTotalRequisicoes());
+        assertEquals(1, servidor.getRequisicoes("POST /estudantes/" + ana.getId() + "/notas"));
+    }
+
+    @Test
+    public void adicionarPresenca_enviaSomenteUmaRequisicao() {
+        Estudante atualizado = repository.adicionarPresenca(ana.getId(), true);
+
+        assertNotNull(atualizado);
+        assertEquals(Arrays.asList(true), servidor.getEstudante(ana.getId()).getPresenca());
+        assertEquals(1, servidor.getTotalRequisicoes());
+    }
+
+    @Test
+    public void conflitoDeVersao_reenviaSobreAVersaoAtualSemPerderAlteracao() {
+        // O repositório conhece a versão atual do estudante...
+        assertNotNull(repository.buscarDadosEstudante(ana.getId()));
+
+        // ...mas outro professor lança uma nota antes.
+        servidor.alterar(ana.getId(), estudante -> estudante.getNotas().add(6.0));
+
+        Estudante atualizado = repository.adicionarNota(ana.getId(), 9.0);
+
+        assertNotNull(atualizado);
+        assertEquals(Arrays.asList(6.0, 9.0), servidor.getEstudante(ana.getId()).getNotas());
+        assertEquals(Arrays.asList(6.0, 9.0), atualizado.getNotas());
+        // 412 na primeira tentativa, sucesso na segunda, sem GET extra.
+        assertEquals(2, servidor.getRequisicoes("POST /estudantes/" + ana.getId() + "/notas"));
+        assertEquals(1, servidor.getRequisicoes("GET /estudantes/" + ana.getId()));
+    }
+
+    @Test
+    public void escritasSimultaneas_naoPerdemNotas() throws Exception {
+        assertNotNull(repository.buscarDadosEstudante(ana.getId()));
+        EstudantesRepository outroProfessor = new EstudantesRepository(servidor.getUrlBase());
+        assertNotNull(outroProfessor.buscarDadosEstudante(ana.getId()));
+
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Estudante> primeiro = executor.submit(() -> {
+                largada.await();
+                return repository.adicionarNota(ana.getId(), 7.0);
+            });
+            Future<Estudante> segundo = executor.submit(() -> {
+                largada.await();
+                return outroProfessor.adicionarNota(ana.getId(), 5.0);
+            });
+            largada.countDown();
+            assertNotNull(primeiro.get());
+            assertNotNull(segundo.get());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Estudante noServidor = servidor.getEstudante(ana.getId());
+        assertEquals(2, noServidor.getNotas().size());
+        assertTrue(noServidor.getNotas().containsAll(Arrays.asList(7.0, 5.0)));
+    }
+
+    @Test
+    public void servidorSemAcrescimo_usaGetEPut() {
+        servidor.setAcrescimoSuportado(false);
+
+        assertNotNull(repository.adicionarNota(ana.getId(), 8.0));
+        assertNotNull(repository.adicionarPresenca(ana.getId(), false));
+
+        Estudante noServidor = servidor.getEstudante(ana.getId());
+        assertEquals(Arrays.asList(8.0), noServidor.getNotas());
+        assertEquals(Arrays.asList(false), noServidor.getPresenca());
+        // A rota de acréscimo só é tentada uma vez; depois disso o repositório vai direto ao GET + PUT.
+        assertEquals(1, servidor.getRequisicoes("POST /estudantes/" + ana.getId() + "/notas"));
+        assertEquals(0, servidor.getRequisicoes("POST /estudantes/" + ana.getId() + "/presenca"));
+        assertEquals(2, servidor.getRequisicoes("PUT /estudantes/" + ana.getId()));
+    }
+
+    @Test
+    public void estudanteInexistente_retornaNull() {
+        assertNull(repository.adicionarNota(999, 5.0));
+    }
+
+    @Test
+    public void notaNaoFinita_recusadaSemRequisicao() {
+        assertNull(repository.adicionarNota(ana.getId(), Double.NaN));
+        assertNull(repository.adicionarNota(ana.getId(), Double.POSITIVE_INFINITY));
+        assertEquals(0, servidor.getTotalRequisicoes());
+    }
+}
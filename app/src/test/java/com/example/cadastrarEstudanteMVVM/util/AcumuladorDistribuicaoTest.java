@@ -0,0 +1,97 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes do acumulador de distribuição comparados com o cálculo direto (ordenando os valores).
+ */
+public class AcumuladorDistribuicaoTest {
+
+    // Médias aleatórias com duas casas decimais entre 0 e 10.
+    private static double[] valores(long semente, int quantidade) {
+        Random random = new Random(semente);
+        double[] valores = new double[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            valores[i] = random.nextInt(1001) / 100.0;
+        }
+        return valores;
+    }
+
+    @Test
+    public void mediaEVariancia_iguaisAoCalculoEmDuasPassadas() {
+        double[] valores = valores(1, 10000);
+        AcumuladorDistribuicao acumulador = AcumuladorDistribuicao.paraNotas();
+        for (double valor : valores) acumulador.adicionar(valor);
+
+        double media = Arrays.stream(valores).average().orElse(0);
+        double variancia = Arrays.stream(valores).map(v -> (v - media) * (v - media)).sum() / valores.length;
+        assertEquals(10000, acumulador.getQuantidade());
+        assertEquals(media, acumulador.getMedia(), 1e-9);
+        assertEquals(variancia, acumulador.getVariancia(), 1e-9);
+        assertEquals(Math.sqrt(variancia), acumulador.getDesvioPadrao(), 1e-9);
+    }
+
+    @Test
+    public void juntar_mesmoResultadoDeUmUnicoAcumulador() {
+        double[] valores = valores(2, 5000);
+        AcumuladorDistribuicao unico = AcumuladorDistribuicao.paraNotas();
+        AcumuladorDistribuicao[] partes = new AcumuladorDistribuicao[7];
+        for (int i = 0; i < partes.length; i++) partes[i] = AcumuladorDistribuicao.paraNotas();
+        for (int i = 0; i < valores.length; i++) {
+            unico.adicionar(valores[i]);
+            partes[i * partes.length / valores.length].adicionar(valores[i]);
+        }
+
+        AcumuladorDistribuicao juntado = AcumuladorDistribuicao.paraNotas();
+        for (AcumuladorDistribuicao parte : partes) juntado.juntar(parte);
+
+        assertEquals(unico.getQuantidade(), juntado.getQuantidade());
+        assertEquals(unico.getMedia(), juntado.getMedia(), 1e-9);
+        assertEquals(unico.getVariancia(), juntado.getVariancia(), 1e-9);
+        assertEquals(unico.getMenor(), juntado.getMenor(), 0.0);
+        assertEquals(unico.getMaior(), juntado.getMaior(), 0.0);
+        assertArrayEquals(unico.getHistograma(10), juntado.getHistograma(10));
+        assertEquals(unico.getMediana(), juntado.getMediana(), 0.0);
+    }
+
+    @Test
+    public void percentis_erroMenorQueUmaClasse() {
+        double[] valores = valores(3, 20001);
+        AcumuladorDistribuicao acumulador = AcumuladorDistribuicao.paraNotas();
+        for (double valor : valores) acumulador.adicionar(valor);
+        double[] ordenados = valores.clone();
+        Arrays.sort(ordenados);
+
+        // Classes de 0,05 ponto.
+        for (double percentil : new double[]{1, 10, 25, 50, 75, 90, 99}) {
+            double exato = ordenados[(int) Math.ceil(percentil / 100 * ordenados.length) - 1];
+            assertEquals("P" + percentil, exato, acumulador.getPercentil(percentil), 0.05);
+        }
+        assertEquals(ordenados[0], acumulador.getPercentil(0), 0.0);
+        assertEquals(ordenados[ordenados.length - 1], acumulador.getPercentil(100), 0.0);
+    }
+
+    @Test
+    public void histograma_contaCadaValorNaSuaClasse() {
+        AcumuladorDistribuicao acumulador = AcumuladorDistribuicao.paraNotas();
+        for (double valor : new double[]{0, 0.99, 1, 6.99, 7, 7, 9.5, 10}) acumulador.adicionar(valor);
+
+        // 10 fica na última classe (9-10); 7 fica na classe 7-8.
+        assertArrayEquals(new long[]{2, 1, 0, 0, 0, 0, 1, 2, 0, 2}, acumulador.getHistograma(10));
+    }
+
+    @Test
+    public void semValores_valoresPadrao() {
+        AcumuladorDistribuicao acumulador = AcumuladorDistribuicao.paraPresenca();
+        assertEquals(0, acumulador.getQuantidade());
+        assertEquals(0, acumulador.getMedia(), 0.0);
+        assertEquals(0, acumulador.getVariancia(), 0.0);
+        assertTrue(Double.isNaN(acumulador.getMediana()));
+        assertArrayEquals(new long[10], acumulador.getHistograma(10));
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes do fluxo de alterações do armazém contra o servidor local: eventos entregues sem esperar a
+ * consulta periódica, consulta periódica quando o servidor não tem o fluxo e reconexão após uma queda.
+ */
+public class ArmazemEstudantesTest {
+
+    // Intervalo longo o bastante para nunca rodar durante um teste.
+    private static final long SEM_CONSULTA_MS = 60_000;
+
+    // Tempo máximo de espera por uma entrega.
+    private static final long ESPERA_MS = 5_000;
+
+    private ServidorLocalEstudantes servidor;
+    private EstudantesRepository repository;
+    private ArmazemEstudantes armazem;
+
+    @Before
+    public void iniciar() throws Exception {
+        servidor = new ServidorLocalEstudantes();
+        repository = new EstudantesRepository(servidor.getUrlBase());
+        servidor.cadastrar("Ana", 20);
+        servidor.cadastrar("Bia", 21);
+    }
+
+    @After
+    public void encerrar() throws Exception {
+        if (armazem != null) armazem.encerrar();
+        servidor.close();
+    }
+
+    @Test
+    public void evento_entregaAlteracaoSemEsperarAConsultaPeriodica() throws Exception {
+        armazem = new ArmazemEstudantes(repository, politica(SEM_CONSULTA_MS));
+        BlockingQueue<Estudante> recebidos = new LinkedBlockingQueue<>();
+        BlockingQueue<Set<Integer>> alteracoes = new LinkedBlockingQueue<>();
+        armazem.assinarEstudante(1, recebidos::add);
+        armazem.assinarAlteracoes(ids -> {
+            if (ids != null) alteracoes.add(ids);
+        });
+        assertEquals("Ana", recebidos.poll(ESPERA_MS, TimeUnit.MILLISECONDS).getNome());
+        esperar(armazem::isFluxoConectado);
+        int requisicoesBia = servidor.getRequisicoes("GET /estudantes/2");
+
+        servidor.alterar(1, estudante -> estudante.getNotas().add(9.0));
+        Estudante ana;
+        do {
+            // Ignora a entrega repetida dos dados já conhecidos, feita logo ao assinar.
+            ana = recebidos.poll(ESPERA_MS, TimeUnit.MILLISECONDS);
+            assertNotNull(ana);
+        } while (ana.getNotas().isEmpty());
+        assertEquals(Double.valueOf(9.0), ana.getNotas().get(0));
+
+        servidor.alterar(2, estudante -> estudante.setNome("Beatriz"));
+        Set<Integer> ids;
+        do {
+            // Ignora o aviso da alteração da Ana.
+            ids = alteracoes.poll(ESPERA_MS, TimeUnit.MILLISECONDS);
+            assertNotNull(ids);
+        } while (ids.equals(Collections.singleton(1)));
+        assertEquals(Collections.singleton(2), ids);
+        // Ninguém assina a Bia: o evento dela não gera busca.
+        assertEquals(requisicoesBia, servidor.getRequisicoes("GET /estudantes/2"));
+        assertEquals(1, servidor.getRequisicoes("GET /estudantes/eventos"));
+    }
+
+    @Test
+    public void semFluxo_usaAConsultaPeriodica() throws Exception {
+        servidor.setEventosSuportados(false);
+        armazem = new ArmazemEstudantes(repository, politica(200));
+        BlockingQueue<List<Estudante>> listas = new LinkedBlockingQueue<>();
+        armazem.assinarLista((estudantes, diferenca) -> {
+            if (diferenca != null) listas.add(estudantes);
+        });
+        assertEquals(2, listas.poll(ESPERA_MS, TimeUnit.MILLISECONDS).size());
+
+        servidor.cadastrar("Caio", 22);
+        assertEquals(3, listas.poll(ESPERA_MS, TimeUnit.MILLISECONDS).size());
+        assertFalse(armazem.isFluxoConectado());
+        assertFalse(repository.isAlteracoesSuportadas());
+        // A rota inexistente é tentada uma vez só.
+        assertEquals(1, servidor.getRequisicoes("GET /estudantes/eventos"));
+    }
+
+    @Test
+    public void quedaDoFluxo_reconectaSemPerderAlteracoes() throws Exception {
+        armazem = new ArmazemEstudantes(repository, politica(300));
+        BlockingQueue<List<Estudante>> listas = new LinkedBlockingQueue<>();
+        armazem.assinarLista((estudantes, diferenca) -> {
+            if (diferenca != null && diferenca.temMudancas()) listas.add(estudantes);
+        });
+        assertEquals(2, listas.poll(ESPERA_MS, TimeUnit.MILLISECONDS).size());
+        esperar(armazem::isFluxoConectado);
+
+        // Cadastro feito com o fluxo fora do ar: chega pela consulta periódica ou pela reconexão.
+        servidor.encerrarEventos();
+        servidor.cadastrar("Caio", 22);
+        assertEquals(3, listas.poll(ESPERA_MS, TimeUnit.MILLISECONDS).size());
+
+        esperar(armazem::isFluxoConectado);
+        assertTrue(servidor.getRequisicoes("GET /estudantes/eventos") >= 2);
+        servidor.cadastrar("Duda", 23);
+        assertEquals(4, listas.poll(ESPERA_MS, TimeUnit.MILLISECONDS).size());
+    }
+
+    @Test
+    public void soTelaPrincipal_mudancasEFalhasChegamAPolitica() throws Exception {
+        // Só os avisos de alteração assinados, como a tela principal sem busca, e sem o fluxo.
+        servidor.setEventosSuportados(false);
+        armazem = new ArmazemEstudantes(repository, new PoliticaAtualizacao(200, 100, 5_000, SEM_CONSULTA_MS, new Random(1)));
+        BlockingQueue<Set<Integer>> avisos = new LinkedBlockingQueue<>();
+        armazem.assinarAlteracoes(ids -> avisos.add(ids != null ? ids : Collections.singleton(-1)));
+        esperar(() -> armazem.getMotivoIntervalo().startsWith("sem mudanças"));
+        // Rodadas sem mudanças não avisam ninguém (a tela não recarrega as páginas à toa).
+        assertTrue(avisos.isEmpty());
+
+        // Outro usuário alterando os dados: a rodada vê a mudança pela lista, avisa só o ID alterado e
+        // encurta o intervalo.
+        servidor.alterar(2, estudante -> estudante.setNome("Beatriz"));
+        assertEquals(Collections.singleton(2), avisos.poll(ESPERA_MS, TimeUnit.MILLISECONDS));
+        esperar(() -> "dados mudando".equals(armazem.getMotivoIntervalo()));
+
+        // Servidor respondendo com erro: a rodada registra a falha e recua.
+        servidor.setForaDoAr(true);
+        esperar(() -> armazem.getMotivoIntervalo().contains("falha"));
+    }
+
+    // Política com intervalo fixo (a não ser pelo jitter) sem o fluxo e SEM_CONSULTA_MS com o fluxo conectado.
+    private static PoliticaAtualizacao politica(long intervaloMs) {
+        return new PoliticaAtualizacao(intervaloMs, intervaloMs, intervaloMs, SEM_CONSULTA_MS, new Random(1));
+    }
+
+    // Espera a condição ficar verdadeira (falha depois de ESPERA_MS).
+    private static void esperar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.currentTimeMillis() + ESPERA_MS;
+        while (!condicao.getAsBoolean()) {
+            assertTrue("Tempo esgotado", System.currentTimeMillis() < limite);
+            Thread.sleep(10);
+        }
+    }
+}
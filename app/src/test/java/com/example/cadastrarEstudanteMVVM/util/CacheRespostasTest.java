@@ -0,0 +1,73 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes do cache de respostas em disco: o corpo de uma entrada buscada continua legível mesmo que a
+ * entrada seja removida ou substituída enquanto a requisição condicional está em andamento.
+ */
+public class CacheRespostasTest {
+
+    private static final String URL = "http://servidor/estudantes/";
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private static void gravar(CacheRespostas cache, String etag, String corpo) throws IOException {
+        CacheRespostas.Gravacao gravacao = cache.iniciarGravacao(URL, etag, null);
+        gravacao.write(corpo.getBytes(StandardCharsets.UTF_8));
+        gravacao.concluir();
+    }
+
+    private static String ler(InputStream in) throws IOException {
+        try (InputStream entrada = in) {
+            ByteArrayOutputStream saida = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int n;
+            while ((n = entrada.read(buffer)) != -1) {
+                saida.write(buffer, 0, n);
+            }
+            return new String(saida.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void corpoBuscado_sobreviveARemocao() throws IOException {
+        CacheRespostas cache = new CacheRespostas(pasta.newFolder(), 1024);
+        gravar(cache, "\"v1\"", "[1,2,3]");
+
+        CacheRespostas.Entrada entrada = cache.buscar(URL);
+        assertEquals("\"v1\"", entrada.getEtag());
+        assertEquals(7, entrada.getTamanho());
+
+        // Remoção (ou a remoção por excesso de tamanho) entre o envio dos validadores e o 304.
+        cache.remover(URL);
+        assertNull(cache.buscar(URL));
+        assertEquals("[1,2,3]", ler(entrada.getCorpo()));
+    }
+
+    @Test
+    public void corpoBuscado_correspondeAosValidadores() throws IOException {
+        CacheRespostas cache = new CacheRespostas(pasta.newFolder(), 1024);
+        gravar(cache, "\"v1\"", "[1]");
+
+        CacheRespostas.Entrada entrada = cache.buscar(URL);
+        // Outra requisição grava uma versão nova da mesma URL no meio do caminho.
+        gravar(cache, "\"v2\"", "[1,2]");
+
+        assertEquals("\"v1\"", entrada.getEtag());
+        assertEquals("[1]", ler(entrada.getCorpo()));
+        try (CacheRespostas.Entrada nova = cache.buscar(URL)) {
+            assertEquals("\"v2\"", nova.getEtag());
+        }
+    }
+}
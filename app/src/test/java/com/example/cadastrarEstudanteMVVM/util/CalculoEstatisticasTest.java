@@ -0,0 +1,177 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes que comparam o resumo calculado em uma passada com os métodos individuais de CalculoEstatisticas.
+ */
+public class CalculoEstatisticasTest {
+
+    // Gera uma turma aleatória (com estudantes sem notas ou sem presença de vez em quando).
+    private static List<Estudante> turmaAleatoria(long semente, int tamanho) {
+        Random random = new Random(semente);
+        List<Estudante> turma = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            List<Double> notas = new ArrayList<>();
+            int quantidadeNotas = random.nextInt(6);
+            for (int j = 0; j < quantidadeNotas; j++) {
+                // Notas com uma casa decimal, como as digitadas no app (gera empates de média).
+                notas.add(random.nextInt(101) / 10.0);
+            }
+            List<Boolean> presenca = new ArrayList<>();
+            // Até 150 aulas, para cruzar as palavras de 64 bits da presença.
+            int aulas = random.nextInt(150);
+            for (int j = 0; j < aulas; j++) {
+                presenca.add(random.nextInt(10) < 8);
+            }
+            turma.add(new Estudante(i + 1, "Estudante " + i, 15 + random.nextInt(30),
+                    random.nextInt(10) == 0 ? null : notas, random.nextInt(10) == 0 ? null : presenca));
+        }
+        return turma;
+    }
+
+    // Verifica que o resumo é exatamente igual ao resultado dos métodos individuais.
+    private static void assertMesmoResultado(List<Estudante> turma) {
+        ResumoEstatisticas resumo = CalculoEstatisticas.calcularResumo(turma);
+
+        assertEquals(CalculoEstatisticas.calcularMediaGeral(turma), resumo.getMediaGeral(), 0.0);
+        assertEquals(CalculoEstatisticas.calcularMediaIdade(turma), resumo.getMediaIdade(), 0.0);
+        assertSame(CalculoEstatisticas.encontrarMaiorNota(turma), resumo.getMaiorNota());
+        assertSame(CalculoEstatisticas.encontrarMenorNota(turma), resumo.getMenorNota());
+        assertEquals(CalculoEstatisticas.getAprovados(turma), resumo.getAprovados());
+        assertEquals(CalculoEstatisticas.getReprovados(turma), resumo.getReprovados());
+        if (resumo.getMaiorNota() != null) {
+            assertEquals(resumo.getMaiorNota().calcularMedia(), resumo.getMediaMaiorNota(), 0.0);
+            assertEquals(resumo.getMenorNota().calcularMedia(), resumo.getMediaMenorNota(), 0.0);
+        }
+
+        // A fotografia em colunas chega exatamente aos mesmos valores.
+        TurmaColunar colunas = TurmaColunar.criar(turma);
+        ResumoEstatisticas colunar = CalculoEstatisticas.calcularResumo(colunas);
+        assertEquals(resumo.getQuantidade(), colunar.getQuantidade());
+        assertEquals(resumo.getMediaGeral(), colunar.getMediaGeral(), 0.0);
+        assertEquals(resumo.getMediaGeral(), CalculoEstatisticas.calcularMediaGeral(colunas), 0.0);
+        assertEquals(resumo.getMediaIdade(), colunar.getMediaIdade(), 0.0);
+        assertEquals(resumo.getMediaIdade(), CalculoEstatisticas.calcularMediaIdade(colunas), 0.0);
+        assertSame(resumo.getMaiorNota(), colunar.getMaiorNota());
+        assertSame(resumo.getMenorNota(), colunar.getMenorNota());
+        assertEquals(resumo.getMediaMaiorNota(), colunar.getMediaMaiorNota(), 0.0);
+        assertEquals(resumo.getMediaMenorNota(), colunar.getMediaMenorNota(), 0.0);
+        assertEquals(resumo.getAprovados(), colunar.getAprovados());
+        assertEquals(resumo.getReprovados(), colunar.getReprovados());
+        assertEquals(resumo.getDistribuicaoNotas().getVariancia(), colunar.getDistribuicaoNotas().getVariancia(), 0.0);
+        assertArrayEquals(resumo.getDistribuicaoPresenca().getHistograma(10),
+                colunar.getDistribuicaoPresenca().getHistograma(10));
+    }
+
+    @Test
+    public void turmasAleatorias_mesmoResultadoDosMetodosIndividuais() {
+        for (long semente = 1; semente <= 50; semente++) {
+            assertMesmoResultado(turmaAleatoria(semente, 1 + (int) (semente * 37 % 500)));
+        }
+    }
+
+    @Test
+    public void calculoParalelo_identicoAoSequencial() {
+        // Acima do limite, com um último bloco incompleto.
+        int tamanho = CalculoEstatisticas.LIMITE_PARALELO + 3 * CalculoEstatisticas.TAMANHO_BLOCO + 17;
+        TurmaColunar turma = TurmaColunar.criar(turmaAleatoria(99, tamanho));
+
+        ResumoEstatisticas sequencial = CalculoEstatisticas.calcularResumo(turma);
+        ResumoEstatisticas paralelo = CalculoEstatisticas.calcularResumoParalelo(turma);
+
+        // Comparação bit a bit das somas em double, não só aproximada.
+        assertEquals(Double.doubleToLongBits(sequencial.getMediaGeral()),
+                Double.doubleToLongBits(paralelo.getMediaGeral()));
+        assertEquals(Double.doubleToLongBits(sequencial.getMediaIdade()),
+                Double.doubleToLongBits(paralelo.getMediaIdade()));
+        assertSame(sequencial.getMaiorNota(), paralelo.getMaiorNota());
+        assertSame(sequencial.getMenorNota(), paralelo.getMenorNota());
+        assertEquals(sequencial.getAprovados(), paralelo.getAprovados());
+        assertEquals(sequencial.getReprovados(), paralelo.getReprovados());
+        assertEquals(sequencial.getQuantidade(), paralelo.getQuantidade());
+        assertEquals(Double.doubleToLongBits(sequencial.getDistribuicaoNotas().getVariancia()),
+                Double.doubleToLongBits(paralelo.getDistribuicaoNotas().getVariancia()));
+        assertEquals(Double.doubleToLongBits(sequencial.getDistribuicaoPresenca().getMediana()),
+                Double.doubleToLongBits(paralelo.getDistribuicaoPresenca().getMediana()));
+        assertArrayEquals(sequencial.getDistribuicaoNotas().getHistograma(10),
+                paralelo.getDistribuicaoNotas().getHistograma(10));
+    }
+
+    @Test
+    public void turmaVaziaOuNula_valoresPadrao() {
+        for (List<Estudante> turma : Arrays.asList(null, Collections.<Estudante>emptyList())) {
+            assertEquals(0, CalculoEstatisticas.calcularResumo(TurmaColunar.criar(turma)).getQuantidade());
+            ResumoEstatisticas resumo = CalculoEstatisticas.calcularResumo(turma);
+            assertEquals(0, resumo.getQuantidade());
+            assertEquals(0, resumo.getMediaGeral(), 0.0);
+            assertEquals(0, resumo.getMediaIdade(), 0.0);
+            assertNull(resumo.getMaiorNota());
+            assertNull(resumo.getMenorNota());
+            assertTrue(resumo.getAprovados().isEmpty());
+            assertTrue(resumo.getReprovados().isEmpty());
+        }
+    }
+
+    @Test
+    public void empates_ficamComOPrimeiroDaLista() {
+        List<Estudante> turma = Arrays.asList(
+                new Estudante(1, "A", 20, Arrays.asList(8.0), Arrays.asList(true)),
+                new Estudante(2, "B", 21, Arrays.asList(5.0), Arrays.asList(true)),
+                new Estudante(3, "C", 22, Arrays.asList(8.0), Arrays.asList(false)),
+                new Estudante(4, "D", 23, Arrays.asList(5.0), Arrays.asList(true)));
+
+        ResumoEstatisticas resumo = CalculoEstatisticas.calcularResumo(turma);
+
+        assertEquals(1, resumo.getMaiorNota().getId());
+        assertEquals(2, resumo.getMenorNota().getId());
+        assertMesmoResultado(turma);
+    }
+
+    @Test
+    public void mediaEPresenca_calculadasUmaVezPorEstudante() {
+        List<EstudanteContador> turma = new ArrayList<>();
+        for (Estudante estudante : turmaAleatoria(7, 200)) {
+            turma.add(new EstudanteContador(estudante));
+        }
+
+        CalculoEstatisticas.calcularResumo(new ArrayList<>(turma));
+
+        for (EstudanteContador estudante : turma) {
+            assertEquals(1, estudante.medias);
+            assertTrue(estudante.presencas <= 1);
+        }
+    }
+
+    // Estudante que conta quantas vezes a média e a presença foram calculadas.
+    private static class EstudanteContador extends Estudante {
+        int medias;
+        int presencas;
+
+        EstudanteContador(Estudante origem) {
+            super(origem.getId(), origem.getNome(), origem.getIdade(), origem.getNotas(), origem.getPresenca());
+        }
+
+        @Override
+        public double calcularMedia() {
+            medias++;
+            return super.calcularMedia();
+        }
+
+        @Override
+        public double calcularPercentualPresenca() {
+            presencas++;
+            return super.calcularPercentualPresenca();
+        }
+    }
+}
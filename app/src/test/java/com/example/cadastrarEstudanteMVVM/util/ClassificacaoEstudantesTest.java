@@ -0,0 +1,158 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes da classificação da turma (posição e K primeiros/últimos), comparada com a turma ordenada.
+ */
+public class ClassificacaoEstudantesTest {
+
+    // Ordem esperada: maior média, maior presença, menor ID.
+    private static final Comparator<Estudante> ORDEM = Comparator
+            .comparingDouble(Estudante::calcularMedia).reversed()
+            .thenComparing(Comparator.comparingDouble(Estudante::calcularPercentualPresenca).reversed())
+            .thenComparingInt(Estudante::getId);
+
+    private static Estudante estudante(int id, List<Double> notas, List<Boolean> presenca) {
+        return new Estudante(id, "Estudante " + id, 20, notas, presenca);
+    }
+
+    private static List<Integer> ids(List<Estudante> estudantes) {
+        List<Integer> ids = new ArrayList<>();
+        for (Estudante estudante : estudantes) {
+            ids.add(estudante.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    public void posicao_empatesFicamNaMesmaPosicao() {
+        ClassificacaoEstudantes classificacao = new ClassificacaoEstudantes();
+        classificacao.atualizar(estudante(1, Arrays.asList(8.0), Arrays.asList(true, true)));
+        classificacao.atualizar(estudante(2, Arrays.asList(9.0), Arrays.asList(true, false)));
+        classificacao.atualizar(estudante(3, Arrays.asList(8.0), Arrays.asList(true, true)));
+        classificacao.atualizar(estudante(4, Arrays.asList(8.0), Arrays.asList(true, false)));
+
+        assertEquals(1, classificacao.getPosicao(2));
+        assertEquals(2, classificacao.getPosicao(1));
+        assertEquals(2, classificacao.getPosicao(3));
+        assertEquals(4, classificacao.getPosicao(4));
+        assertEquals(0, classificacao.getPosicao(99));
+        assertEquals(Arrays.asList(2, 1, 3), ids(classificacao.getMelhores(3)));
+        assertEquals(Arrays.asList(4, 3), ids(classificacao.getPiores(2)));
+        assertEquals(4, classificacao.getMelhores(10).size());
+    }
+
+    @Test
+    public void alteracoesAleatorias_igualATurmaOrdenada() {
+        Random random = new Random(7);
+        ClassificacaoEstudantes classificacao = new ClassificacaoEstudantes();
+        Map<Integer, Estudante> turma = new HashMap<>();
+
+        for (int passo = 0; passo < 3000; passo++) {
+            int id = 1 + random.nextInt(300);
+            if (random.nextInt(10) == 0) {
+                turma.remove(id);
+                classificacao.remover(id);
+            } else {
+                // Notas inteiras de 0 a 10 e poucas aulas: muitos empates.
+                Estudante estudante = estudante(id,
+                        Arrays.asList((double) random.nextInt(11), (double) random.nextInt(11)),
+                        Arrays.asList(random.nextBoolean(), random.nextBoolean()));
+                turma.put(id, estudante);
+                classificacao.atualizar(estudante);
+            }
+        }
+
+        List<Estudante> ordenada = new ArrayList<>(turma.values());
+        ordenada.sort(ORDEM);
+        assertEquals(ordenada.size(), classificacao.getQuantidade());
+        assertEquals(ids(ordenada.subList(0, 10)), ids(classificacao.getMelhores(10)));
+        List<Estudante> ultimos = new ArrayList<>(ordenada.subList(ordenada.size() - 10, ordenada.size()));
+        Collections.reverse(ultimos);
+        assertEquals(ids(ultimos), ids(classificacao.getPiores(10)));
+        for (Estudante estudante : ordenada) {
+            // Posição esperada: 1 + quantos têm média (ou, na mesma média, presença) maior.
+            int melhores = 0;
+            for (Estudante outro : ordenada) {
+                if (melhor(outro, estudante)) melhores++;
+            }
+            assertEquals(melhores + 1, classificacao.getPosicao(estudante.getId()));
+        }
+
+        classificacao.manterSomente(ids(ordenada.subList(0, 5)));
+        assertEquals(5, classificacao.getQuantidade());
+        assertEquals(ids(ordenada.subList(0, 5)), ids(classificacao.getMelhores(10)));
+    }
+
+    private static boolean melhor(Estudante a, Estudante b) {
+        return a.calcularMedia() > b.calcularMedia() || a.calcularMedia() == b.calcularMedia()
+                && a.calcularPercentualPresenca() > b.calcularPercentualPresenca();
+    }
+
+    @Test
+    public void repositorio_reposicionaAoLancarNota() throws Exception {
+        try (ServidorLocalEstudantes servidor = new ServidorLocalEstudantes()) {
+            EstudantesRepository repository = new EstudantesRepository(servidor.getUrlBase());
+            Estudante ana = servidor.cadastrar("Ana", 20);
+            Estudante bia = servidor.cadastrar("Bia", 21);
+            servidor.alterar(ana.getId(), estudante -> estudante.getNotas().add(7.0));
+            servidor.alterar(bia.getId(), estudante -> estudante.getNotas().add(6.0));
+
+            repository.buscarTodosEstudantes();
+            assertEquals(2, repository.getTamanhoClassificacao());
+            assertEquals(2, repository.getPosicaoNaTurma(bia.getId()));
+
+            // Uma nota nova reposiciona só a Bia, sem recarregar a lista.
+            assertNotNull(repository.adicionarNota(bia.getId(), 10.0));
+            assertEquals(1, repository.getPosicaoNaTurma(bia.getId()));
+            assertEquals(Arrays.asList(bia.getId(), ana.getId()), ids(repository.buscarMelhores(5)));
+
+            assertTrue(repository.deletarEstudante(ana.getId()));
+            assertEquals(1, repository.getTamanhoClassificacao());
+        }
+    }
+
+    @Test
+    public void repositorio_listaSoComDadosBasicos_classificaDepoisDosDetalhes() throws Exception {
+        try (ServidorLocalEstudantes servidor = new ServidorLocalEstudantes()) {
+            servidor.setListaSoDadosBasicos(true);
+            EstudantesRepository repository = new EstudantesRepository(servidor.getUrlBase());
+            Estudante ana = servidor.cadastrar("Ana", 20);
+            Estudante bia = servidor.cadastrar("Bia", 21);
+            Estudante caio = servidor.cadastrar("Caio", 22);
+            servidor.alterar(ana.getId(), estudante -> estudante.getNotas().add(9.0));
+            servidor.alterar(bia.getId(), estudante -> estudante.getNotas().add(6.0));
+            servidor.alterar(caio.getId(), estudante -> estudante.getNotas().add(8.0));
+
+            // A lista sem notas não classifica ninguém.
+            repository.buscarTodosEstudantes();
+            assertEquals(0, repository.getTamanhoClassificacao());
+            assertFalse(repository.isClassificacaoCompleta());
+
+            // Só os detalhes da Bia: ela seria "1º de 1", então a classificação ainda não vale.
+            assertNotNull(repository.buscarDadosEstudante(bia.getId()));
+            assertEquals(1, repository.getPosicaoNaTurma(bia.getId()));
+            assertFalse(repository.isClassificacaoCompleta());
+
+            // Com os detalhes da turma inteira, a posição é a real.
+            repository.buscarCompletosAlterados(Collections.emptySet(), 4, 10_000);
+            assertTrue(repository.isClassificacaoCompleta());
+            assertEquals(3, repository.getPosicaoNaTurma(bia.getId()));
+            assertEquals(Arrays.asList(ana.getId(), caio.getId(), bia.getId()), ids(repository.buscarMelhores(5)));
+        }
+    }
+}
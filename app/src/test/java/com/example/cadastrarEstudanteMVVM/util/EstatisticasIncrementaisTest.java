@@ -0,0 +1,250 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes das estatísticas incrementais (comparadas com o cálculo completo da turma) e da busca
+ * incremental dos dados completos no repositório.
+ */
+public class EstatisticasIncrementaisTest {
+
+    private static Estudante estudante(Random random, int id) {
+        List<Double> notas = new ArrayList<>();
+        List<Boolean> presenca = new ArrayList<>();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            notas.add(random.nextInt(101) / 10.0);
+        }
+        for (int i = random.nextInt(6); i > 0; i--) {
+            presenca.add(random.nextInt(4) > 0);
+        }
+        return new Estudante(id, "Estudante " + id, 17 + random.nextInt(10), notas, presenca);
+    }
+
+    private static List<Integer> ids(List<Estudante> estudantes) {
+        List<Integer> ids = new ArrayList<>();
+        for (Estudante estudante : estudantes) {
+            ids.add(estudante.getId());
+        }
+        return ids;
+    }
+
+    // Aplica uma diferença às listas da tela, como o adapter da tela de estatísticas faz.
+    private static void aplicar(DiferencaSituacao diferenca, Map<Integer, Estudante> aprovados,
+                                Map<Integer, Estudante> reprovados) {
+        if (diferenca == null) return;
+        if (diferenca.isCompleta()) {
+            aprovados.clear();
+            reprovados.clear();
+        }
+        for (Integer id : diferenca.getRemovidos()) {
+            aprovados.remove(id);
+            reprovados.remove(id);
+        }
+        for (Estudante estudante : diferenca.getAprovados()) {
+            reprovados.remove(estudante.getId());
+            aprovados.put(estudante.getId(), estudante);
+        }
+        for (Estudante estudante : diferenca.getReprovados()) {
+            aprovados.remove(estudante.getId());
+            reprovados.put(estudante.getId(), estudante);
+        }
+    }
+
+    @Test
+    public void alteracoesAleatorias_igualAoCalculoCompleto() {
+        Random random = new Random(11);
+        Map<Integer, Estudante> turma = new TreeMap<>();
+        for (int id = 1; id <= 200; id++) {
+            turma.put(id, estudante(random, id));
+        }
+        // A classificação é mantida por fora, como o repositório faz a cada estudante recebido.
+        ClassificacaoEstudantes classificacao = new ClassificacaoEstudantes();
+        turma.values().forEach(classificacao::atualizar);
+        EstatisticasIncrementais estatisticas = new EstatisticasIncrementais(classificacao);
+        estatisticas.reconstruir(turma.values());
+
+        // Listas da tela: a primeira diferença traz a turma inteira, as seguintes só o que mudou.
+        Map<Integer, Estudante> aprovadosTela = new TreeMap<>();
+        Map<Integer, Estudante> reprovadosTela = new TreeMap<>();
+        DiferencaSituacao primeira = estatisticas.retirarDiferencaSituacao();
+        assertTrue(primeira.isCompleta());
+        aplicar(primeira, aprovadosTela, reprovadosTela);
+        assertNull(estatisticas.retirarDiferencaSituacao());
+
+        // Mais alterações que RECALCULO, para passar pelo recálculo completo no meio.
+        for (int passo = 0; passo < 1500; passo++) {
+            if (passo % 7 == 0) {
+                // A tela retira as mudanças de tempos em tempos; cada diferença só traz os alterados.
+                DiferencaSituacao diferenca = estatisticas.retirarDiferencaSituacao();
+                if (diferenca != null) {
+                    assertFalse(diferenca.isCompleta());
+                    assertTrue(diferenca.getAprovados().size() + diferenca.getReprovados().size()
+                            + diferenca.getRemovidos().size() <= 7);
+                }
+                aplicar(diferenca, aprovadosTela, reprovadosTela);
+            }
+            int id = 1 + random.nextInt(250);
+            if (random.nextInt(5) == 0) {
+                turma.remove(id);
+                classificacao.remover(id);
+                estatisticas.aplicar(Collections.emptyList(), Collections.singleton(id));
+            } else {
+                Estudante estudante = estudante(random, id);
+                turma.put(id, estudante);
+                classificacao.atualizar(estudante);
+                estatisticas.aplicar(Collections.singletonList(estudante), Collections.emptySet());
+            }
+        }
+
+        ResumoEstatisticas incremental = estatisticas.getResumo();
+        ResumoEstatisticas completo = CalculoEstatisticas.calcularResumo(new ArrayList<>(turma.values()));
+        assertEquals(completo.getQuantidade(), incremental.getQuantidade());
+        assertEquals(completo.getMediaGeral(), incremental.getMediaGeral(), 1e-9);
+        assertEquals(completo.getMediaIdade(), incremental.getMediaIdade(), 1e-9);
+        assertEquals(completo.getMediaMaiorNota(), incremental.getMediaMaiorNota(), 0);
+        assertEquals(completo.getMediaMenorNota(), incremental.getMediaMenorNota(), 0);
+        aplicar(estatisticas.retirarDiferencaSituacao(), aprovadosTela, reprovadosTela);
+        assertEquals(completo.getAprovados(), new ArrayList<>(aprovadosTela.values()));
+        assertEquals(completo.getReprovados(), new ArrayList<>(reprovadosTela.values()));
+
+        AcumuladorDistribuicao notasCompleto = completo.getDistribuicaoNotas();
+        AcumuladorDistribuicao notasIncremental = incremental.getDistribuicaoNotas();
+        assertEquals(notasCompleto.getDesvioPadrao(), notasIncremental.getDesvioPadrao(), 1e-9);
+        assertArrayEquals(notasCompleto.getHistograma(10), notasIncremental.getHistograma(10));
+        // Os percentis podem diferir até uma classe (0,05) depois de retirar o menor ou o maior valor.
+        assertEquals(notasCompleto.getMediana(), notasIncremental.getMediana(), 0.05);
+        assertEquals(completo.getDistribuicaoPresenca().getMedia(),
+                incremental.getDistribuicaoPresenca().getMedia(), 1e-9);
+    }
+
+    @Test
+    public void reconstruirTurmaGrande_igualAoCalculoCompleto() {
+        // Acima de LIMITE_PARALELO, para a reconstrução passar pelos blocos paralelos.
+        Random random = new Random(12);
+        List<Estudante> turma = new ArrayList<>();
+        for (int id = 1; id <= CalculoEstatisticas.LIMITE_PARALELO + 100; id++) {
+            turma.add(estudante(random, id));
+        }
+        ClassificacaoEstudantes classificacao = new ClassificacaoEstudantes();
+        turma.forEach(classificacao::atualizar);
+        EstatisticasIncrementais estatisticas = new EstatisticasIncrementais(classificacao);
+        estatisticas.reconstruir(turma);
+
+        ResumoEstatisticas incremental = estatisticas.getResumo();
+        ResumoEstatisticas completo = CalculoEstatisticas.calcularResumo(turma);
+        assertEquals(completo.getQuantidade(), incremental.getQuantidade());
+        assertEquals(completo.getMediaGeral(), incremental.getMediaGeral(), 1e-9);
+        assertEquals(completo.getMediaIdade(), incremental.getMediaIdade(), 1e-9);
+        assertEquals(completo.getMediaMaiorNota(), incremental.getMediaMaiorNota(), 0);
+        DiferencaSituacao diferenca = estatisticas.retirarDiferencaSituacao();
+        assertTrue(diferenca.isCompleta());
+        assertEquals(ids(completo.getAprovados()), ids(diferenca.getAprovados()));
+        assertEquals(ids(completo.getReprovados()), ids(diferenca.getReprovados()));
+        assertArrayEquals(completo.getDistribuicaoNotas().getHistograma(10),
+                incremental.getDistribuicaoNotas().getHistograma(10));
+    }
+
+    @Test
+    public void repositorio_turmaParcialNaoPassaPorTurmaInteira() throws Exception {
+        try (ServidorLocalEstudantes servidor = new ServidorLocalEstudantes()) {
+            EstudantesRepository repository = new EstudantesRepository(servidor.getUrlBase());
+            for (int i = 0; i < 5; i++) {
+                servidor.cadastrar("Estudante " + i, 20);
+            }
+
+            // Com um estudante falhando, o resultado em lote informa a falha e a versão simples não
+            // devolve a turma sem ele.
+            servidor.setFalhaEstudante(3, true);
+            ResultadoBuscaEmLote parcial = repository.buscarTodosEstudantesCompletos(2, 10_000);
+            assertFalse(parcial.isCompleto());
+            assertEquals(Collections.singleton(3), parcial.getFalhas().keySet());
+            assertEquals(4, parcial.getEstudantes().size());
+            assertNull(repository.buscarTodosEstudantesCompletos());
+
+            servidor.setFalhaEstudante(3, false);
+            assertEquals(5, repository.buscarTodosEstudantesCompletos().size());
+        }
+    }
+
+    @Test
+    public void repositorio_prazoEsgotadoViraFalha() throws Exception {
+        try (ServidorLocalEstudantes servidor = new ServidorLocalEstudantes()) {
+            EstudantesRepository repository = new EstudantesRepository(servidor.getUrlBase());
+            for (int i = 0; i < 6; i++) {
+                servidor.cadastrar("Estudante " + i, 20);
+            }
+
+            // Dois de cada vez, 500 ms cada e 700 ms de prazo: só os dois primeiros chegam a tempo.
+            servidor.setAtrasoEstudante(500);
+            long inicio = System.nanoTime();
+            ResultadoBuscaEmLote resultado = repository.buscarTodosEstudantesCompletos(2, 700);
+            long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+            assertEquals(2, resultado.getEstudantes().size());
+            assertEquals(Arrays.asList(3, 4, 5, 6), new ArrayList<>(resultado.getFalhas().keySet()));
+            assertEquals("Prazo esgotado", resultado.getFalhas().get(6));
+            assertTrue("Não respeitou o prazo: " + duracaoMs + " ms", duracaoMs < 3_000);
+
+            // O executor continua disponível para a próxima busca.
+            servidor.setAtrasoEstudante(0);
+            assertEquals(6, repository.buscarTodosEstudantesCompletos().size());
+        }
+    }
+
+    @Test
+    public void repositorio_buscaDetalhesSoDosAlterados() throws Exception {
+        try (ServidorLocalEstudantes servidor = new ServidorLocalEstudantes()) {
+            EstudantesRepository repository = new EstudantesRepository(servidor.getUrlBase());
+            for (int i = 0; i < 20; i++) {
+                servidor.cadastrar("Estudante " + i, 20);
+            }
+
+            ResultadoBuscaEmLote primeira = repository.buscarCompletosAlterados(Collections.emptySet(), 4, 10_000);
+            assertEquals(20, primeira.getAtualizados().size());
+            assertEquals(20, detalhesBuscados(servidor, 20));
+
+            // Nada mudou: nenhuma requisição de detalhes.
+            ResultadoBuscaEmLote parada = repository.buscarCompletosAlterados(Collections.emptySet(), 4, 10_000);
+            assertFalse(parada.isAlterado());
+            assertEquals(20, parada.getEstudantes().size());
+            assertEquals(20, detalhesBuscados(servidor, 20));
+
+            // Uma nota nova muda a entrada da lista: só esse estudante é buscado.
+            servidor.alterar(3, estudante -> estudante.getNotas().add(8.0));
+            ResultadoBuscaEmLote nota = repository.buscarCompletosAlterados(Collections.emptySet(), 4, 10_000);
+            assertEquals(Collections.singletonList(3), ids(nota.getAtualizados()));
+            assertEquals(21, detalhesBuscados(servidor, 20));
+
+            // Um ID informado pelo fluxo de alterações é conferido mesmo com a entrada igual.
+            ResultadoBuscaEmLote evento = repository.buscarCompletosAlterados(Arrays.asList(5), 4, 10_000);
+            assertTrue(evento.getAtualizados().isEmpty());
+            assertEquals(22, detalhesBuscados(servidor, 20));
+
+            assertTrue(repository.deletarEstudante(7));
+            ResultadoBuscaEmLote remocao = repository.buscarCompletosAlterados(Collections.emptySet(), 4, 10_000);
+            assertEquals(Collections.singleton(7), remocao.getRemovidos());
+            assertEquals(19, remocao.getEstudantes().size());
+            assertEquals(22, detalhesBuscados(servidor, 20));
+        }
+    }
+
+    // Total de GET /estudantes/{id} recebidos pelo servidor para os IDs de 1 a "quantidade".
+    private static int detalhesBuscados(ServidorLocalEstudantes servidor, int quantidade) {
+        int total = 0;
+        for (int id = 1; id <= quantidade; id++) {
+            total += servidor.getRequisicoes("GET /estudantes/" + id);
+        }
+        return total;
+    }
+}
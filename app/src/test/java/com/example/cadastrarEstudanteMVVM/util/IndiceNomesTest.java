@@ -0,0 +1,99 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes do índice de busca por nome.
+ */
+public class IndiceNomesTest {
+
+    private IndiceNomes indice;
+
+    @Before
+    public void iniciar() {
+        indice = new IndiceNomes();
+        indice.atualizar(Arrays.asList(
+                new Estudante(1, "Márcia Souza", 20),
+                new Estudante(2, "MARCOS Antônio", 21),
+                new Estudante(3, "João d'Ávila", 22),
+                new Estudante(4, "Ana Maria Marçal", 23),
+                new Estudante(5, "Luana Mendes", 24)));
+    }
+
+    // IDs dos resultados, na ordem retornada.
+    private List<Integer> ids(String consulta) {
+        List<Integer> ids = new ArrayList<>();
+        for (Estudante estudante : indice.buscar(consulta, 10)) {
+            ids.add(estudante.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    public void normalizar_removeAcentosEMaiusculas() {
+        assertEquals("joao d avila", IndiceNomes.normalizar("  JOÃO  d'Ávila "));
+        assertEquals("", IndiceNomes.normalizar(null));
+    }
+
+    @Test
+    public void prefixo_ignoraAcentosEMaiusculas_eVemAntesDosTrechos() {
+        // "mar" começa "marcal", "marcia", "marcos" e "maria" (ordem das palavras).
+        assertEquals(Arrays.asList(4, 1, 2), ids("MAR"));
+        assertEquals(Arrays.asList(3), ids("avi"));
+        // Termos curtos só valem pelo começo das palavras: "na" não acha "Ana" nem "Luana".
+        assertEquals(Arrays.asList(), ids("na"));
+        // Com três letras, o trecho no meio da palavra também conta (prefixos primeiro).
+        assertEquals(Arrays.asList(4, 5), ids("ana"));
+    }
+
+    @Test
+    public void variosTermos_todosPrecisamCorresponder() {
+        assertEquals(Arrays.asList(4), ids("ana mar"));
+        assertEquals(Arrays.asList(2), ids("ant marc"));
+        assertEquals(Arrays.asList(), ids("souza antonio"));
+        assertEquals(Arrays.asList(), ids("   "));
+    }
+
+    @Test
+    public void atualizar_reindexaSoOQueMudou() {
+        indice.atualizar(Arrays.asList(
+                new Estudante(1, "Márcia Souza", 20),
+                new Estudante(2, "Pedro Antônio", 21),
+                new Estudante(3, "João d'Ávila", 22),
+                new Estudante(5, "Luana Mendes", 24),
+                new Estudante(6, "Marta Rocha", 19)));
+
+        assertEquals(5, indice.getQuantidade());
+        assertEquals(Arrays.asList(1, 6), ids("mar"));
+        assertEquals(Arrays.asList(2), ids("pedro"));
+        assertEquals(Arrays.asList(5), ids("ana"));
+
+        indice.remover(6);
+        indice.adicionar(new Estudante(1, "Beatriz Souza", 20));
+        assertEquals(Arrays.asList(), ids("mar"));
+        assertEquals(Arrays.asList(1), ids("bea"));
+    }
+
+    @Test
+    public void limite_cortaOsResultados() {
+        List<Estudante> turma = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            turma.add(new Estudante(i, "Estudante " + i, 18));
+        }
+        indice.atualizar(turma);
+
+        assertEquals(1000, indice.getQuantidade());
+        assertEquals(25, indice.buscar("estud", 25).size());
+        // "999" é trecho de um único nome.
+        assertEquals(Arrays.asList(999), ids("999"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes do envio de lotes de lançamentos (chamada de uma turma) contra o servidor local.
+ */
+public class LancamentosLoteTest {
+
+    private static final int TAMANHO_TURMA = 40;
+
+    private ServidorLocalEstudantes servidor;
+    private EstudantesRepository repository;
+    private final List<Estudante> turma = new ArrayList<>();
+
+    @Before
+    public void iniciar() throws Exception {
+        servidor = new ServidorLocalEstudantes();
+        repository = new EstudantesRepository(servidor.getUrlBase());
+        for (int i = 0; i < TAMANHO_TURMA; i++) {
+            turma.add(servidor.cadastrar("Estudante " + i, 18 + i % 5));
+        }
+    }
+
+    @After
+    public void encerrar() throws Exception {
+        servidor.close();
+    }
+
+    // Chamada com presença para todos e uma nota para cada estudante.
+    private List<Lancamento> chamadaComNotas() {
+        List<Lancamento> lancamentos = new ArrayList<>();
+        for (int i = 0; i < turma.size(); i++) {
+            int id = turma.get(i).getId();
+            lancamentos.add(Lancamento.presenca(id, i % 4 != 0));
+            lancamentos.add(Lancamento.nota(id, i % 11));
+        }
+        return lancamentos;
+    }
+
+    @Test
+    public void chamadaDaTurma_vaiEmUmaRequisicao() {
+        AtomicInteger ultimoProgresso = new AtomicInteger();
+        List<Lancamento> lancamentos = chamadaComNotas();
+
+        ResultadoLancamentos resultado = repository.enviarLancamentos(lancamentos,
+                (concluidos, total) -> ultimoProgresso.set(concluidos));
+
+        assertTrue(resultado.toString(), resultado.isCompleto());
+        assertEquals(1, resultado.getRequisicoes());
+        assertEquals(1, servidor.getTotalRequisicoes());
+        assertEquals(lancamentos.size(), ultimoProgresso.get());
+        assertEquals(TAMANHO_TURMA, resultado.getAtualizados().size());
+        Estudante terceiro = servidor.getEstudante(turma.get(2).getId());
+        assertEquals(Arrays.asList(true), terceiro.getPresenca());
+        assertEquals(Arrays.asList(2.0), terceiro.getNotas());
+    }
+
+    @Test
+    public void servidorSemLote_enviaUmAUmEmParalelo() {
+        servidor.setLoteSuportado(false);
+        AtomicInteger ultimoProgresso = new AtomicInteger();
+        List<Lancamento> lancamentos = chamadaComNotas();
+
+        ResultadoLancamentos resultado = repository.enviarLancamentos(lancamentos, 8,
+                (concluidos, total) -> ultimoProgresso.accumulateAndGet(concluidos, Math::max));
+
+        assertTrue(resultado.toString(), resultado.isCompleto());
+        assertEquals(lancamentos.size(), ultimoProgresso.get());
+        for (Estudante estudante : turma) {
+            Estudante noServidor = servidor.getEstudante(estudante.getId());
+            assertEquals(1, noServidor.getPresenca().size());
+            assertEquals(1, noServidor.getNotas().size());
+        }
+        // Uma tentativa de lote e um POST por lançamento, sem GET nem PUT.
+        assertEquals(1 + lancamentos.size(), servidor.getTotalRequisicoes());
+    }
+
+    @Test
+    public void estudanteInexistente_falhaSomenteSeuLancamento() {
+        Lancamento inexistente = Lancamento.presenca(999, true);
+        Lancamento valido = Lancamento.presenca(turma.get(0).getId(), false);
+
+        ResultadoLancamentos resultado = repository.enviarLancamentos(Arrays.asList(inexistente, valido), null);
+
+        assertEquals(1, resultado.getQuantidadeSucessos());
+        assertNotNull(resultado.getFalha(inexistente));
+        assertNull(resultado.getFalha(valido));
+        assertEquals(Arrays.asList(false), servidor.getEstudante(turma.get(0).getId()).getPresenca());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes da lista paginada (janela de páginas em memória) contra o servidor local.
+ * As páginas são carregadas na própria thread do teste.
+ */
+public class ListaPaginadaTest {
+
+    private static final int TAMANHO_CADASTRO = 500;
+
+    private ServidorLocalEstudantes servidor;
+    private EstudantesRepository repository;
+    private ListaPaginada lista;
+    private final List<int[]> avisos = new ArrayList<>();
+
+    @Before
+    public void iniciar() throws Exception {
+        servidor = new ServidorLocalEstudantes();
+        repository = new EstudantesRepository(servidor.getUrlBase());
+        for (int i = 0; i < TAMANHO_CADASTRO; i++) {
+            servidor.cadastrar("Estudante " + i, 18 + i % 5);
+        }
+        lista = new ListaPaginada(repository::buscarPagina, Runnable::run);
+        lista.adicionarOuvinte((quantidade, inicio, alterados) -> avisos.add(new int[]{quantidade, inicio, alterados}));
+    }
+
+    @After
+    public void encerrar() throws Exception {
+        servidor.close();
+    }
+
+    @Test
+    public void iniciar_carregaSoAPrimeiraPagina() {
+        lista.iniciar();
+
+        assertEquals(ListaPaginada.TAMANHO_PAGINA, lista.getQuantidade());
+        assertTrue(lista.isTemMais());
+        assertEquals(1, lista.getPaginasEmMemoria());
+        assertEquals("Estudante 0", lista.get(0).getNome());
+        assertNull(lista.get(ListaPaginada.TAMANHO_PAGINA));
+        assertEquals(1, servidor.getRequisicoes("GET /estudantes/"));
+    }
+
+    @Test
+    public void acessarPertoDoFim_carregaAProximaPagina() {
+        lista.iniciar();
+
+        // Longe do fim: nada a carregar.
+        lista.acessar(10);
+        assertEquals(1, servidor.getRequisicoes("GET /estudantes/"));
+
+        lista.acessar(ListaPaginada.TAMANHO_PAGINA - ListaPaginada.DISTANCIA_PRE_CARGA);
+        assertEquals(2 * ListaPaginada.TAMANHO_PAGINA, lista.getQuantidade());
+        assertEquals("Estudante 60", lista.get(60).getNome());
+        assertEquals(2, servidor.getRequisicoes("GET /estudantes/"));
+    }
+
+    @Test
+    public void rolarAteOFim_mantemAJanelaLimitada() {
+        lista.iniciar();
+        for (int posicao = 0; lista.isTemMais() || posicao < lista.getQuantidade(); posicao++) {
+            lista.acessar(posicao);
+            assertTrue(lista.getPaginasEmMemoria() <= ListaPaginada.MAXIMO_PAGINAS);
+        }
+
+        assertEquals(TAMANHO_CADASTRO, lista.getQuantidade());
+        assertFalse(lista.isTemMais());
+        assertEquals("Estudante 499", lista.get(TAMANHO_CADASTRO - 1).getNome());
+        // As primeiras páginas foram descartadas e voltam a ser carregadas ao acessá-las de novo.
+        assertNull(lista.get(0));
+        lista.acessar(0);
+        assertEquals("Estudante 0", lista.get(0).getNome());
+        assertTrue(lista.getPaginasEmMemoria() <= ListaPaginada.MAXIMO_PAGINAS);
+    }
+
+    @Test
+    public void servidorSemPaginacao_recortaALista() {
+        servidor.setPaginacaoSuportada(false);
+        lista.iniciar();
+        lista.carregarMais();
+
+        assertEquals(2 * ListaPaginada.TAMANHO_PAGINA, lista.getQuantidade());
+        assertEquals("Estudante 50", lista.get(50).getNome());
+        assertTrue(lista.isTemMais());
+    }
+
+    @Test
+    public void atualizar_soAvisaQuandoMuda() {
+        lista.iniciar();
+        avisos.clear();
+
+        lista.atualizar();
+        assertTrue(avisos.isEmpty());
+
+        Estudante primeiro = lista.get(0);
+        servidor.alterar(primeiro.getId(), estudante -> estudante.setNome("Renomeado"));
+        lista.atualizar();
+        assertEquals(1, avisos.size());
+        assertEquals(0, avisos.get(0)[1]);
+        assertEquals("Renomeado", lista.get(0).getNome());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes da política de intervalos da consulta periódica (mudanças, falhas, fluxo, energia e jitter).
+ */
+public class PoliticaAtualizacaoTest {
+
+    private static final long BASE = 30_000;
+    private static final long MINIMO = 10_000;
+    private static final long MAXIMO = 300_000;
+    private static final long COM_EVENTOS = 600_000;
+
+    private static PoliticaAtualizacao politica() {
+        return new PoliticaAtualizacao(BASE, MINIMO, MAXIMO, COM_EVENTOS, new Random(3));
+    }
+
+    // Verifica se o intervalo sorteado está dentro do jitter em torno do esperado.
+    private static void assertIntervalo(long esperado, long intervalo) {
+        assertTrue(intervalo + " fora de " + esperado, Math.abs(intervalo - esperado) <= esperado * PoliticaAtualizacao.JITTER);
+    }
+
+    @Test
+    public void mudancas_encurtamOIntervaloAteOMinimo() {
+        PoliticaAtualizacao politica = politica();
+        assertIntervalo(BASE / 2, politica.registrarRodada(true, false));
+        assertEquals("dados mudando", politica.getMotivo());
+        assertIntervalo(MINIMO, politica.registrarRodada(true, false));
+        assertIntervalo(MINIMO, politica.registrarRodada(true, false));
+    }
+
+    @Test
+    public void semMudancasOuFalhas_recuaAteOMaximo() {
+        PoliticaAtualizacao politica = politica();
+        assertIntervalo((long) (BASE * PoliticaAtualizacao.FATOR_SEM_MUDANCAS), politica.registrarRodada(false, false));
+        for (int i = 0; i < 20; i++) {
+            politica.registrarRodada(false, false);
+        }
+        assertIntervalo(MAXIMO, politica.getIntervaloMs());
+        assertEquals("sem mudanças há 21 rodada(s)", politica.getMotivo());
+
+        // Uma mudança volta a encurtar o intervalo de imediato.
+        assertIntervalo(BASE / 2, politica.registrarRodada(true, false));
+
+        // Falhas seguidas dobram o intervalo.
+        assertIntervalo(2 * BASE, politica.registrarRodada(false, true));
+        assertIntervalo(4 * BASE, politica.registrarRodada(false, true));
+        assertEquals("2 falha(s) seguida(s)", politica.getMotivo());
+        for (int i = 0; i < 10; i++) {
+            politica.registrarRodada(false, true);
+        }
+        assertIntervalo(MAXIMO, politica.getIntervaloMs());
+    }
+
+    @Test
+    public void fluxoEEconomia_espacamAsRodadas() {
+        PoliticaAtualizacao politica = politica();
+        assertIntervalo(COM_EVENTOS, politica.setFluxoConectado(true));
+        assertTrue(politica.getMotivo().contains("fluxo de alterações conectado"));
+        assertIntervalo(BASE, politica.setFluxoConectado(false));
+
+        assertTrue(politica.setEconomiaEnergia(true));
+        assertFalse(politica.setEconomiaEnergia(true));
+        assertIntervalo(BASE * PoliticaAtualizacao.FATOR_ECONOMIA, politica.recalcular());
+        assertEquals("inicial + economia de energia", politica.getMotivo());
+    }
+
+    @Test
+    public void jitter_espalhaOsIntervalos() {
+        PoliticaAtualizacao politica = politica();
+        long menor = Long.MAX_VALUE;
+        long maior = 0;
+        for (int i = 0; i < 200; i++) {
+            long intervalo = politica.recalcular();
+            assertIntervalo(BASE, intervalo);
+            menor = Math.min(menor, intervalo);
+            maior = Math.max(maior, intervalo);
+        }
+        // Os sorteios cobrem boa parte da faixa permitida.
+        assertTrue(maior - menor > BASE * PoliticaAtualizacao.JITTER);
+    }
+}
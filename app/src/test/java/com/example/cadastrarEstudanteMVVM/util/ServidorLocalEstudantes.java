@@ -0,0 +1,582 @@
+package com.example.cadastrarEstudanteMVVM.util;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Servidor HTTP local que imita a API de estudantes, para testar o repositório sem o backend real.
+// Atende GET condicional (ETag/If-None-Match), POST, PUT e DELETE, e os acréscimos de nota e presença
+// (POST /estudantes/{id}/notas|presenca) com verificação de versão (If-Match, 412 em caso de conflito),
+// além do lote de lançamentos (POST /estudantes/lancamentos), da paginação da lista (?_start=&_limit=)
+// e do fluxo de alterações (GET /estudantes/eventos, Server-Sent Events com Last-Event-ID).
+// Usa sockets simples (HTTP/1.1 com keep-alive) para não depender de classes fora do android.jar.
+public class ServidorLocalEstudantes implements Closeable {
+
+    // Prefixo das rotas da API.
+    private static final String PREFIXO = "/estudantes/";
+
+    // Socket que aceita as conexões (somente na interface local, porta livre escolhida pelo sistema).
+    private final ServerSocket servidor;
+
+    // Threads que atendem as conexões.
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+
+    // Estudantes cadastrados, em ordem de cadastro (acessados com o monitor do servidor).
+    private final Map<Integer, Estudante> estudantes = new LinkedHashMap<>();
+
+    // Versão atual de cada estudante (incrementada a cada alteração).
+    private final Map<Integer, Long> versoes = new HashMap<>();
+
+    // Versão da lista (incrementada sempre que qualquer estudante muda).
+    private long versaoLista = 1;
+
+    // Próximo ID a ser atribuído.
+    private int proximoId = 1;
+
+    // Quando false, as rotas de acréscimo respondem 405 (como um servidor antigo).
+    private volatile boolean acrescimoSuportado = true;
+
+    // Quando false, a rota de lote responde 404 (como um servidor antigo).
+    private volatile boolean loteSuportado = true;
+
+    // Quando false, a listagem ignora _start e _limit e devolve a lista inteira (como um servidor antigo).
+    private volatile boolean paginacaoSuportada = true;
+
+    // Quando false, a rota de eventos responde 404 (como um servidor antigo).
+    private volatile boolean eventosSuportados = true;
+
+    // Quando true, a listagem devolve só os dados básicos (ID, nome e idade), sem notas nem presenças,
+    // como a API real; os dados completos ficam só em GET /estudantes/{id}.
+    private volatile boolean listaSoDadosBasicos;
+
+    // Quando true, todas as rotas (menos o fluxo de eventos) respondem 503 (servidor com problemas).
+    private volatile boolean foraDoAr;
+
+    // Atraso (em milissegundos) antes de responder os dados completos de um estudante (GET /estudantes/{id}).
+    private volatile long atrasoEstudanteMs;
+
+    // IDs cujos dados completos (GET /estudantes/{id}) respondem 503.
+    private final Set<Integer> estudantesComFalha = ConcurrentHashMap.newKeySet();
+
+    // Intervalo (em milissegundos) entre os comentários ": ping" enviados no fluxo sem eventos.
+    private volatile long intervaloPing = 15_000;
+
+    // Eventos de alteração, em ordem (o ID de cada evento é a posição + 1).
+    private final List<String[]> eventos = new ArrayList<>();
+
+    // Conexões com o fluxo de eventos abertas.
+    private final Set<Socket> conexoesEventos = ConcurrentHashMap.newKeySet();
+
+    // Quantidade de requisições recebidas por "MÉTODO /caminho" (sem os parâmetros).
+    private final Map<String, AtomicInteger> requisicoes = new ConcurrentHashMap<>();
+
+    // Construtor: inicia o servidor em uma porta livre.
+    public ServidorLocalEstudantes() throws IOException {
+        servidor = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        threads.execute(this::aceitar);
+    }
+
+    // URL base da API (com a barra final), no mesmo formato usado pelo repositório.
+    public String getUrlBase() {
+        return "http://127.0.0.1:" + servidor.getLocalPort() + PREFIXO;
+    }
+
+    // Cadastra um estudante diretamente no servidor e retorna uma cópia com o ID atribuído.
+    public synchronized Estudante cadastrar(String nome, int idade) {
+        Estudante estudante = new Estudante(proximoId++, nome, idade, new ArrayList<>(), new ArrayList<>());
+        estudantes.put(estudante.getId(), estudante);
+        versoes.put(estudante.getId(), 1L);
+        versaoLista++;
+        registrarEvento(EventoEstudante.CRIADO, estudante.getId());
+        return copiar(estudante);
+    }
+
+    // Altera um estudante diretamente no servidor (simula outro usuário escrevendo ao mesmo tempo).
+    public synchronized void alterar(int id, Consumer<Estudante> alteracao) {
+        Estudante estudante = estudantes.get(id);
+        if (estudante == null) throw new IllegalArgumentException("Estudante inexistente: " + id);
+        alteracao.accept(estudante);
+        novaVersao(id);
+    }
+
+    // Retorna uma cópia do estudante como está no servidor, ou null se não existir.
+    public synchronized Estudante getEstudante(int id) {
+        Estudante estudante = estudantes.get(id);
+        return estudante != null ? copiar(estudante) : null;
+    }
+
+    // Liga ou desliga as rotas de acréscimo.
+    public void setAcrescimoSuportado(boolean acrescimoSuportado) {
+        this.acrescimoSuportado = acrescimoSuportado;
+    }
+
+    // Liga ou desliga a rota de lote de lançamentos.
+    public void setLoteSuportado(boolean loteSuportado) {
+        this.loteSuportado = loteSuportado;
+    }
+
+    // Liga ou desliga a paginação da listagem.
+    public void setPaginacaoSuportada(boolean paginacaoSuportada) {
+        this.paginacaoSuportada = paginacaoSuportada;
+    }
+
+    // Liga ou desliga o fluxo de alterações.
+    public void setEventosSuportados(boolean eventosSuportados) {
+        this.eventosSuportados = eventosSuportados;
+    }
+
+    // Liga ou desliga a listagem só com os dados básicos.
+    public void setListaSoDadosBasicos(boolean listaSoDadosBasicos) {
+        this.listaSoDadosBasicos = listaSoDadosBasicos;
+    }
+
+    // Liga ou desliga as respostas 503.
+    public void setForaDoAr(boolean foraDoAr) {
+        this.foraDoAr = foraDoAr;
+    }
+
+    // Liga ou desliga as respostas 503 nos dados completos de um estudante.
+    public void setFalhaEstudante(int id, boolean falha) {
+        if (falha) estudantesComFalha.add(id);
+        else estudantesComFalha.remove(id);
+    }
+
+    // Altera o atraso das respostas com os dados completos de um estudante.
+    public void setAtrasoEstudante(long atrasoEstudanteMs) {
+        this.atrasoEstudanteMs = atrasoEstudanteMs;
+    }
+
+    // Altera o intervalo entre os comentários ": ping" do fluxo de alterações.
+    public void setIntervaloPing(long intervaloPing) {
+        this.intervaloPing = intervaloPing;
+    }
+
+    // Derruba as conexões abertas com o fluxo de alterações (simula uma queda de rede).
+    public void encerrarEventos() throws IOException {
+        for (Socket socket : conexoesEventos) {
+            socket.close();
+        }
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    // Quantidade de requisições recebidas para o método e caminho (ex.: "POST /estudantes/1/notas").
+    public int getRequisicoes(String metodoECaminho) {
+        AtomicInteger contador = requisicoes.get(metodoECaminho);
+        return contador != null ? contador.get() : 0;
+    }
+
+    // Quantidade total de requisições recebidas.
+    public int getTotalRequisicoes() {
+        int total = 0;
+        for (AtomicInteger contador : requisicoes.values()) {
+            total += contador.get();
+        }
+        return total;
+    }
+
+    // Encerra o servidor e as conexões abertas.
+    @Override
+    public void close() throws IOException {
+        servidor.close();
+        threads.shutdownNow();
+    }
+
+    // Aceita conexões até o servidor ser fechado.
+    private void aceitar() {
+        while (!servidor.isClosed()) {
+            try {
+                Socket socket = servidor.accept();
+                threads.execute(() -> atender(socket));
+            } catch (IOException e) {
+                // Servidor fechado.
+                return;
+            }
+        }
+    }
+
+    // Atende as requisições de uma conexão (várias, enquanto o cliente mantiver o keep-alive).
+    private void atender(Socket socket) {
+        try (Socket s = socket) {
+            InputStream in = new BufferedInputStream(s.getInputStream());
+            OutputStream out = s.getOutputStream();
+            while (true) {
+                String linha = lerLinha(in);
+                if (linha == null || linha.isEmpty()) return;
+                String[] partes = linha.split(" ");
+                Requisicao requisicao = new Requisicao(partes[0], partes[1]);
+
+                // Cabeçalhos (nomes em minúsculas).
+                String cabecalho;
+                while ((cabecalho = lerLinha(in)) != null && !cabecalho.isEmpty()) {
+                    int separador = cabecalho.indexOf(':');
+                    requisicao.cabecalhos.put(cabecalho.substring(0, separador).trim().toLowerCase(Locale.ROOT),
+                            cabecalho.substring(separador + 1).trim());
+                }
+
+                // Corpo (somente com Content-Length, que é o que o HttpURLConnection envia).
+                String tamanho = requisicao.cabecalhos.get("content-length");
+                byte[] corpo = new byte[tamanho != null ? Integer.parseInt(tamanho) : 0];
+                int lidos = 0;
+                while (lidos < corpo.length) {
+                    int n = in.read(corpo, lidos, corpo.length - lidos);
+                    if (n == -1) return;
+                    lidos += n;
+                }
+                requisicao.corpo = new String(corpo, StandardCharsets.UTF_8);
+
+                requisicoes.computeIfAbsent(requisicao.metodo + " " + requisicao.caminho,
+                        k -> new AtomicInteger()).incrementAndGet();
+                if ("GET".equals(requisicao.metodo) && (PREFIXO + "eventos").equals(requisicao.caminho)
+                        && eventosSuportados) {
+                    // O fluxo ocupa a conexão até ser encerrado.
+                    transmitirEventos(requisicao, s, out);
+                    return;
+                }
+                Resposta resposta = rotear(requisicao);
+                escrever(out, resposta);
+                if ("close".equalsIgnoreCase(requisicao.cabecalhos.get("connection"))) return;
+            }
+        } catch (IOException e) {
+            // Conexão encerrada pelo cliente.
+        }
+    }
+
+    // Direciona a requisição para a rota correspondente.
+    private Resposta rotear(Requisicao requisicao) {
+        if (!requisicao.caminho.startsWith(PREFIXO)) return new Resposta(404);
+        if (foraDoAr) return new Resposta(503);
+        String[] segmentos = requisicao.caminho.substring(PREFIXO.length()).split("/");
+        try {
+            if (segmentos.length == 1 && segmentos[0].isEmpty()) {
+                switch (requisicao.metodo) {
+                    case "GET": return listar(requisicao);
+                    case "POST": return criar(requisicao);
+                    default: return new Resposta(405);
+                }
+            }
+            if (segmentos.length == 1 && "lancamentos".equals(segmentos[0])) {
+                if (!loteSuportado || !"POST".equals(requisicao.metodo)) return new Resposta(404);
+                return lancarLote(requisicao);
+            }
+            if (segmentos.length == 1 && "eventos".equals(segmentos[0])) {
+                // Só chega aqui com o fluxo desligado ou com outro método.
+                return new Resposta(404);
+            }
+            int id = Integer.parseInt(segmentos[0]);
+            if (segmentos.length == 1) {
+                switch (requisicao.metodo) {
+                    case "GET":
+                        if (atrasoEstudanteMs > 0) Thread.sleep(atrasoEstudanteMs);
+                        return estudantesComFalha.contains(id) ? new Resposta(503) : buscar(requisicao, id);
+                    case "PUT": return substituir(requisicao, id);
+                    case "DELETE": return remover(id);
+                    default: return new Resposta(405);
+                }
+            }
+            if (segmentos.length == 2 && "POST".equals(requisicao.metodo)
+                    && ("notas".equals(segmentos[1]) || "presenca".equals(segmentos[1]))) {
+                if (!acrescimoSuportado) return new Resposta(405);
+                return acrescentar(requisicao, id, segmentos[1]);
+            }
+            return new Resposta(404);
+        } catch (RuntimeException e) {
+            return new Resposta(400);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Resposta(503);
+        }
+    }
+
+    // GET /estudantes/ (ou GET /estudantes/?_start=100&_limit=50 para uma página)
+    private synchronized Resposta listar(Requisicao requisicao) {
+        String etag = "\"l" + versaoLista + "\"";
+        if (etag.equals(requisicao.cabecalhos.get("if-none-match"))) return new Resposta(304).comEtag(etag);
+        List<Estudante> lista = new ArrayList<>(estudantes.values());
+        String inicio = requisicao.parametros.get("_start");
+        String limite = requisicao.parametros.get("_limit");
+        if (paginacaoSuportada && inicio != null && limite != null) {
+            int de = Math.min(Integer.parseInt(inicio), lista.size());
+            int ate = Math.min(de + Integer.parseInt(limite), lista.size());
+            lista = lista.subList(de, ate);
+        }
+        if (listaSoDadosBasicos) {
+            List<Estudante> basicos = new ArrayList<>();
+            for (Estudante estudante : lista) {
+                basicos.add(new Estudante(estudante.getId(), estudante.getNome(), estudante.getIdade()));
+            }
+            lista = basicos;
+        }
+        return new Resposta(200, ConversorJson.GSON.toJson(lista)).comEtag(etag);
+    }
+
+    // POST /estudantes/
+    private synchronized Resposta criar(Requisicao requisicao) {
+        Estudante estudante = ConversorJson.GSON.fromJson(requisicao.corpo, Estudante.class);
+        estudante.setId(proximoId++);
+        if (estudante.getNotas() == null) estudante.setNotas(new ArrayList<>());
+        if (estudante.getPresenca() == null) estudante.setPresenca(new ArrayList<>());
+        estudantes.put(estudante.getId(), estudante);
+        versoes.put(estudante.getId(), 1L);
+        versaoLista++;
+        registrarEvento(EventoEstudante.CRIADO, estudante.getId());
+        return new Resposta(201, ConversorJson.GSON.toJson(estudante)).comEtag(etag(estudante.getId()));
+    }
+
+    // GET /estudantes/{id}
+    private synchronized Resposta buscar(Requisicao requisicao, int id) {
+        Estudante estudante = estudantes.get(id);
+        if (estudante == null) return new Resposta(404);
+        String etag = etag(id);
+        if (etag.equals(requisicao.cabecalhos.get("if-none-match"))) return new Resposta(304).comEtag(etag);
+        return new Resposta(200, ConversorJson.GSON.toJson(estudante)).comEtag(etag);
+    }
+
+    // PUT /estudantes/{id}
+    private synchronized Resposta substituir(Requisicao requisicao, int id) {
+        if (!estudantes.containsKey(id)) return new Resposta(404);
+        Estudante estudante = ConversorJson.GSON.fromJson(requisicao.corpo, Estudante.class);
+        estudante.setId(id);
+        estudantes.put(id, estudante);
+        novaVersao(id);
+        return new Resposta(200, ConversorJson.GSON.toJson(estudante)).comEtag(etag(id));
+    }
+
+    // DELETE /estudantes/{id}
+    private synchronized Resposta remover(int id) {
+        if (estudantes.remove(id) == null) return new Resposta(404);
+        versoes.remove(id);
+        versaoLista++;
+        registrarEvento(EventoEstudante.REMOVIDO, id);
+        return new Resposta(200);
+    }
+
+    // POST /estudantes/{id}/notas ({"nota": 8.5}) ou /estudantes/{id}/presenca ({"presente": true})
+    private synchronized Resposta acrescentar(Requisicao requisicao, int id, String recurso) {
+        Estudante estudante = estudantes.get(id);
+        if (estudante == null) return new Resposta(404);
+
+        // Verificação de versão: se o cliente informou uma versão antiga, devolve a atual com 412.
+        String versao = requisicao.cabecalhos.get("if-match");
+        if (versao != null && !versao.equals(etag(id))) {
+            return new Resposta(412, ConversorJson.GSON.toJson(estudante)).comEtag(etag(id));
+        }
+
+        JsonObject delta = JsonParser.parseString(requisicao.corpo).getAsJsonObject();
+        if ("notas".equals(recurso)) {
+            estudante.getNotas().add(delta.get("nota").getAsDouble());
+        } else {
+            estudante.getPresenca().add(delta.get("presente").getAsBoolean());
+        }
+        novaVersao(id);
+        return new Resposta(200, ConversorJson.GSON.toJson(estudante)).comEtag(etag(id));
+    }
+
+    // POST /estudantes/lancamentos ([{"id": 1, "nota": 8.5}, {"id": 2, "presente": true}, ...])
+    // Responde um resultado por lançamento, na mesma ordem.
+    private synchronized Resposta lancarLote(Requisicao requisicao) {
+        JsonArray resultados = new JsonArray();
+        for (JsonElement elemento : JsonParser.parseString(requisicao.corpo).getAsJsonArray()) {
+            JsonObject lancamento = elemento.getAsJsonObject();
+            int id = lancamento.get("id").getAsInt();
+            JsonObject resultado = new JsonObject();
+            resultado.addProperty("id", id);
+            Estudante estudante = estudantes.get(id);
+            if (estudante == null) {
+                resultado.addProperty("codigo", 404);
+                resultado.addProperty("erro", "Estudante não encontrado");
+            } else {
+                if (lancamento.has("nota")) {
+                    estudante.getNotas().add(lancamento.get("nota").getAsDouble());
+                } else {
+                    estudante.getPresenca().add(lancamento.get("presente").getAsBoolean());
+                }
+                novaVersao(id);
+                resultado.addProperty("codigo", 200);
+                resultado.addProperty("etag", etag(id));
+                resultado.add("estudante", ConversorJson.GSON.toJsonTree(estudante));
+            }
+            resultados.add(resultado);
+        }
+        return new Resposta(200, resultados.toString());
+    }
+
+    // Incrementa a versão do estudante e da lista.
+    private void novaVersao(int id) {
+        versoes.merge(id, 1L, Long::sum);
+        versaoLista++;
+        registrarEvento(EventoEstudante.ALTERADO, id);
+    }
+
+    // Guarda o evento e acorda as conexões do fluxo de alterações (chamado com o monitor do servidor).
+    private void registrarEvento(String tipo, int id) {
+        eventos.add(new String[]{tipo, String.valueOf(id)});
+        notifyAll();
+    }
+
+    // GET /estudantes/eventos: envia os eventos posteriores ao Last-Event-ID (ou, sem ele, os que ocorrerem
+    // daqui em diante) e um ": ping" a cada intervalo sem eventos. Se o Last-Event-ID for de um histórico
+    // que o servidor não tem mais, envia "reiniciar" para o cliente buscar tudo de novo.
+    private void transmitirEventos(Requisicao requisicao, Socket socket, OutputStream out) throws IOException {
+        conexoesEventos.add(socket);
+        try {
+            out.write(("HTTP/1.1 200 OK\r\nContent-Type: text/event-stream\r\nCache-Control: no-cache\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            String ultimo = requisicao.cabecalhos.get("last-event-id");
+            int enviados;
+            synchronized (this) {
+                enviados = ultimo != null ? Integer.parseInt(ultimo) : eventos.size();
+            }
+            while (!socket.isClosed()) {
+                StringBuilder bloco = new StringBuilder();
+                synchronized (this) {
+                    if (enviados > eventos.size()) {
+                        bloco.append("event: ").append(EventoEstudante.REINICIAR).append("\n\n");
+                        enviados = eventos.size();
+                    } else if (enviados == eventos.size()) {
+                        wait(intervaloPing);
+                    }
+                    for (; enviados < eventos.size(); enviados++) {
+                        String[] evento = eventos.get(enviados);
+                        bloco.append("id: ").append(enviados + 1).append('\n')
+                                .append("event: ").append(evento[0]).append('\n')
+                                .append("data: {\"id\":").append(evento[1]).append("}\n\n");
+                    }
+                }
+                if (bloco.length() == 0) bloco.append(": ping\n\n");
+                out.write(bloco.toString().getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            // Servidor encerrado.
+        } finally {
+            conexoesEventos.remove(socket);
+        }
+    }
+
+    // ETag do estudante na versão atual.
+    private String etag(int id) {
+        return "\"" + id + "-" + versoes.get(id) + "\"";
+    }
+
+    // Cópia independente do estudante.
+    private static Estudante copiar(Estudante estudante) {
+        return new Estudante(estudante.getId(), estudante.getNome(), estudante.getIdade(),
+                new ArrayList<>(estudante.getNotas()), new ArrayList<>(estudante.getPresenca()));
+    }
+
+    // Lê uma linha terminada em CRLF (ou null no fim do fluxo).
+    private static String lerLinha(InputStream in) throws IOException {
+        ByteArrayOutputStream linha = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') break;
+            if (b != '\r') linha.write(b);
+        }
+        if (b == -1 && linha.size() == 0) return null;
+        return linha.toString(StandardCharsets.UTF_8.name());
+    }
+
+    // Escreve a resposta com Content-Length, mantendo a conexão aberta.
+    private static void escrever(OutputStream out, Resposta resposta) throws IOException {
+        byte[] corpo = resposta.corpo != null ? resposta.corpo.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        StringBuilder cabecalhos = new StringBuilder()
+                .append("HTTP/1.1 ").append(resposta.codigo).append(' ').append(motivo(resposta.codigo)).append("\r\n");
+        if (resposta.codigo != 304) {
+            cabecalhos.append("Content-Type: application/json; charset=utf-8\r\n")
+                    .append("Content-Length: ").append(corpo.length).append("\r\n");
+        }
+        if (resposta.etag != null) {
+            cabecalhos.append("ETag: ").append(resposta.etag).append("\r\n");
+        }
+        cabecalhos.append("\r\n");
+        out.write(cabecalhos.toString().getBytes(StandardCharsets.US_ASCII));
+        if (resposta.codigo != 304) out.write(corpo);
+        out.flush();
+    }
+
+    // Texto do código HTTP (apenas informativo).
+    private static String motivo(int codigo) {
+        switch (codigo) {
+            case 200: return "OK";
+            case 201: return "Created";
+            case 304: return "Not Modified";
+            case 400: return "Bad Request";
+            case 404: return "Not Found";
+            case 405: return "Method Not Allowed";
+            case 412: return "Precondition Failed";
+            case 503: return "Service Unavailable";
+            default: return "Status";
+        }
+    }
+
+    // Requisição recebida.
+    private static class Requisicao {
+        final String metodo;
+        final String caminho;
+        final Map<String, String> cabecalhos = new HashMap<>();
+        final Map<String, String> parametros = new HashMap<>();
+        String corpo;
+
+        // Separa o caminho dos parâmetros da URL (ex.: /estudantes/?_start=0&_limit=50).
+        Requisicao(String metodo, String alvo) {
+            this.metodo = metodo;
+            int interrogacao = alvo.indexOf('?');
+            this.caminho = interrogacao >= 0 ? alvo.substring(0, interrogacao) : alvo;
+            if (interrogacao >= 0) {
+                for (String parametro : alvo.substring(interrogacao + 1).split("&")) {
+                    int igual = parametro.indexOf('=');
+                    if (igual > 0) parametros.put(parametro.substring(0, igual), parametro.substring(igual + 1));
+                }
+            }
+        }
+    }
+
+    // Resposta a ser enviada.
+    private static class Resposta {
+        final int codigo;
+        final String corpo;
+        String etag;
+
+        Resposta(int codigo) {
+            this(codigo, null);
+        }
+
+        Resposta(int codigo, String corpo) {
+            this.codigo = codigo;
+            this.corpo = corpo;
+        }
+
+        Resposta comEtag(String etag) {
+            this.etag = etag;
+            return this;
+        }
+    }
+}
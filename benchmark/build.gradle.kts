@@ -0,0 +1,74 @@
+// Microbenchmarks (JMH) do modelo, das estatísticas, da leitura de JSON e da busca por nome, rodando na JVM.
+// O módulo compila direto os fontes do app que não dependem do Android (modelo e utilitários de
+// cálculo, JSON e conexão); android.util.Log é substituído por uma versão mínima em src/main/java.
+//
+// Uso: ./gradlew :benchmark:jmh
+// Filtrar: ./gradlew :benchmark:jmh -PjmhIncludes=CalculoEstatisticas
+// Resultado: benchmark/build/results/jmh/results.json (com o profiler "gc": bytes alocados por operação).
+// Memória retida por turma (notas/presença primitivas x formato anterior): ./gradlew :benchmark:memoria
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+sourceSets {
+    main {
+        java {
+            srcDir("../app/src/main/java")
+            include(
+                "android/util/**",
+                "com/example/cadastrarEstudanteMVVM/model/**",
+                "com/example/cadastrarEstudanteMVVM/util/AcumuladorDistribuicao.java",
+                "com/example/cadastrarEstudanteMVVM/util/CacheRespostas.java",
+                "com/example/cadastrarEstudanteMVVM/util/CalculoEstatisticas.java",
+                "com/example/cadastrarEstudanteMVVM/util/ConfiguracaoTls.java",
+                "com/example/cadastrarEstudanteMVVM/util/Conexao.java",
+                "com/example/cadastrarEstudanteMVVM/util/ConversorJson.java",
+                "com/example/cadastrarEstudanteMVVM/util/DiarioTypeAdapter.java",
+                "com/example/cadastrarEstudanteMVVM/util/EstudanteTypeAdapter.java",
+                "com/example/cadastrarEstudanteMVVM/util/EventoEstudante.java",
+                "com/example/cadastrarEstudanteMVVM/util/FabricaSocketsContadora.java",
+                "com/example/cadastrarEstudanteMVVM/util/FluxoEventos.java",
+                "com/example/cadastrarEstudanteMVVM/util/IndiceNomes.java",
+                "com/example/cadastrarEstudanteMVVM/util/RespostaHttp.java",
+                "com/example/cadastrarEstudanteMVVM/util/ResumoEstatisticas.java",
+                "com/example/cadastrarEstudanteMVVM/util/TurmaColunar.java"
+            )
+        }
+    }
+}
+
+dependencies {
+    implementation(libs.gson)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // Taxa de alocação (gc.alloc.rate e gc.alloc.rate.norm) ao lado do tempo de cada benchmark.
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    if (project.hasProperty("jmhIncludes")) {
+        includes.add(project.property("jmhIncludes").toString())
+    }
+}
+
+// Mede o heap retido por uma turma lida do JSON (MemoriaEstudantes); não passa pelo JMH.
+tasks.register<JavaExec>("memoria") {
+    group = "benchmark"
+    description = "Mede a memória retida por uma turma de estudantes (padrão: 50000)."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.cadastrarEstudanteMVVM.benchmark.MemoriaEstudantes")
+    // Coletor serial: o heap usado depois do System.gc() não depende de threads de coleta concorrentes.
+    jvmArgs("-XX:+UseSerialGC")
+    if (project.hasProperty("estudantes")) {
+        args(project.property("estudantes").toString())
+    }
+}
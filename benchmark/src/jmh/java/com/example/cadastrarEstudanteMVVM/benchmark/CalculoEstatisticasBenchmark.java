@@ -0,0 +1,112 @@
+package com.example.cadastrarEstudanteMVVM.benchmark;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.util.CalculoEstatisticas;
+import com.example.cadastrarEstudanteMVVM.util.ResumoEstatisticas;
+import com.example.cadastrarEstudanteMVVM.util.TurmaColunar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Todos os métodos de CalculoEstatisticas, sobre a lista de estudantes e sobre a fotografia em colunas.
+// Nos métodos sobre a lista, a média e a presença já ficam guardadas em cada Estudante depois da
+// primeira chamada; resumoListaRecalculado descarta esses valores antes de cada chamada (custo de
+// uma volta pela lista incluído na medição).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CalculoEstatisticasBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int tamanho;
+
+    @Param({"4", "10"})
+    public int notasPorEstudante;
+
+    private List<Estudante> turma;
+    private TurmaColunar colunas;
+
+    @Setup
+    public void preparar() {
+        turma = Turmas.gerar(tamanho, notasPorEstudante);
+        colunas = TurmaColunar.criar(turma);
+    }
+
+    @Benchmark
+    public ResumoEstatisticas resumoLista() {
+        return CalculoEstatisticas.calcularResumo(turma);
+    }
+
+    @Benchmark
+    public ResumoEstatisticas resumoListaRecalculado() {
+        for (Estudante estudante : turma) {
+            List<Double> notas = estudante.getNotas();
+            notas.set(0, notas.get(0));
+        }
+        return CalculoEstatisticas.calcularResumo(turma);
+    }
+
+    @Benchmark
+    public ResumoEstatisticas resumoColunar() {
+        return CalculoEstatisticas.calcularResumo(colunas);
+    }
+
+    @Benchmark
+    public ResumoEstatisticas resumoColunarParalelo() {
+        return CalculoEstatisticas.calcularResumoParalelo(colunas);
+    }
+
+    @Benchmark
+    public TurmaColunar criarTurmaColunar() {
+        return TurmaColunar.criar(turma);
+    }
+
+    @Benchmark
+    public double mediaGeral() {
+        return CalculoEstatisticas.calcularMediaGeral(turma);
+    }
+
+    @Benchmark
+    public double mediaGeralColunar() {
+        return CalculoEstatisticas.calcularMediaGeral(colunas);
+    }
+
+    @Benchmark
+    public Estudante maiorNota() {
+        return CalculoEstatisticas.encontrarMaiorNota(turma);
+    }
+
+    @Benchmark
+    public Estudante menorNota() {
+        return CalculoEstatisticas.encontrarMenorNota(turma);
+    }
+
+    @Benchmark
+    public double mediaIdade() {
+        return CalculoEstatisticas.calcularMediaIdade(turma);
+    }
+
+    @Benchmark
+    public double mediaIdadeColunar() {
+        return CalculoEstatisticas.calcularMediaIdade(colunas);
+    }
+
+    @Benchmark
+    public List<Estudante> aprovados() {
+        return CalculoEstatisticas.getAprovados(turma);
+    }
+
+    @Benchmark
+    public List<Estudante> reprovados() {
+        return CalculoEstatisticas.getReprovados(turma);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.cadastrarEstudanteMVVM.benchmark;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Média, presença e situação de um estudante. Os métodos "Recalculado" alteram uma nota antes de
+// chamar o cálculo, para medir o cálculo em si e não o valor já guardado no Estudante.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EstudanteBenchmark {
+
+    @Param({"4", "10", "40"})
+    public int notasPorEstudante;
+
+    private Estudante estudante;
+    private List<Double> notas;
+    private double nota;
+
+    @Setup
+    public void preparar() {
+        estudante = Turmas.gerar(1, notasPorEstudante).get(0);
+        notas = estudante.getNotas();
+        nota = notas.get(0);
+    }
+
+    @Benchmark
+    public double calcularMedia() {
+        return estudante.calcularMedia();
+    }
+
+    @Benchmark
+    public double calcularPercentualPresenca() {
+        return estudante.calcularPercentualPresenca();
+    }
+
+    @Benchmark
+    public String verificarSituacao() {
+        return estudante.verificarSituacao();
+    }
+
+    @Benchmark
+    public double calcularMediaRecalculado() {
+        notas.set(0, nota);
+        return estudante.calcularMedia();
+    }
+
+    @Benchmark
+    public double calcularPercentualPresencaRecalculado() {
+        notas.set(0, nota);
+        return estudante.calcularPercentualPresenca();
+    }
+
+    @Benchmark
+    public String verificarSituacaoRecalculado() {
+        notas.set(0, nota);
+        return estudante.verificarSituacao();
+    }
+}
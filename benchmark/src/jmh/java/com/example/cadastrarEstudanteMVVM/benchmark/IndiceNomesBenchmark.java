@@ -0,0 +1,88 @@
+package com.example.cadastrarEstudanteMVVM.benchmark;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.util.IndiceNomes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Busca por nome no índice e, para comparação, a busca linear com String.contains que seria feita
+// a cada tecla sem o índice. "sincronizar" mede uma rodada de atualização com 1% dos nomes alterados.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndiceNomesBenchmark {
+
+    private static final String[] PRENOMES = {"Ana", "João", "Maria", "José", "Márcia", "Luís", "Júlia",
+            "Pedro", "Beatriz", "Antônio", "Luana", "Marcos", "Fernanda", "Gabriel", "Letícia", "Raí"};
+    private static final String[] SOBRENOMES = {"Silva", "Souza", "Oliveira", "Conceição", "Araújo",
+            "Gonçalves", "Ávila", "Mendes", "Marçal", "Rocha", "Lima", "Barbosa", "Nóbrega", "Simões"};
+
+    @Param({"1000", "50000"})
+    public int tamanho;
+
+    @Param({"ma", "marc", "souza", "conceicao ana", "ncal"})
+    public String consulta;
+
+    private List<Estudante> turma;
+    private List<Estudante> alterada;
+    private IndiceNomes indice;
+
+    @Setup
+    public void preparar() {
+        Random random = new Random(42);
+        turma = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            turma.add(new Estudante(i + 1, nome(random), 18));
+        }
+        alterada = new ArrayList<>(turma);
+        for (int i = 0; i < tamanho / 100; i++) {
+            int posicao = random.nextInt(tamanho);
+            alterada.set(posicao, new Estudante(posicao + 1, nome(random), 18));
+        }
+        indice = new IndiceNomes();
+        indice.atualizar(turma);
+    }
+
+    private static String nome(Random random) {
+        return PRENOMES[random.nextInt(PRENOMES.length)] + " "
+                + SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " "
+                + SOBRENOMES[random.nextInt(SOBRENOMES.length)];
+    }
+
+    @Benchmark
+    public List<Estudante> buscar() {
+        return indice.buscar(consulta, 100);
+    }
+
+    @Benchmark
+    public List<Estudante> buscarLinear() {
+        String normalizada = IndiceNomes.normalizar(consulta);
+        List<Estudante> resultado = new ArrayList<>();
+        for (Estudante estudante : turma) {
+            if (IndiceNomes.normalizar(estudante.getNome()).contains(normalizada)) {
+                resultado.add(estudante);
+                if (resultado.size() == 100) break;
+            }
+        }
+        return resultado;
+    }
+
+    @Benchmark
+    public IndiceNomes sincronizar() {
+        indice.atualizar(alterada);
+        indice.atualizar(turma);
+        return indice;
+    }
+}
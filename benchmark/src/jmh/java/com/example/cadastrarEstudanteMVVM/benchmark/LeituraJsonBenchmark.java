@@ -0,0 +1,80 @@
+package com.example.cadastrarEstudanteMVVM.benchmark;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.util.Conexao;
+import com.example.cadastrarEstudanteMVVM.util.ConversorJson;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Leitura da lista de estudantes a partir dos bytes de uma resposta, como o EstudantesRepository faz
+// (em fluxo, estudante por estudante), comparada com o Gson lendo a lista inteira e com a conversão
+// do corpo em String pela Conexao.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LeituraJsonBenchmark {
+
+    // Tipo da lista para o Gson.
+    private static final Type TIPO_LISTA = new TypeToken<List<Estudante>>() {}.getType();
+
+    @Param({"100", "10000", "100000"})
+    public int tamanho;
+
+    @Param({"4", "10"})
+    public int notasPorEstudante;
+
+    private byte[] corpo;
+    private final Conexao conexao = new Conexao();
+
+    @Setup
+    public void preparar() {
+        corpo = Turmas.json(Turmas.gerar(tamanho, notasPorEstudante));
+    }
+
+    // Mesmo caminho de EstudantesRepository.lerLista.
+    @Benchmark
+    public List<Estudante> lerListaEmFluxo() throws IOException {
+        List<Estudante> lista = new ArrayList<>();
+        JsonReader reader = new JsonReader(Conexao.criarLeitor(new ByteArrayInputStream(corpo)));
+        reader.beginArray();
+        while (reader.hasNext()) {
+            lista.add(ConversorJson.lerEstudante(reader));
+        }
+        reader.endArray();
+        return lista;
+    }
+
+    @Benchmark
+    public List<Estudante> lerListaGson() throws IOException {
+        try (Reader reader = Conexao.criarLeitor(new ByteArrayInputStream(corpo))) {
+            return ConversorJson.GSON.fromJson(reader, TIPO_LISTA);
+        }
+    }
+
+    @Benchmark
+    public String converter() {
+        return conexao.converter(new ByteArrayInputStream(corpo));
+    }
+
+    @Benchmark
+    public String converterComTamanho() {
+        return conexao.converter(new ByteArrayInputStream(corpo), corpo.length);
+    }
+}
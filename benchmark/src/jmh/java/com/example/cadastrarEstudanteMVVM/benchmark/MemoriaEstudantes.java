@@ -0,0 +1,152 @@
+package com.example.cadastrarEstudanteMVVM.benchmark;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.util.ConversorJson;
+import com.google.gson.stream.JsonReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Memória retida por uma turma lida do JSON da API, com as notas e presenças em double[] e bits
+// (ListaNotas/ListaPresenca) e, para comparação, no formato anterior: ArrayList<Double> e
+// ArrayList<Boolean> dentro de um invólucro que avisa o estudante (ListaMonitorada, removida).
+// Não é um @Benchmark: o JMH mede tempo e alocação, não o que fica no heap. A medida é o heap usado
+// depois de coletas completas com a turma viva, menos o heap usado antes de montá-la.
+//
+// Uso: ./gradlew :benchmark:memoria (SerialGC, para o heap usado ser estável depois do System.gc())
+// Outros tamanhos: ./gradlew :benchmark:memoria -Pestudantes=100000
+public final class MemoriaEstudantes {
+
+    // Quantidade padrão de estudantes da turma.
+    private static final int ESTUDANTES = 50_000;
+
+    // Combinações medidas: notas e aulas por estudante.
+    private static final int[][] CENARIOS = {{4, 40}, {10, 80}};
+
+    private MemoriaEstudantes() {}
+
+    public static void main(String[] args) throws Exception {
+        int estudantes = args.length > 0 ? Integer.parseInt(args[0]) : ESTUDANTES;
+        System.out.printf("%d estudantes, heap retido após GC (%s %s)%n", estudantes,
+                System.getProperty("java.vm.name"), System.getProperty("java.version"));
+        for (int[] cenario : CENARIOS) {
+            byte[] json = Turmas.json(Turmas.gerar(estudantes, cenario[0], cenario[1]));
+            // Uma rodada de aquecimento de cada formato, para as classes e o JIT não entrarem na medida.
+            lerTurma(json);
+            lerTurmaAntiga(json);
+
+            long antigo = medir(() -> lerTurmaAntiga(json));
+            long novo = medir(() -> lerTurma(json));
+            System.out.printf("  %2d notas / %2d aulas: antigo %.1f MB (%d B/estudante) -> novo %.1f MB (%d B/estudante)%n",
+                    cenario[0], cenario[1], antigo / 1e6, antigo / estudantes, novo / 1e6, novo / estudantes);
+        }
+    }
+
+    // Montagem medida (pode lançar IOException da leitura do JSON).
+    private interface Montagem {
+        Object montar() throws IOException;
+    }
+
+    // Heap retido pelo resultado da montagem, em bytes.
+    private static long medir(Montagem montagem) throws Exception {
+        long antes = heapUsado();
+        Object turma = montagem.montar();
+        long depois = heapUsado();
+        // Mantém a turma viva até a segunda medida.
+        Reference.reachabilityFence(turma);
+        return depois - antes;
+    }
+
+    // Heap usado depois de coletas completas (até o valor parar de cair).
+    private static long heapUsado() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long anterior = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(50);
+            long usado = runtime.totalMemory() - runtime.freeMemory();
+            if (usado >= anterior) return usado;
+            anterior = usado;
+        }
+        return anterior;
+    }
+
+    // Lê a turma como o EstudantesRepository (estudante por estudante, com o EstudanteTypeAdapter).
+    private static List<Estudante> lerTurma(byte[] json) throws IOException {
+        List<Estudante> turma = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(json),
+                StandardCharsets.UTF_8))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                turma.add(ConversorJson.lerEstudante(reader));
+            }
+            reader.endArray();
+        }
+        return turma;
+    }
+
+    // Lê a turma e a converte para o formato anterior (uma Double por nota, uma referência por aula).
+    private static List<EstudanteAntigo> lerTurmaAntiga(byte[] json) throws IOException {
+        List<EstudanteAntigo> turma = new ArrayList<>();
+        for (Estudante estudante : lerTurma(json)) {
+            List<Double> notas = new ArrayList<>(estudante.getNotas().size());
+            for (int i = 0; i < estudante.getNotas().size(); i++) {
+                notas.add(Double.valueOf(estudante.getNotas().get(i)));
+            }
+            List<Boolean> presenca = new ArrayList<>(estudante.getPresenca());
+            turma.add(new EstudanteAntigo(estudante.getId(), estudante.getNome(), estudante.getIdade(),
+                    notas, presenca));
+        }
+        return turma;
+    }
+
+    // Mesmos campos do Estudante antes das listas primitivas.
+    @SuppressWarnings("unused")
+    private static final class EstudanteAntigo {
+        private final int id;
+        private final String nome;
+        private final int idade;
+        private final List<Double> notas;
+        private final List<Boolean> presenca;
+        private volatile Object metricas;
+        private volatile int versao;
+
+        EstudanteAntigo(int id, String nome, int idade, List<Double> notas, List<Boolean> presenca) {
+            this.id = id;
+            this.nome = nome;
+            this.idade = idade;
+            this.notas = new ListaAntiga<>(notas, this);
+            this.presenca = new ListaAntiga<>(presenca, this);
+        }
+    }
+
+    // Mesmo layout da ListaMonitorada: cópia em ArrayList mais a referência ao estudante.
+    private static final class ListaAntiga<E> extends AbstractList<E> implements RandomAccess {
+        private final ArrayList<E> elementos;
+        @SuppressWarnings("unused")
+        private final EstudanteAntigo dono;
+
+        ListaAntiga(Collection<? extends E> origem, EstudanteAntigo dono) {
+            this.elementos = new ArrayList<>(origem);
+            this.dono = dono;
+        }
+
+        @Override
+        public E get(int index) {
+            return elementos.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elementos.size();
+        }
+    }
+}
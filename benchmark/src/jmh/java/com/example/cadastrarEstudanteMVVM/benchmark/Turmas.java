@@ -0,0 +1,61 @@
+package com.example.cadastrarEstudanteMVVM.benchmark;
+
+import com.example.cadastrarEstudanteMVVM.model.Estudante;
+import com.example.cadastrarEstudanteMVVM.util.ConversorJson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Turmas sintéticas usadas pelos benchmarks (sempre as mesmas para a mesma semente).
+final class Turmas {
+
+    // Quantidade de aulas registradas por estudante.
+    static final int AULAS = 80;
+
+    private Turmas() {}
+
+    // Gera uma turma com a quantidade de estudantes e de notas por estudante indicadas.
+    static List<Estudante> gerar(int tamanho, int notasPorEstudante) {
+        return gerar(tamanho, notasPorEstudante, AULAS);
+    }
+
+    // Igual a gerar(int, int), com a quantidade de aulas por estudante indicada.
+    static List<Estudante> gerar(int tamanho, int notasPorEstudante, int aulas) {
+        Random random = new Random(42);
+        List<Estudante> turma = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            List<Double> notas = new ArrayList<>(notasPorEstudante);
+            for (int j = 0; j < notasPorEstudante; j++) {
+                notas.add(random.nextInt(101) / 10.0);
+            }
+            List<Boolean> presenca = new ArrayList<>(aulas);
+            for (int j = 0; j < aulas; j++) {
+                presenca.add(random.nextInt(5) != 0);
+            }
+            turma.add(new Estudante(i + 1, "Estudante " + (i + 1), 15 + random.nextInt(30), notas, presenca));
+        }
+        return turma;
+    }
+
+    // Serializa a turma como o array JSON devolvido pela API (UTF-8).
+    static byte[] json(List<Estudante> turma) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(saida, StandardCharsets.UTF_8)) {
+            writer.write('[');
+            for (int i = 0; i < turma.size(); i++) {
+                if (i > 0) writer.write(',');
+                ConversorJson.escreverEstudante(writer, turma.get(i));
+            }
+            writer.write(']');
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return saida.toByteArray();
+    }
+}
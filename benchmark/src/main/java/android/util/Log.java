@@ -0,0 +1,34 @@
+package android.util;
+
+// Versão mínima de android.util.Log para rodar os fontes do app na JVM (somente nos benchmarks).
+// As mensagens de erro vão para System.err; as demais são descartadas.
+public final class Log {
+
+    private Log() {}
+
+    public static int d(String tag, String msg) {
+        return 0;
+    }
+
+    public static int i(String tag, String msg) {
+        return 0;
+    }
+
+    public static int w(String tag, String msg) {
+        return 0;
+    }
+
+    public static int w(String tag, String msg, Throwable tr) {
+        return 0;
+    }
+
+    public static int e(String tag, String msg) {
+        System.err.println(tag + ": " + msg);
+        return 0;
+    }
+
+    public static int e(String tag, String msg, Throwable tr) {
+        System.err.println(tag + ": " + msg + " " + tr);
+        return 0;
+    }
+}